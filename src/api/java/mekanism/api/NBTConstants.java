@@ -167,6 +167,8 @@ public final class NBTConstants {
     public static final String PULL = "pull";
     public static final String PULSE = "pulse";
     public static final String SKIN = "skin";
+    public static final String QIO_DRIVE_ID = "qioDriveId";
+    public static final String QIO_DRIVE_OWNER = "qioDriveOwner";
     public static final String QIO_ITEM_MAP = "qioItemMap";
     public static final String QIO_META_COUNT = "qioMetaCount";
     public static final String QIO_META_TYPES = "qioMetaTypes";
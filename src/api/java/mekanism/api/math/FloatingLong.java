@@ -11,14 +11,14 @@ import net.minecraft.network.FriendlyByteBuf;
 
 /**
  * A class representing a positive number with an internal value defined by an unsigned long, and a floating point number stored in a short
+ *
+ * @see FloatingLongAccumulator for performing multiple operations in a row without creating intermediary objects.
  */
 @NothingNullByDefault
 public class FloatingLong extends Number implements Comparable<FloatingLong> {
 
     private static final DecimalFormat df = new DecimalFormat("0.0000", DecimalFormatSymbols.getInstance(Locale.ENGLISH));
 
-    //TODO: Eventually we should define a way of doing a set of operations all at once, and outputting a new value
-    // given that way we can internally do all the calculations using primitives rather than spamming a lot of objects
     /**
      * The maximum number of decimal digits we can represent
      */
@@ -0,0 +1,433 @@
+package mekanism.api.math;
+
+import mekanism.api.annotations.NothingNullByDefault;
+
+/**
+ * A mutable accumulator for performing a sequence of {@link FloatingLong} operations using primitives, rather than creating intermediary {@link FloatingLong} objects
+ * along the way. Each operation produces the same result, including clamping and rounding, as the {@link FloatingLong} operation of the same name would, and the final
+ * result only needs to be materialized once via {@link #toFloatingLong()}.
+ *
+ * @since 10.3.7
+ */
+@NothingNullByDefault
+public final class FloatingLongAccumulator {
+
+    private static final short MAX_DECIMAL = 9_999;
+    private static final short SINGLE_UNIT = MAX_DECIMAL + 1;
+    private static final long MAX_LONG_SHIFT = Long.divideUnsigned(Long.divideUnsigned(-1L, SINGLE_UNIT), SINGLE_UNIT);
+
+    /**
+     * Unsigned whole number portion
+     */
+    private long value;
+    /**
+     * Decimal portion, this is kept in the range [0, {@link #MAX_DECIMAL}] between operations
+     */
+    private short decimal;
+    /**
+     * Lazily initialized accumulator used to calculate the intermediary result of fused operations.
+     */
+    private FloatingLongAccumulator scratch;
+
+    /**
+     * Creates an accumulator with a starting value of zero.
+     */
+    public FloatingLongAccumulator() {
+    }
+
+    /**
+     * Creates an accumulator with a starting value of the given {@link FloatingLong}.
+     */
+    public FloatingLongAccumulator(FloatingLong initial) {
+        set(initial);
+    }
+
+    /**
+     * @return the unsigned long representing the whole number value of this accumulator
+     */
+    public long getValue() {
+        return value;
+    }
+
+    /**
+     * @return the short representing the decimal value of this accumulator
+     */
+    public short getDecimal() {
+        return decimal;
+    }
+
+    /**
+     * Checks if this accumulator is zero.
+     */
+    public boolean isZero() {
+        return value == 0 && decimal <= 0;
+    }
+
+    /**
+     * Sets the value of this accumulator, clamping the decimal to the range [0, {@link #MAX_DECIMAL}] in the same way {@link FloatingLong#create(long, short)} does.
+     */
+    public FloatingLongAccumulator set(long value, short decimal) {
+        this.value = value;
+        this.decimal = clampDecimal(decimal);
+        return this;
+    }
+
+    public FloatingLongAccumulator set(FloatingLong other) {
+        this.value = other.getValue();
+        this.decimal = other.getDecimal();
+        return this;
+    }
+
+    public FloatingLongAccumulator set(FloatingLongAccumulator other) {
+        this.value = other.value;
+        this.decimal = other.decimal;
+        return this;
+    }
+
+    public FloatingLongAccumulator setZero() {
+        value = 0;
+        decimal = 0;
+        return this;
+    }
+
+    private FloatingLongAccumulator setMax() {
+        value = -1;
+        decimal = MAX_DECIMAL;
+        return this;
+    }
+
+    /**
+     * Creates a new mutable {@link FloatingLong} with the current value of this accumulator.
+     */
+    public FloatingLong toFloatingLong() {
+        return FloatingLong.create(value, decimal);
+    }
+
+    /**
+     * @see FloatingLong#plusEqual(FloatingLong)
+     */
+    public FloatingLongAccumulator plusEqual(FloatingLong toAdd) {
+        return plusEqual(toAdd.getValue(), toAdd.getDecimal());
+    }
+
+    /**
+     * @see FloatingLong#plusEqual(FloatingLong)
+     */
+    public FloatingLongAccumulator plusEqual(FloatingLongAccumulator toAdd) {
+        return plusEqual(toAdd.value, toAdd.decimal);
+    }
+
+    /**
+     * @see FloatingLong#plusEqual(long)
+     */
+    public FloatingLongAccumulator plusEqual(long toAdd) {
+        if (toAdd == 0) {
+            return this;
+        } else if (willAdditionOverflow(toAdd)) {
+            return setMax();
+        }
+        return set(value + toAdd, decimal);
+    }
+
+    private FloatingLongAccumulator plusEqual(long toAddValue, short toAddDecimal) {
+        if (toAddDecimal == 0) {
+            return plusEqual(toAddValue);
+        } else if (willAdditionOverflow(toAddValue)) {
+            return setMax();
+        }
+        long newValue = value + toAddValue;
+        short newDecimal = (short) (decimal + toAddDecimal);
+        if (newDecimal > MAX_DECIMAL) {
+            if (newValue == -1) {
+                newDecimal = MAX_DECIMAL;
+            } else {
+                newDecimal -= SINGLE_UNIT;
+                newValue++;
+            }
+        }
+        return set(newValue, newDecimal);
+    }
+
+    private boolean willAdditionOverflow(long toAddValue) {
+        return (value < 0 && toAddValue < 0) || ((value < 0 || toAddValue < 0) && (value + toAddValue >= 0));
+    }
+
+    /**
+     * @see FloatingLong#minusEqual(FloatingLong)
+     */
+    public FloatingLongAccumulator minusEqual(FloatingLong toSubtract) {
+        return minusEqual(toSubtract.getValue(), toSubtract.getDecimal());
+    }
+
+    /**
+     * @see FloatingLong#minusEqual(FloatingLong)
+     */
+    public FloatingLongAccumulator minusEqual(FloatingLongAccumulator toSubtract) {
+        return minusEqual(toSubtract.value, toSubtract.decimal);
+    }
+
+    /**
+     * @see FloatingLong#minusEqual(long)
+     */
+    public FloatingLongAccumulator minusEqual(long toSubtract) {
+        if (toSubtract == 0 || isZero()) {
+            return this;
+        }
+        long comparison = Long.compareUnsigned(value, toSubtract);
+        if (comparison < 0 || comparison == 0 && decimal == 0) {
+            //Clamp the result at zero as floating longs cannot become negative
+            return setZero();
+        }
+        return set(value - toSubtract, decimal);
+    }
+
+    private FloatingLongAccumulator minusEqual(long toSubtractValue, short toSubtractDecimal) {
+        if (toSubtractValue == 0 && toSubtractDecimal <= 0 || isZero()) {
+            return this;
+        } else if (compareTo(toSubtractValue, toSubtractDecimal) <= 0) {
+            //Clamp the result at zero as floating longs cannot become negative
+            return setZero();
+        }
+        long newValue = value - toSubtractValue;
+        short newDecimal = (short) (decimal - toSubtractDecimal);
+        if (newDecimal < 0) {
+            newDecimal += SINGLE_UNIT;
+            newValue--;
+        }
+        return set(newValue, newDecimal);
+    }
+
+    /**
+     * @see FloatingLong#timesEqual(FloatingLong)
+     */
+    public FloatingLongAccumulator timesEqual(FloatingLong toMultiply) {
+        long toMultiplyValue = toMultiply.getValue();
+        short toMultiplyDecimal = toMultiply.getDecimal();
+        if (isZero() || toMultiplyValue == 1 && toMultiplyDecimal == 0) {
+            return this;
+        } else if (toMultiply.isZero()) {
+            return setZero();
+        } else if (isOne()) {
+            return set(toMultiplyValue, toMultiplyDecimal);
+        } else if (multiplyLongsWillOverFlow(value, toMultiplyValue)) {
+            return setMax();
+        }
+        //(a+b)*(c+d) where letters represent the value, and the decimal respectively
+        long a = value;
+        short b = decimal;
+        setLongAndDecimalMultiplication(a, toMultiplyDecimal);//a * d
+        plusEqual(multiplyLongs(a, toMultiplyValue));//a * c
+        addLongAndDecimalMultiplication(toMultiplyValue, b);//b * c
+        plusEqual(0, multiplyDecimals(b, toMultiplyDecimal));//b * d
+        decimal = clampDecimal(decimal);
+        return this;
+    }
+
+    /**
+     * @see FloatingLong#timesEqual(long)
+     */
+    public FloatingLongAccumulator timesEqual(long toMultiply) {
+        if (toMultiply == 1 || isZero()) {
+            return this;
+        } else if (toMultiply == 0) {
+            return setZero();
+        } else if (isOne()) {
+            return set(toMultiply, (short) 0);
+        } else if (multiplyLongsWillOverFlow(value, toMultiply)) {
+            return setMax();
+        }
+        long a = value;
+        setLongAndDecimalMultiplication(toMultiply, decimal);//b * c
+        plusEqual(multiplyLongs(a, toMultiply));//a * c
+        decimal = clampDecimal(decimal);
+        return this;
+    }
+
+    /**
+     * @throws ArithmeticException if {@code toDivide} is zero.
+     * @see FloatingLong#divideEquals(FloatingLong)
+     */
+    public FloatingLongAccumulator divideEquals(FloatingLong toDivide) {
+        if (toDivide.isZero()) {
+            throw new ArithmeticException("Division by zero");
+        } else if (isZero() || toDivide.equals(FloatingLong.ONE)) {
+            return this;
+        } else if (toDivide.getDecimal() == 0) {
+            return divideEquals(toDivide.getValue());
+        }
+        //Dividing by a value that has a decimal requires arbitrary precision, so just let FloatingLong handle it
+        return set(toFloatingLong().divideEquals(toDivide));
+    }
+
+    /**
+     * @throws ArithmeticException if {@code toDivide} is zero.
+     * @see FloatingLong#divideEquals(long)
+     */
+    public FloatingLongAccumulator divideEquals(long toDivide) {
+        if (toDivide == 0) {
+            throw new ArithmeticException("Division by zero");
+        } else if (isZero() || toDivide == 1) {
+            return this;
+        }
+        long val = Long.divideUnsigned(value, toDivide);
+        long rem = Long.remainderUnsigned(value, toDivide);
+        long dec;
+        if (Long.compareUnsigned(rem, MAX_LONG_SHIFT / 10) >= 0) {
+            dec = Long.divideUnsigned(rem, Long.divideUnsigned(toDivide, SINGLE_UNIT * 10L));
+        } else {
+            dec = Long.divideUnsigned(rem * SINGLE_UNIT * 10L, toDivide);
+            dec += Long.divideUnsigned(decimal * 10L, toDivide);
+        }
+        //Round to the nearest, carrying over to the value if necessary
+        if (Long.remainderUnsigned(dec, 10) >= 5) {
+            dec += 10;
+            if (dec >= SINGLE_UNIT * 10) {
+                val++;
+                dec -= SINGLE_UNIT * 10;
+            }
+        }
+        dec /= 10;
+        return set(val, (short) dec);
+    }
+
+    /**
+     * Adds the product of the given values to this accumulator. This is equivalent to {@code plusEqual(a.multiply(b))} except that no intermediary objects are created.
+     */
+    public FloatingLongAccumulator addProduct(FloatingLong a, FloatingLong b) {
+        return plusEqual(scratch().set(a).timesEqual(b));
+    }
+
+    /**
+     * Adds the product of the given values to this accumulator. This is equivalent to {@code plusEqual(a.multiply(b))} except that no intermediary objects are created.
+     */
+    public FloatingLongAccumulator addProduct(FloatingLong a, long b) {
+        return plusEqual(scratch().set(a).timesEqual(b));
+    }
+
+    /**
+     * Subtracts the product of the given values from this accumulator. This is equivalent to {@code minusEqual(a.multiply(b))} except that no intermediary objects are
+     * created.
+     */
+    public FloatingLongAccumulator subtractProduct(FloatingLong a, FloatingLong b) {
+        return minusEqual(scratch().set(a).timesEqual(b));
+    }
+
+    /**
+     * Adds the quotient of the given values to this accumulator. This is equivalent to {@code plusEqual(a.divide(b))} except that no intermediary objects are created.
+     *
+     * @throws ArithmeticException if {@code b} is zero.
+     */
+    public FloatingLongAccumulator addQuotient(FloatingLong a, long b) {
+        return plusEqual(scratch().set(a).divideEquals(b));
+    }
+
+    private FloatingLongAccumulator scratch() {
+        if (scratch == null) {
+            scratch = new FloatingLongAccumulator();
+        }
+        return scratch;
+    }
+
+    /**
+     * @see FloatingLong#compareTo(FloatingLong)
+     */
+    public int compareTo(FloatingLong toCompare) {
+        return compareTo(toCompare.getValue(), toCompare.getDecimal());
+    }
+
+    /**
+     * @see FloatingLong#compareTo(FloatingLong)
+     */
+    public int compareTo(FloatingLongAccumulator toCompare) {
+        return compareTo(toCompare.value, toCompare.decimal);
+    }
+
+    private int compareTo(long otherValue, short otherDecimal) {
+        int valueCompare = Long.compareUnsigned(value, otherValue);
+        if (valueCompare == 0) {
+            return Short.compare(decimal, otherDecimal);
+        }
+        return valueCompare;
+    }
+
+    /**
+     * Checks if this accumulator currently has the same value as the given {@link FloatingLong}.
+     */
+    public boolean valueEquals(FloatingLong other) {
+        return value == other.getValue() && decimal == other.getDecimal();
+    }
+
+    /**
+     * Checks if this accumulator currently has the same value as the given accumulator.
+     */
+    public boolean valueEquals(FloatingLongAccumulator other) {
+        return value == other.value && decimal == other.decimal;
+    }
+
+    @Override
+    public String toString() {
+        return toFloatingLong().toString();
+    }
+
+    private boolean isOne() {
+        return value == 1 && decimal == 0;
+    }
+
+    /**
+     * Sets this accumulator to the result of multiplying a long by a decimal.
+     *
+     * @implNote Mirrors FloatingLong#multiplyLongAndDecimal, including that the decimal is not clamped when it is not necessary.
+     */
+    private void setLongAndDecimalMultiplication(long value, short decimal) {
+        if (value == 0 || decimal == 0) {
+            setZero();
+        } else if (Long.compareUnsigned(value, Long.divideUnsigned(-1, SINGLE_UNIT)) > 0) {
+            set(Long.divideUnsigned(value, SINGLE_UNIT) * decimal, (short) (value % SINGLE_UNIT * decimal));
+        } else {
+            this.value = Long.divideUnsigned(value * decimal, SINGLE_UNIT);
+            this.decimal = (short) (value * decimal % SINGLE_UNIT);
+        }
+    }
+
+    /**
+     * Adds the result of multiplying a long by a decimal to this accumulator.
+     *
+     * @implNote Mirrors FloatingLong#addLongAndDecimalMultiplication
+     */
+    private void addLongAndDecimalMultiplication(long value, short decimal) {
+        if (value != 0 && decimal != 0) {
+            if (Long.compareUnsigned(value, Long.divideUnsigned(-1, SINGLE_UNIT)) > 0) {
+                plusEqual(Long.divideUnsigned(value, SINGLE_UNIT) * decimal, clampDecimal((short) (value % SINGLE_UNIT * decimal)));
+            } else {
+                plusEqual(Long.divideUnsigned(value * decimal, SINGLE_UNIT), (short) (value * decimal % SINGLE_UNIT));
+            }
+        }
+    }
+
+    private static boolean multiplyLongsWillOverFlow(long a, long b) {
+        return (a != 0 && b != 0 && Long.compareUnsigned(b, Long.divideUnsigned(-1, a)) > 0);
+    }
+
+    private static long multiplyLongs(long a, long b) {
+        if (a == 0 || b == 0) {
+            return 0;
+        } else if (multiplyLongsWillOverFlow(a, b)) {
+            return -1;
+        }
+        return a * b;
+    }
+
+    private static short multiplyDecimals(short a, short b) {
+        long temp = (long) a * (long) b / SINGLE_UNIT;
+        return clampDecimal((short) temp);
+    }
+
+    private static short clampDecimal(short decimal) {
+        if (decimal < 0) {
+            return 0;
+        } else if (decimal > MAX_DECIMAL) {
+            return MAX_DECIMAL;
+        }
+        return decimal;
+    }
+}
@@ -119,6 +119,14 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
      */
     private IntConsumer operatingTicksChanged = ticks -> {
     };
+    /**
+     * Number of operations that were performed the last time this {@link CachedRecipe} was processed.
+     */
+    private int lastOperations;
+    /**
+     * Tracker that gets reset and reused each time this {@link CachedRecipe} is processed so that processing doesn't have to allocate a new one every tick.
+     */
+    private final OperationTracker tracker = new OperationTracker();
 
     /**
      * @param recipe           Recipe.
@@ -263,8 +271,9 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
     private void updateErrors(Set<RecipeError> errors) {
         //Validate the errors actually changed as they potentially are just the same ones we found last go around
         if (!this.errors.equals(errors)) {
-            this.errors = errors;
-            onErrorsChange.accept(errors);
+            //Copy the errors as the set may be the tracker's reusable set, which will be cleared the next time we process
+            this.errors = errors.isEmpty() ? Collections.emptySet() : new ObjectArraySet<>(errors);
+            onErrorsChange.accept(this.errors);
         }
     }
 
@@ -288,7 +297,7 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
         int operations;
         if (canHolderFunction.getAsBoolean()) {
             setupVariableValues();
-            OperationTracker tracker = new OperationTracker(errors, recheckAllErrors.getAsBoolean(), baselineMaxOperations.getAsInt());
+            tracker.reset(errors, recheckAllErrors.getAsBoolean(), baselineMaxOperations.getAsInt());
             calculateOperationsThisTick(tracker);
             if (tracker.shouldContinueChecking()) {
                 postProcessOperations.accept(tracker);
@@ -310,6 +319,7 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
                 updateErrors(Collections.emptySet());
             }
         }
+        lastOperations = operations;
         if (operations > 0) {
             setActive.accept(true);
             //Always use energy, as that is a constant thing we can check
@@ -347,6 +357,16 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
     protected void setupVariableValues() {
     }
 
+    /**
+     * Gets the number of operations that were performed the last time {@link #process()} was called. This allows holders to know when processing is blocked and can
+     * be skipped until something that may unblock it changes.
+     *
+     * @return Number of operations performed, a value of zero or less means that no processing happened.
+     */
+    public int getLastOperations() {
+        return lastOperations;
+    }
+
     /**
      * @return Gets the current number of operating ticks that have happened so far.
      */
@@ -462,11 +482,16 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
         /**
          * Set of all the errors from when the {@link CachedRecipe} last calculated the complete set of errors.
          */
-        private final Set<RecipeError> lastErrors;
+        private Set<RecipeError> lastErrors = Collections.emptySet();
         /**
          * Set of errors that the {@link CachedRecipe} has run into so far while calculating how many operations it can perform at once.
          */
         private Set<RecipeError> errors = Collections.emptySet();
+        /**
+         * Set that gets cleared and reused for {@link #errors} when the first error is added, so that adding errors doesn't allocate a new set each time the
+         * {@link CachedRecipe} is processed.
+         */
+        private final Set<RecipeError> reusableErrors = new ObjectArraySet<>();
         /**
          * Used to determine if this tracker should try and check for all existing errors ({@code true}) or short circuit as soon as it knows no processing can be done.
          */
@@ -486,14 +511,22 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
          */
         private int maxForEnergy;
 
+        private OperationTracker() {
+        }
+
         /**
+         * Resets this tracker so that it can be reused for processing the {@link CachedRecipe} again.
+         *
          * @param lastErrors  Set of the last errors the {@link CachedRecipe} had.
          * @param checkAll    {@code true} if this tracker should try and check for all existing errors.
          * @param startingMax Starting maximum number of operations that the {@link CachedRecipe} can perform this tick.
          */
-        private OperationTracker(Set<RecipeError> lastErrors, boolean checkAll, int startingMax) {
+        private void reset(Set<RecipeError> lastErrors, boolean checkAll, int startingMax) {
             this.lastErrors = lastErrors;
+            this.errors = Collections.emptySet();
+            this.reusableErrors.clear();
             this.checkAll = checkAll;
+            this.checkedErrors = true;
             this.currentMax = startingMax;
             this.maxForEnergy = currentMax;
         }
@@ -613,9 +646,9 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
         public void addError(RecipeError error) {
             Objects.requireNonNull(error, "Error cannot be null.");
             if (errors.isEmpty()) {
-                //If our set of errors is empty, then it is the default empty set, and we need to initialize it
+                //If our set of errors is empty, then it is the default empty set, and we need to switch to our reusable set
                 // Note: As we expect to have a small number of errors, we use an array set as it should be more efficient
-                errors = new ObjectArraySet<>();
+                errors = reusableErrors;
             }
             //Add the error to our known errors
             if (errors.add(error)) {
@@ -0,0 +1,118 @@
+package mekanism.common.content.network;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import mekanism.common.Mekanism;
+import mekanism.common.content.network.transmitter.ThermodynamicConductor;
+import mekanism.common.lib.transmitter.ConnectionType;
+import mekanism.common.registries.MekanismBlocks;
+import mekanism.common.tile.transmitter.TileEntityTransmitter;
+import mekanism.common.util.EnumUtils;
+import mekanism.common.util.test.GameTestUtils;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraftforge.gametest.GameTestHolder;
+import net.minecraftforge.gametest.PrefixGameTestTemplate;
+
+@PrefixGameTestTemplate(false)
+@GameTestHolder(Mekanism.MODID)
+public class HeatNetworkTest {
+
+    private static final String BASE_PATH = "transmitter/";
+    //Note: We make all the tests in this class have a base setup time of 5 ticks to make sure everything has had a chance to load properly
+    private static final int SETUP_TICKS = 5;
+    private static final double EPSILON = 1e-9;
+
+    /**
+     * Checks that the solver notices when a side of one of its conductors gets disconnected, and that it then matches simulating each conductor serially.
+     */
+    @GameTest(template = BASE_PATH + "straight_3c_cable", setupTicks = SETUP_TICKS, batch = "heat1")
+    public static void solverMatchesSerialWithDisconnectedSide(GameTestHelper helper) {
+        List<BlockPos> positions = new ArrayList<>();
+        GameTestUtils.succeedIfSequence(helper, sequence -> sequence
+              .thenExecute(() -> {
+                  //Replace the cables of the template with conductors
+                  helper.forEveryBlockInStructure(relativePos -> {
+                      if (GameTestUtils.getBlockEntity(helper, TileEntityTransmitter.class, relativePos) != null) {
+                          positions.add(relativePos.immutable());
+                      }
+                  });
+                  for (BlockPos relativePos : positions) {
+                      helper.setBlock(relativePos, MekanismBlocks.BASIC_THERMODYNAMIC_CONDUCTOR.getBlock());
+                  }
+              })
+              //Wait 5 ticks to ensure the network has time to form
+              .thenIdle(5)
+              .thenExecute(() -> {
+                  Set<ThermodynamicConductor> conductors = new LinkedHashSet<>();
+                  for (BlockPos relativePos : positions) {
+                      TileEntityTransmitter tile = GameTestUtils.getBlockEntity(helper, TileEntityTransmitter.class, relativePos);
+                      if (tile == null || !(tile.getTransmitter() instanceof ThermodynamicConductor conductor)) {
+                          helper.fail("Expected conductor", relativePos);
+                          return;
+                      }
+                      conductors.add(conductor);
+                  }
+                  //Give each conductor a different temperature so that heat flows between them
+                  int index = 0;
+                  for (ThermodynamicConductor conductor : conductors) {
+                      conductor.buffer.setHeat(conductor.buffer.getHeatCapacity() * (400 + 500 * index++));
+                  }
+                  HeatNetworkSolver solver = new HeatNetworkSolver(conductors);
+                  disconnectAdjacent(helper, positions);
+                  if (!solver.connectionsChanged()) {
+                      helper.fail("Solver did not detect the disconnected side", positions.get(0));
+                  }
+                  double[] heats = conductors.stream().mapToDouble(conductor -> conductor.buffer.getHeat()).toArray();
+                  //Simulate the conductors serially like they were simulated before the solver
+                  for (ThermodynamicConductor conductor : conductors) {
+                      conductor.simulate();
+                  }
+                  for (ThermodynamicConductor conductor : conductors) {
+                      conductor.updateHeatCapacitors(null);
+                  }
+                  double[] expected = conductors.stream().mapToDouble(conductor -> conductor.buffer.getHeat()).toArray();
+                  //Reset the heat and then run the rebuilt solver
+                  index = 0;
+                  for (ThermodynamicConductor conductor : conductors) {
+                      conductor.buffer.setHeat(heats[index++]);
+                  }
+                  new HeatNetworkSolver(conductors).solve();
+                  index = 0;
+                  for (ThermodynamicConductor conductor : conductors) {
+                      double actual = conductor.buffer.getHeat();
+                      if (Math.abs(actual - expected[index]) > EPSILON * Math.max(1, Math.abs(expected[index]))) {
+                          helper.fail("Heat " + actual + " does not match serially simulated heat " + expected[index], positions.get(index));
+                      }
+                      index++;
+                  }
+              })
+        );
+    }
+
+    /**
+     * Disconnects the first pair of adjacent conductors from each other without notifying the network, the same as configuring the side with a wrench would.
+     */
+    private static void disconnectAdjacent(GameTestHelper helper, List<BlockPos> positions) {
+        for (BlockPos relativePos : positions) {
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                BlockPos adjacentPos = relativePos.relative(side);
+                if (positions.contains(adjacentPos)) {
+                    TileEntityTransmitter tile = GameTestUtils.getBlockEntity(helper, TileEntityTransmitter.class, relativePos);
+                    TileEntityTransmitter adjacent = GameTestUtils.getBlockEntity(helper, TileEntityTransmitter.class, adjacentPos);
+                    if (tile != null && adjacent != null) {
+                        tile.getTransmitter().setConnectionTypeRaw(side, ConnectionType.NONE);
+                        tile.getTransmitter().refreshConnections();
+                        adjacent.getTransmitter().refreshConnections();
+                        return;
+                    }
+                }
+            }
+        }
+        helper.fail("No adjacent conductors to disconnect");
+    }
+}
@@ -1,9 +1,16 @@
 package mekanism.common.lib.transmitter;
 
+import java.util.List;
 import java.util.UUID;
+import mekanism.api.energy.IEnergyContainer;
 import mekanism.api.functions.TriConsumer;
+import mekanism.api.math.FloatingLong;
 import mekanism.common.Mekanism;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.content.network.EnergyNetwork;
 import mekanism.common.content.network.transmitter.Transmitter;
+import mekanism.common.registries.MekanismBlocks;
+import mekanism.common.tile.TileEntityEnergyCube;
 import mekanism.common.tile.transmitter.TileEntityTransmitter;
 import mekanism.common.util.test.GameTestUtils;
 import net.minecraft.core.BlockPos;
@@ -67,6 +74,128 @@ public class TransmitterNetworkTest {
         );
     }
 
+    /**
+     * Splits the cable into three networks, where the first two share an energy cube that doesn't have room for all their energy, and the third has an energy cube of its
+     * own. Checks that the networks sharing the cube are grouped together, and that ticking the networks in parallel splits the energy the same way as ticking them
+     * serially.
+     *
+     * @implNote The networks are ticked directly rather than by enabling parallel ticking in the config, so that the config can't be left changed if the test fails.
+     */
+    @GameTest(template = BASE_PATH + "straight_3c_cable", setupTicks = SETUP_TICKS, batch = "3")
+    public static void parallelMatchesSerial(GameTestHelper helper) {
+        BlockPos relativeFirst = new BlockPos(0, 1, 0);
+        BlockPos relativeSharedCube = new BlockPos(2, 1, 0);
+        BlockPos relativeSecond = new BlockPos(3, 1, 0);
+        BlockPos relativeSplit = new BlockPos(10, 1, 0);
+        BlockPos relativeThird = new BlockPos(11, 1, 0);
+        BlockPos relativeCube = new BlockPos(47, 1, 0);
+        GameTestUtils.succeedIfSequence(helper, sequence -> sequence
+              .thenExecute(() -> {
+                  helper.setBlock(relativeSharedCube, MekanismBlocks.BASIC_ENERGY_CUBE.getBlock());
+                  helper.setBlock(relativeSplit, Blocks.AIR);
+                  helper.setBlock(relativeCube, MekanismBlocks.BASIC_ENERGY_CUBE.getBlock());
+              })
+              //Wait 5 ticks to ensure it has time to process everything (expected to only take two ticks)
+              .thenIdle(5)
+              .thenExecute(() -> {
+                  EnergyNetwork first = getEnergyNetwork(helper, relativeFirst);
+                  EnergyNetwork second = getEnergyNetwork(helper, relativeSecond);
+                  EnergyNetwork third = getEnergyNetwork(helper, relativeThird);
+                  if (first == second || second == third) {
+                      helper.fail("Cable was not split into three networks", relativeSplit);
+                  }
+                  List<DynamicNetwork<?, ?, ?>> networks = List.of(first, second, third);
+                  List<List<DynamicNetwork<?, ?, ?>>> groups = new ParallelNetworkPreparer().groupIndependent(networks);
+                  if (groups.size() != 2) {
+                      helper.fail("Expected 2 independent groups but got " + groups.size(), relativeSplit);
+                  } else if (groups.stream().noneMatch(group -> group.contains(first) && group.contains(second))) {
+                      helper.fail("Networks sharing an acceptor were not put in the same group", relativeSharedCube);
+                  }
+                  IEnergyContainer sharedCube = getCubeEnergy(helper, relativeSharedCube);
+                  IEnergyContainer cube = getCubeEnergy(helper, relativeCube);
+                  //Give the shared cube room for all the energy of the first network, but only half the energy of the second
+                  FloatingLong[] initialEnergies = {
+                        first.energyContainer.getMaxEnergy().divide(2),
+                        second.energyContainer.getMaxEnergy().divide(2),
+                        third.energyContainer.getMaxEnergy().divide(2),
+                        FloatingLong.ZERO,
+                        FloatingLong.ZERO
+                  };
+                  initialEnergies[3] = sharedCube.getMaxEnergy().subtract(initialEnergies[0].add(initialEnergies[1].divide(2)));
+                  List<IEnergyContainer> containers = List.of(first.energyContainer, second.energyContainer, third.energyContainer, sharedCube, cube);
+                  setEnergies(containers, initialEnergies);
+                  TransmitterNetworkRegistry.getInstance().tickNetworks(networks, false);
+                  FloatingLong[] expectedEnergies = getEnergies(containers);
+                  if (!expectedEnergies[3].equals(sharedCube.getMaxEnergy())) {
+                      helper.fail("Shared cube was not filled", relativeSharedCube);
+                  } else if (!expectedEnergies[0].isZero() || !expectedEnergies[1].equals(initialEnergies[1].subtract(initialEnergies[1].divide(2)))) {
+                      helper.fail("Unexpected split of energy into the shared cube", relativeSharedCube);
+                  }
+                  //Reset the energy and then tick the networks in parallel
+                  setEnergies(containers, initialEnergies);
+                  TransmitterNetworkRegistry.getInstance().tickNetworks(networks, true);
+                  FloatingLong[] energies = getEnergies(containers);
+                  BlockPos[] positions = {relativeFirst, relativeSecond, relativeThird, relativeSharedCube, relativeCube};
+                  for (int i = 0; i < energies.length; i++) {
+                      if (!energies[i].equals(expectedEnergies[i])) {
+                          helper.fail("Energy " + energies[i] + " does not match serially ticked energy " + expectedEnergies[i], positions[i]);
+                      }
+                  }
+              })
+        );
+    }
+
+    private static IEnergyContainer getCubeEnergy(GameTestHelper helper, BlockPos relativePos) {
+        TileEntityEnergyCube cube = GameTestUtils.getBlockEntity(helper, TileEntityEnergyCube.class, relativePos);
+        if (cube == null) {
+            helper.fail("Expected energy cube", relativePos);
+        }
+        //noinspection ConstantConditions (can't get here if null as helper#fail throws an exception)
+        return cube.getEnergyContainer();
+    }
+
+    private static void setEnergies(List<IEnergyContainer> containers, FloatingLong[] energies) {
+        for (int i = 0; i < energies.length; i++) {
+            containers.get(i).setEnergy(energies[i]);
+        }
+    }
+
+    private static FloatingLong[] getEnergies(List<IEnergyContainer> containers) {
+        return containers.stream().map(container -> container.getEnergy().copyAsConst()).toArray(FloatingLong[]::new);
+    }
+
+    @GameTest(template = BASE_PATH + "straight_3c_cable", setupTicks = SETUP_TICKS, batch = "4")
+    public static void removeEndKeepsNetwork(GameTestHelper helper) {
+        BlockPos relativeEndTransmitter = new BlockPos(0, 1, 0);
+        BlockPos relativeNeighbor = relativeEndTransmitter.east();
+        MutableObject<UUID> networkUUID = new MutableObject<>();
+        GameTestUtils.succeedIfSequence(helper, sequence -> sequence
+              .thenExecute(() -> {
+                  networkUUID.setValue(getEnergyNetwork(helper, relativeNeighbor).getUUID());
+                  helper.setBlock(relativeEndTransmitter, Blocks.AIR);
+              })
+              //Wait 5 ticks to ensure it has time to process everything (expected to only take two ticks)
+              .thenIdle(5)
+              .thenExecute(() -> {
+                  //Removing the end of the cable can't split the network, so it should have been removed from the existing network rather than re-forming it
+                  if (MekanismConfig.general.networkSplitSearchLimit.get() > 0 && !networkUUID.getValue().equals(getEnergyNetwork(helper, relativeNeighbor).getUUID())) {
+                      helper.fail("Network was re-formed", relativeNeighbor);
+                  }
+              })
+        );
+    }
+
+    @NotNull
+    private static EnergyNetwork getEnergyNetwork(GameTestHelper helper, BlockPos relativePos) {
+        DynamicNetwork<?, ?, ?> network = getTransmitterNNAt(helper, relativePos).getTransmitter().getTransmitterNetwork();
+        if (!(network instanceof EnergyNetwork energyNetwork)) {
+            helper.fail("Expected energy network", relativePos);
+            //noinspection ConstantConditions (can't get here as helper#fail throws an exception)
+            return null;
+        }
+        return energyNetwork;
+    }
+
     private static void forEachTransmitter(GameTestHelper helper, TriConsumer<TileEntityTransmitter, Transmitter<?, ?, ?>, BlockPos> consumer) {
         forEachTransmitter(helper, true, consumer);
     }
@@ -0,0 +1,130 @@
+package mekanism.api.math;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FloatingLongBenchmark {
+
+    private static final int SIZE = 1_024;
+
+    private final FloatingLong[] values = new FloatingLong[SIZE];
+    private final FloatingLong[] divisors = new FloatingLong[SIZE];
+
+    @Setup
+    public void setup() {
+        Random random = new Random(0);
+        for (int i = 0; i < SIZE; i++) {
+            //Keep the values small enough that a multiplication of two of them won't overflow and clamp
+            values[i] = FloatingLong.createConst(random.nextInt(1_000_000), (short) random.nextInt(10_000));
+            divisors[i] = FloatingLong.createConst(1 + random.nextInt(1_000), (short) random.nextInt(10_000));
+        }
+    }
+
+    @Benchmark
+    public FloatingLong add() {
+        FloatingLong total = FloatingLong.ZERO;
+        for (FloatingLong value : values) {
+            total = total.add(value);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public FloatingLong plusEqual() {
+        FloatingLong total = FloatingLong.ZERO.copy();
+        for (FloatingLong value : values) {
+            total.plusEqual(value);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public FloatingLong accumulatorPlusEqual() {
+        FloatingLongAccumulator total = new FloatingLongAccumulator();
+        for (FloatingLong value : values) {
+            total.plusEqual(value);
+        }
+        return total.toFloatingLong();
+    }
+
+    @Benchmark
+    public FloatingLong sumOfProducts() {
+        FloatingLong total = FloatingLong.ZERO;
+        for (int i = 0; i < SIZE; i++) {
+            total = total.plusEqual(values[i].multiply(divisors[i]));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public FloatingLong accumulatorSumOfProducts() {
+        FloatingLongAccumulator total = new FloatingLongAccumulator();
+        for (int i = 0; i < SIZE; i++) {
+            total.addProduct(values[i], divisors[i]);
+        }
+        return total.toFloatingLong();
+    }
+
+    @Benchmark
+    public FloatingLong subtract() {
+        FloatingLong total = FloatingLong.MAX_VALUE;
+        for (FloatingLong value : values) {
+            total = total.subtract(value);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public FloatingLong multiply() {
+        FloatingLong total = FloatingLong.ZERO;
+        for (int i = 0; i < SIZE; i++) {
+            total = values[i].multiply(divisors[i]);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public FloatingLong divide() {
+        FloatingLong total = FloatingLong.ZERO;
+        for (int i = 0; i < SIZE; i++) {
+            total = values[i].divide(divisors[i]);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long divideToLong() {
+        long total = 0;
+        for (int i = 0; i < SIZE; i++) {
+            total += values[i].divideToLong(divisors[i]);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int compare() {
+        int greater = 0;
+        for (int i = 0; i < SIZE; i++) {
+            if (values[i].greaterThan(divisors[i])) {
+                greater++;
+            }
+        }
+        return greater;
+    }
+}
@@ -0,0 +1,98 @@
+package mekanism.api.recipes.cache;
+
+import java.util.concurrent.TimeUnit;
+import mekanism.api.recipes.cache.CachedRecipe.OperationTracker.RecipeError;
+import mekanism.api.recipes.inputs.InputHelper;
+import mekanism.api.recipes.outputs.OutputHelper;
+import mekanism.common.inventory.slot.BasicInventorySlot;
+import mekanism.common.recipe.impl.CombinerIRecipe;
+import mekanism.common.recipe.impl.CrushingIRecipe;
+import mekanism.common.recipe.ingredient.creator.ItemStackIngredientCreator;
+import net.minecraft.SharedConstants;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures processing {@link OneInputCachedRecipe}s and {@link TwoInputCachedRecipe}s each tick, both while they can run and while they are blocked by an error. Run with
+ * {@code -Pjmh.prof=gc} to see how much gets allocated per call, which is what reusing the {@link CachedRecipe.OperationTracker} is meant to cut down on.
+ *
+ * @implNote The recipes require more ticks than the benchmark can run for, so processing never finishes and the slots never have to be refilled.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CachedRecipeBenchmark {
+
+    private CachedRecipe<?> oneInput;
+    private CachedRecipe<?> oneInputBlocked;
+    private CachedRecipe<?> twoInput;
+
+    @Setup
+    public void setup() {
+        //Bootstrap the vanilla registries so that we can create stacks and ingredients without needing to start the game
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        CrushingIRecipe crushing = new CrushingIRecipe(new ResourceLocation("mekanism", "benchmark_crushing"),
+              ItemStackIngredientCreator.INSTANCE.from(new ItemStack(Items.COBBLESTONE)), new ItemStack(Items.GRAVEL));
+        oneInput = crushing(crushing, ItemStack.EMPTY);
+        //Fill the output with something else so that processing gets blocked by not having enough output space
+        oneInputBlocked = crushing(crushing, new ItemStack(Items.STONE, 64));
+
+        CombinerIRecipe combining = new CombinerIRecipe(new ResourceLocation("mekanism", "benchmark_combining"),
+              ItemStackIngredientCreator.INSTANCE.from(new ItemStack(Items.DIAMOND, 8)), ItemStackIngredientCreator.INSTANCE.from(new ItemStack(Items.COBBLESTONE)),
+              new ItemStack(Items.DIAMOND_ORE));
+        BasicInventorySlot mainSlot = slot(new ItemStack(Items.DIAMOND, 64));
+        BasicInventorySlot extraSlot = slot(new ItemStack(Items.COBBLESTONE, 64));
+        BasicInventorySlot outputSlot = slot(ItemStack.EMPTY);
+        twoInput = TwoInputCachedRecipe.combiner(combining, () -> false, InputHelper.getInputHandler(mainSlot, RecipeError.NOT_ENOUGH_INPUT),
+                    InputHelper.getInputHandler(extraSlot, RecipeError.NOT_ENOUGH_SECONDARY_INPUT), OutputHelper.getOutputHandler(outputSlot, RecipeError.NOT_ENOUGH_OUTPUT_SPACE))
+              .setRequiredTicks(() -> Integer.MAX_VALUE);
+    }
+
+    private static CachedRecipe<?> crushing(CrushingIRecipe recipe, ItemStack output) {
+        BasicInventorySlot inputSlot = slot(new ItemStack(Items.COBBLESTONE, 64));
+        BasicInventorySlot outputSlot = slot(output);
+        return OneInputCachedRecipe.itemToItem(recipe, () -> false, InputHelper.getInputHandler(inputSlot, RecipeError.NOT_ENOUGH_INPUT),
+                    OutputHelper.getOutputHandler(outputSlot, RecipeError.NOT_ENOUGH_OUTPUT_SPACE))
+              .setRequiredTicks(() -> Integer.MAX_VALUE);
+    }
+
+    private static BasicInventorySlot slot(ItemStack stack) {
+        BasicInventorySlot slot = BasicInventorySlot.at(null, 0, 0);
+        slot.setStack(stack);
+        return slot;
+    }
+
+    @Benchmark
+    public int processOneInput() {
+        oneInput.process();
+        return oneInput.getLastOperations();
+    }
+
+    @Benchmark
+    public int processOneInputBlocked() {
+        oneInputBlocked.process();
+        return oneInputBlocked.getLastOperations();
+    }
+
+    @Benchmark
+    public int processTwoInput() {
+        twoInput.process();
+        return twoInput.getLastOperations();
+    }
+}
@@ -0,0 +1,138 @@
+package mekanism.common.content.network.distribution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import mekanism.api.Action;
+import mekanism.api.energy.IStrictEnergyHandler;
+import mekanism.api.math.FloatingLong;
+import mekanism.common.util.EmitUtils;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares splitting energy between acceptors using {@link EmitUtils#sendToAcceptors(mekanism.common.lib.distribution.Target, FloatingLong)} and using the reusable
+ * {@link EnergyAcceptorDistributor}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnergySplitBenchmark {
+
+    @Param({"6", "64", "512"})
+    private int acceptorCount;
+
+    private final EnergyAcceptorDistributor distributor = new EnergyAcceptorDistributor();
+    private final List<BenchmarkEnergyHandler> acceptors = new ArrayList<>();
+    private FloatingLong toSend;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(0);
+        acceptors.clear();
+        for (int i = 0; i < acceptorCount; i++) {
+            //Mix acceptors that can take everything with ones that only accept part of what they are offered so that the split needs multiple passes
+            acceptors.add(new BenchmarkEnergyHandler(FloatingLong.createConst(1 + random.nextInt(100_000)), random.nextBoolean()));
+        }
+        toSend = FloatingLong.createConst(50_000L * acceptorCount);
+    }
+
+    @Benchmark
+    public FloatingLong sendToAcceptors() {
+        EnergyAcceptorTarget target = new EnergyAcceptorTarget(acceptors.size());
+        for (BenchmarkEnergyHandler acceptor : acceptors) {
+            acceptor.reset();
+            target.addHandler(acceptor);
+        }
+        return EmitUtils.sendToAcceptors(target, toSend.copy());
+    }
+
+    @Benchmark
+    public FloatingLong distributor() {
+        distributor.prepare(toSend);
+        for (BenchmarkEnergyHandler acceptor : acceptors) {
+            acceptor.reset();
+            distributor.addHandler(acceptor);
+        }
+        return distributor.distribute();
+    }
+
+    private static class BenchmarkEnergyHandler implements IStrictEnergyHandler {
+
+        private final FloatingLong capacity;
+        private final boolean partial;
+        private FloatingLong stored = FloatingLong.ZERO;
+
+        private BenchmarkEnergyHandler(FloatingLong capacity, boolean partial) {
+            this.capacity = capacity;
+            this.partial = partial;
+        }
+
+        private void reset() {
+            stored = FloatingLong.ZERO;
+        }
+
+        @Override
+        public int getEnergyContainerCount() {
+            return 1;
+        }
+
+        @NotNull
+        @Override
+        public FloatingLong getEnergy(int container) {
+            return stored;
+        }
+
+        @Override
+        public void setEnergy(int container, @NotNull FloatingLong energy) {
+            stored = energy.copy();
+        }
+
+        @NotNull
+        @Override
+        public FloatingLong getMaxEnergy(int container) {
+            return capacity;
+        }
+
+        @NotNull
+        @Override
+        public FloatingLong getNeededEnergy(int container) {
+            return capacity.subtract(stored);
+        }
+
+        @NotNull
+        @Override
+        public FloatingLong insertEnergy(int container, @NotNull FloatingLong amount, @NotNull Action action) {
+            FloatingLong offered = partial ? amount.divide(2) : amount;
+            FloatingLong toAccept = offered.min(getNeededEnergy(container));
+            if (action.execute()) {
+                stored = stored.add(toAccept);
+            }
+            return amount.subtract(toAccept);
+        }
+
+        @NotNull
+        @Override
+        public FloatingLong extractEnergy(int container, @NotNull FloatingLong amount, @NotNull Action action) {
+            FloatingLong toExtract = amount.min(stored);
+            if (action.execute()) {
+                stored = stored.subtract(toExtract);
+            }
+            return toExtract;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package mekanism.common.content.qio;
+
+import java.util.concurrent.TimeUnit;
+import mekanism.common.content.qio.SearchQueryParser.ISearchQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchQueryParserBenchmark {
+
+    @Param({
+          "test",
+          "@mod #tag $tool test",
+          "(test | test1) | (test2 | test3)",
+          "$\"tooltip test\" test name #(tag1 | tag2) @mod"
+    })
+    private String query;
+
+    @Benchmark
+    public ISearchQuery parse() {
+        return SearchQueryParser.parse(query);
+    }
+}
@@ -0,0 +1,86 @@
+package mekanism.common.content.transporter;
+
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import mekanism.api.Coord4D;
+import mekanism.api.NBTConstants;
+import mekanism.common.content.transporter.TransporterStack.Path;
+import mekanism.common.lib.inventory.TransitRequest;
+import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
+import mekanism.common.util.NBTUtils;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.items.ItemStackHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long {@link TransporterManager} takes to predict how much of a request fits in a chest sized inventory, taking the stacks that are already flowing
+ * towards it into account. This is done for every destination a logistical transporter considers when it pulls items.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransporterManagerBenchmark {
+
+    private static final int SLOTS = 27;
+
+    @Param({"0", "8", "32"})
+    private int flowing;
+
+    private Coord4D position;
+    private ItemStackHandler handler;
+    private TransitRequest request;
+    private Map<Coord4D, Set<TransporterStack>> flowingStacks;
+
+    @Setup
+    public void setup() {
+        //Bootstrap the vanilla registries so that we can create stacks without needing to start the game
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        position = new Coord4D(BlockPos.ZERO, Level.OVERWORLD);
+        handler = new ItemStackHandler(SLOTS);
+        //Partially fill the inventory with a mix of stacks that can and can't stack with the request
+        for (int slot = 0; slot < SLOTS / 2; slot++) {
+            handler.setStackInSlot(slot, new ItemStack(slot % 2 == 0 ? Items.COBBLESTONE : Items.DIRT, 32));
+        }
+        request = TransitRequest.simple(new ItemStack(Items.COBBLESTONE, 64));
+        Set<TransporterStack> stacks = new ObjectOpenHashSet<>();
+        for (int i = 0; i < flowing; i++) {
+            CompoundTag nbt = new ItemStack(Items.COBBLESTONE, 8).save(new CompoundTag());
+            NBTUtils.writeEnum(nbt, NBTConstants.PATH_TYPE, Path.DEST);
+            stacks.add(TransporterStack.readFromNBT(nbt));
+        }
+        flowingStacks = Map.of(position, stacks);
+    }
+
+    @Benchmark
+    public TransitResponse predictInsert() {
+        return TransporterManager.getPredictedInsert(position, Direction.NORTH, handler, request, flowingStacks);
+    }
+
+    @Benchmark
+    public TransitResponse predictInsertIgnoringFlowing() {
+        return TransporterManager.getPredictedInsert(handler, request);
+    }
+}
@@ -0,0 +1,194 @@
+package mekanism.common.content.transporter;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import mekanism.common.content.transporter.TransporterRoutes.RouteGraph;
+import mekanism.common.util.EnumUtils;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.Bootstrap;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares finding the cost of getting to a number of destinations by calculating {@link TransporterRoutes} once, against path finding to each destination separately
+ * with A* like {@link TransporterPathfinder.Pathfinder} does.
+ *
+ * @implNote As transporters can't exist without a world, the transporters are a square grid with some of them missing, and the A* search is a copy of the search done
+ * by {@link TransporterPathfinder.Pathfinder#find} that runs over the same grid.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransporterRoutingBenchmark {
+
+    @Param({"16", "64"})
+    private int gridSize;
+
+    @Param({"1", "8", "32"})
+    private int destinations;
+
+    private GridGraph graph;
+    private BlockPos start;
+    private List<BlockPos> destinationPositions;
+
+    @Setup
+    public void setup() {
+        //Bootstrap the vanilla registries so that our enums can be loaded without needing to start the game
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        Random random = new Random(0);
+        graph = new GridGraph();
+        List<BlockPos> positions = new ArrayList<>();
+        for (int x = 0; x < gridSize; x++) {
+            for (int z = 0; z < gridSize; z++) {
+                //Leave out some transporters so that paths have to go around them, but always keep the edges so that everything stays reachable
+                if (x == 0 || z == 0 || x == gridSize - 1 || z == gridSize - 1 || random.nextInt(5) != 0) {
+                    BlockPos pos = new BlockPos(x, 0, z);
+                    //Mix in some faster transporters so that the cheapest route isn't always the shortest one
+                    graph.transporters.put(pos.asLong(), random.nextInt(4) == 0 ? 0.5 : 1);
+                    positions.add(pos);
+                }
+            }
+        }
+        start = BlockPos.ZERO;
+        destinationPositions = new ArrayList<>(destinations);
+        for (int i = 0; i < destinations; i++) {
+            destinationPositions.add(positions.get(1 + random.nextInt(positions.size() - 1)));
+        }
+    }
+
+    @Benchmark
+    public void routes(Blackhole blackhole) {
+        TransporterRoutes routes = TransporterRoutes.calculate(graph, start.asLong());
+        for (BlockPos destination : destinationPositions) {
+            if (routes.getCost(destination) >= 0) {
+                blackhole.consume(routes.getPath(destination, destination));
+            }
+        }
+    }
+
+    @Benchmark
+    public void aStarPerDestination(Blackhole blackhole) {
+        for (BlockPos destination : destinationPositions) {
+            blackhole.consume(findAStar(destination));
+        }
+    }
+
+    /**
+     * @see TransporterPathfinder.Pathfinder#find
+     */
+    @Nullable
+    private List<BlockPos> findAStar(BlockPos finalNode) {
+        Set<BlockPos> openSet = new ObjectOpenHashSet<>();
+        Set<BlockPos> closedSet = new ObjectOpenHashSet<>();
+        Map<BlockPos, BlockPos> navMap = new Object2ObjectOpenHashMap<>();
+        Object2DoubleOpenHashMap<BlockPos> gScore = new Object2DoubleOpenHashMap<>();
+        Object2DoubleOpenHashMap<BlockPos> fScore = new Object2DoubleOpenHashMap<>();
+        openSet.add(start);
+        gScore.put(start, 0D);
+        double totalDistance = distanceBetween(start, finalNode);
+        fScore.put(start, totalDistance);
+        double maxSearchDistance = Math.max(2 * totalDistance, 4);
+        while (!openSet.isEmpty()) {
+            BlockPos currentNode = null;
+            double lowestFScore = 0;
+            for (BlockPos node : openSet) {
+                if (currentNode == null || fScore.getDouble(node) < lowestFScore) {
+                    currentNode = node;
+                    lowestFScore = fScore.getDouble(node);
+                }
+            }
+            if (currentNode == null) {
+                break;
+            }
+            openSet.remove(currentNode);
+            closedSet.add(currentNode);
+            if (distanceBetween(start, currentNode) > maxSearchDistance) {
+                continue;
+            }
+            Double currentTransporter = graph.get(currentNode.asLong());
+            double currentScore = gScore.getDouble(currentNode);
+            for (Direction direction : EnumUtils.DIRECTIONS) {
+                BlockPos neighbor = currentNode.relative(direction);
+                Double neighborTransporter = graph.get(neighbor.asLong());
+                if (neighborTransporter != null && graph.canMove(currentTransporter, neighborTransporter, direction)) {
+                    if (neighbor.equals(finalNode)) {
+                        //Reconstruct the path the same way the pathfinder does once it finds the destination
+                        List<BlockPos> path = new ArrayList<>();
+                        for (BlockPos node = currentNode; node != null; node = navMap.get(node)) {
+                            path.add(node);
+                        }
+                        return path;
+                    }
+                    double tentativeG = currentScore + graph.getCost(neighborTransporter);
+                    if (closedSet.contains(neighbor) && tentativeG >= gScore.getDouble(neighbor)) {
+                        continue;
+                    }
+                    if (!openSet.contains(neighbor) || tentativeG < gScore.getDouble(neighbor)) {
+                        navMap.put(neighbor, currentNode);
+                        gScore.put(neighbor, tentativeG);
+                        fScore.put(neighbor, tentativeG + distanceBetween(neighbor, finalNode));
+                        openSet.add(neighbor);
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @see mekanism.common.util.WorldUtils#distanceBetween(BlockPos, BlockPos)
+     */
+    private static double distanceBetween(BlockPos start, BlockPos end) {
+        return Math.sqrt(start.distSqr(end));
+    }
+
+    /**
+     * Grid of transporters that stacks can move freely between, where each transporter is represented by its cost.
+     */
+    private static class GridGraph implements RouteGraph<Double> {
+
+        private final Long2ObjectMap<Double> transporters = new Long2ObjectOpenHashMap<>();
+
+        @Nullable
+        @Override
+        public Double get(long pos) {
+            return transporters.get(pos);
+        }
+
+        @Override
+        public boolean canMove(@Nullable Double from, Double to, Direction direction) {
+            return true;
+        }
+
+        @Override
+        public double getCost(Double cost) {
+            return cost;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package mekanism.common.lib.inventory;
+
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.SharedConstants;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures creating, hashing, and looking up {@link HashedItem}s, which is what QIO and the logistical sorter do for every stack they handle.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashedItemBenchmark {
+
+    private ItemStack plainStack;
+    private ItemStack taggedStack;
+    private HashedItem plainItem;
+    private HashedItem taggedItem;
+    private HashedItem taggedItemCopy;
+    private final Object2LongMap<HashedItem> storedItems = new Object2LongOpenHashMap<>();
+
+    @Setup
+    public void setup() {
+        //Bootstrap the vanilla registries so that we can create stacks without needing to start the game
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        plainStack = new ItemStack(Items.STONE);
+        taggedStack = new ItemStack(Items.DIAMOND_SWORD);
+        taggedStack.setDamageValue(10);
+        taggedStack.setHoverName(Component.literal("Benchmark"));
+        plainItem = HashedItem.create(plainStack);
+        taggedItem = HashedItem.create(taggedStack);
+        taggedItemCopy = HashedItem.create(taggedStack);
+        storedItems.put(plainItem, 64);
+        storedItems.put(taggedItem, 1);
+    }
+
+    @Benchmark
+    public HashedItem createPlain() {
+        return HashedItem.create(plainStack);
+    }
+
+    @Benchmark
+    public HashedItem createTagged() {
+        return HashedItem.create(taggedStack);
+    }
+
+    @Benchmark
+    public HashedItem raw() {
+        return HashedItem.raw(taggedStack);
+    }
+
+    @Benchmark
+    public boolean equalsTagged() {
+        return taggedItem.equals(taggedItemCopy);
+    }
+
+    @Benchmark
+    public long lookup() {
+        return storedItems.getLong(HashedItem.raw(taggedStack));
+    }
+}
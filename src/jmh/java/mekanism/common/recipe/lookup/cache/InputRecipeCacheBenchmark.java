@@ -0,0 +1,99 @@
+package mekanism.common.recipe.lookup.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import mekanism.api.recipes.ItemStackToItemStackRecipe;
+import mekanism.common.recipe.impl.CrushingIRecipe;
+import mekanism.common.recipe.ingredient.creator.ItemStackIngredientCreator;
+import mekanism.common.recipe.lookup.cache.InputRecipeCache.SingleItem;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.Registry;
+import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures looking up recipes in an {@link InputRecipeCache}, which is what machines do whenever their inputs change and what insertion predicates do for every
+ * stack that gets offered to them.
+ *
+ * @implNote As there is no level to get the recipes from, the cache is initialized directly with recipes that are created from the vanilla items.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InputRecipeCacheBenchmark {
+
+    @Param({"100", "1000"})
+    private int recipes;
+
+    private SingleItem<ItemStackToItemStackRecipe> cache;
+    private ItemStack hitStack;
+    private ItemStack nbtHitStack;
+    private ItemStack missStack;
+
+    @Setup
+    public void setup() {
+        //Bootstrap the vanilla registries so that we can create stacks and ingredients without needing to start the game
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        List<Item> items = Registry.ITEM.stream()
+              .filter(item -> item != Items.AIR && item != Items.STONE)
+              .limit(recipes)
+              .toList();
+        List<ItemStackToItemStackRecipe> recipeList = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            ItemStack input = new ItemStack(items.get(i));
+            if (i % 10 == 0) {
+                //Make some of the recipes require an exact NBT match so that the NBT sensitive part of the cache gets used
+                input.setHoverName(Component.literal("Benchmark"));
+            }
+            recipeList.add(new CrushingIRecipe(new ResourceLocation("mekanism", "benchmark_" + i), ItemStackIngredientCreator.INSTANCE.from(input),
+                  new ItemStack(Items.STONE)));
+        }
+        cache = new SingleItem<>(null, ItemStackToItemStackRecipe::getInput);
+        cache.initCache(recipeList);
+        cache.initialized = true;
+        hitStack = new ItemStack(items.get(items.size() - 1), 64);
+        nbtHitStack = new ItemStack(items.get(0), 64);
+        nbtHitStack.setHoverName(Component.literal("Benchmark"));
+        missStack = new ItemStack(Items.STONE, 64);
+    }
+
+    @Benchmark
+    public ItemStackToItemStackRecipe findFirstRecipe() {
+        return cache.findFirstRecipe(null, hitStack);
+    }
+
+    @Benchmark
+    public ItemStackToItemStackRecipe findFirstRecipeNBT() {
+        return cache.findFirstRecipe(null, nbtHitStack);
+    }
+
+    @Benchmark
+    public ItemStackToItemStackRecipe findFirstRecipeMiss() {
+        return cache.findFirstRecipe(null, missStack);
+    }
+
+    @Benchmark
+    public boolean containsInput() {
+        return cache.containsInput(null, hitStack);
+    }
+}
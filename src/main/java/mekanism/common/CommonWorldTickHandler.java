@@ -11,10 +11,15 @@ import mekanism.api.MekanismAPI;
 import mekanism.api.NBTConstants;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.qio.IQIOCraftingWindowHolder;
+import mekanism.common.content.qio.IQIODriveHolder;
+import mekanism.common.content.qio.QIODriveSaveScheduler;
+import mekanism.common.content.qio.QIODriveStorage;
 import mekanism.common.content.qio.QIOGlobalItemLookup;
 import mekanism.common.inventory.container.item.PortableQIODashboardContainer;
+import mekanism.common.lib.chunkloading.ChunkTicketRegistry;
 import mekanism.common.lib.frequency.FrequencyManager;
 import mekanism.common.lib.radiation.RadiationManager;
+import mekanism.common.recipe.lookup.monitor.RecipeSleepMetrics;
 import mekanism.common.util.WorldUtils;
 import mekanism.common.world.GenHandler;
 import net.minecraft.resources.ResourceKey;
@@ -29,6 +34,8 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraftforge.event.TickEvent.LevelTickEvent;
 import net.minecraftforge.event.TickEvent.Phase;
 import net.minecraftforge.event.TickEvent.ServerTickEvent;
@@ -114,9 +121,25 @@ public class CommonWorldTickHandler {
                       .getOrDefault(event.getChunk().getPos(), chunkVersion);
             }
             event.getData().putInt(NBTConstants.WORLD_GEN_VERSION, chunkVersion);
+            if (hasDriveHolder(event.getChunk())) {
+                //The saved drive stacks may only refer to their contents in the drive storage, so make sure the records backing them are committed
+                // even if the chunk is being unloaded rather than saved as part of the world
+                QIODriveStorage.INSTANCE.commit();
+            }
         }
     }
 
+    private static boolean hasDriveHolder(ChunkAccess chunk) {
+        if (chunk instanceof LevelChunk levelChunk) {
+            for (BlockEntity blockEntity : levelChunk.getBlockEntities().values()) {
+                if (blockEntity instanceof IQIODriveHolder) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     @SubscribeEvent(priority = EventPriority.HIGHEST)
     public synchronized void onChunkDataLoad(ChunkDataEvent.Load event) {
         if (event.getLevel() instanceof Level level && !level.isClientSide()) {
@@ -152,9 +175,12 @@ public class CommonWorldTickHandler {
     @SubscribeEvent
     public void worldUnloadEvent(LevelEvent.Unload event) {
         LevelAccessor world = event.getLevel();
-        if (!world.isClientSide() && world instanceof Level level && chunkVersions != null) {
-            //When a world unloads, free up memory tracking the versions of the chunks in it
-            chunkVersions.remove(level.dimension().location());
+        if (!world.isClientSide() && world instanceof ServerLevel level) {
+            ChunkTicketRegistry.unload(level);
+            if (chunkVersions != null) {
+                //When a world unloads, free up memory tracking the versions of the chunks in it
+                chunkVersions.remove(level.dimension().location());
+            }
         }
     }
 
@@ -163,10 +189,19 @@ public class CommonWorldTickHandler {
         if (!event.getLevel().isClientSide()) {
             FrequencyManager.load();
             QIOGlobalItemLookup.INSTANCE.createOrLoad();
+            QIODriveStorage.INSTANCE.createOrLoad();
             RadiationManager.INSTANCE.createOrLoad();
         }
     }
 
+    @SubscribeEvent
+    public void worldSaveEvent(LevelEvent.Save event) {
+        if (!event.getLevel().isClientSide()) {
+            //Only commit the drive storage once the chunks holding the drives have been saved, so that the two can't get out of sync if the game crashes
+            QIODriveStorage.INSTANCE.commit();
+        }
+    }
+
     @SubscribeEvent
     public void onTick(ServerTickEvent event) {
         if (event.side.isServer() && event.phase == Phase.END) {
@@ -183,12 +218,15 @@ public class CommonWorldTickHandler {
 
     private void serverTick() {
         FrequencyManager.tick();
+        QIODriveSaveScheduler.tick();
         RadiationManager.INSTANCE.tickServer();
     }
 
     private void tickEnd(ServerLevel world) {
         if (!world.isClientSide) {
             RadiationManager.INSTANCE.tickServerWorld(world);
+            RecipeSleepMetrics.tickEnd(world);
+            ChunkTicketRegistry.tickEnd(world);
             if (flushTagAndRecipeCaches) {
                 //Loop all open containers and if it is a portable qio dashboard force refresh the window's recipes
                 for (ServerPlayer player : world.players()) {
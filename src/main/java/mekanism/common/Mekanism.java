@@ -38,9 +38,12 @@ import mekanism.common.content.gear.ModuleDispenseBehavior;
 import mekanism.common.content.gear.ModuleHelper;
 import mekanism.common.content.matrix.MatrixMultiblockData;
 import mekanism.common.content.matrix.MatrixValidator;
+import mekanism.common.content.miner.ThreadMinerSearch;
 import mekanism.common.content.network.BoxedChemicalNetwork.ChemicalTransferEvent;
 import mekanism.common.content.network.EnergyNetwork.EnergyTransferEvent;
 import mekanism.common.content.network.FluidNetwork.FluidTransferEvent;
+import mekanism.common.content.qio.QIODriveSaveScheduler;
+import mekanism.common.content.qio.QIODriveStorage;
 import mekanism.common.content.qio.QIOGlobalItemLookup;
 import mekanism.common.content.sps.SPSCache;
 import mekanism.common.content.sps.SPSMultiblockData;
@@ -59,6 +62,7 @@ import mekanism.common.item.predicate.FullCanteenItemPredicate;
 import mekanism.common.item.predicate.MaxedModuleContainerItemPredicate;
 import mekanism.common.lib.MekAnnotationScanner;
 import mekanism.common.lib.Version;
+import mekanism.common.lib.chunkloading.ChunkTicketRegistry;
 import mekanism.common.lib.frequency.FrequencyManager;
 import mekanism.common.lib.frequency.FrequencyType;
 import mekanism.common.lib.multiblock.MultiblockCache;
@@ -70,6 +74,7 @@ import mekanism.common.network.to_client.PacketTransmitterUpdate;
 import mekanism.common.recipe.MekanismRecipeType;
 import mekanism.common.recipe.bin.BinInsertRecipe;
 import mekanism.common.recipe.condition.ModVersionLoadedCondition;
+import mekanism.common.recipe.lookup.monitor.RecipeSleepMetrics;
 import mekanism.common.registries.MekanismBiomeModifierSerializers;
 import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.registries.MekanismContainerTypes;
@@ -315,11 +320,16 @@ public class Mekanism {
 
         //Reset consistent managers
         QIOGlobalItemLookup.INSTANCE.reset();
+        QIODriveStorage.INSTANCE.reset();
+        QIODriveSaveScheduler.reset();
         RadiationManager.INSTANCE.reset();
         MultiblockManager.reset();
         FrequencyManager.reset();
         TransporterManager.reset();
+        ThreadMinerSearch.shutdown();
         PathfinderCache.reset();
+        RecipeSleepMetrics.reset();
+        ChunkTicketRegistry.reset();
         TransmitterNetworkRegistry.reset();
     }
 
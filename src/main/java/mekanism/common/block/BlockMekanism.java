@@ -37,6 +37,7 @@ import mekanism.common.tile.interfaces.ISideConfiguration;
 import mekanism.common.tile.interfaces.ISustainedData;
 import mekanism.common.tile.interfaces.ISustainedInventory;
 import mekanism.common.tile.interfaces.ITileRadioactive;
+import mekanism.common.tile.qio.TileEntityQIODriveArray;
 import mekanism.common.util.EnumUtils;
 import mekanism.common.util.ItemDataUtils;
 import mekanism.common.util.MekanismUtils;
@@ -185,6 +186,10 @@ public abstract class BlockMekanism extends Block {
                         }
                     }
                 }
+                //Make sure dropped drives don't refer to the drive storage that gets freed when the drive array is removed
+                if (mekTile instanceof TileEntityQIODriveArray) {
+                    drops.forEach(TileEntityQIODriveArray::copyDroppedDrives);
+                }
             }
         }
         return drops;
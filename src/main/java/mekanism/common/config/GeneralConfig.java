@@ -39,6 +39,7 @@ public class GeneralConfig extends BaseMekanismConfig {
     private static final String RADIATION_CATEGORY = "radiation";
     private static final String PREFILLED_CATEGORY = "prefilled";
     private static final String NUTRITIONAL_PASTE_CATEGORY = "nutritional_paste";
+    private static final String PERFORMANCE_CATEGORY = "performance";
 
     private final ForgeConfigSpec configSpec;
 
@@ -126,6 +127,15 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedIntValue spsInputPerAntimatter;
     public final CachedLongValue spsOutputTankCapacity;
     public final CachedFloatingLongValue spsEnergyPerInput;
+    //Performance
+    public final CachedBooleanValue parallelNetworkTicking;
+    public final CachedIntValue networkSplitSearchLimit;
+    public final CachedBooleanValue batchTransporterSync;
+    public final CachedBooleanValue qioMappedDriveStorage;
+    public final CachedIntValue qioDriveSaveDelay;
+    public final CachedIntValue qioDriveSaveBudget;
+    public final CachedIntValue qioViewerSyncRate;
+    public final CachedIntValue minerSearchThreads;
 
     GeneralConfig() {
         ForgeConfigSpec.Builder builder = new ForgeConfigSpec.Builder();
@@ -325,6 +335,25 @@ public class GeneralConfig extends BaseMekanismConfig {
               "energyPerInput", FloatingLong.createConst(1_000_000));
         builder.pop();
 
+        builder.comment("Performance Settings").push(PERFORMANCE_CATEGORY);
+        parallelNetworkTicking = CachedBooleanValue.wrap(this, builder.comment("Experimental: Prepare transmitter networks that do not share any acceptors in parallel, including checking which of their acceptors can accept anything. Transfers into acceptors are still performed on the server thread. Acceptors from other mods must support being simulated off the server thread, and results may differ slightly from when this is disabled if separate networks connect to different blocks of the same multiblock.")
+              .define("parallelNetworkTicking", false));
+        networkSplitSearchLimit = CachedIntValue.wrap(this, builder.comment("Maximum number of transmitters to check when a transmitter is removed to determine which part of the network got cut off, instead of re-forming the entire network. If exceeded the entire network is re-formed. Set to zero to always re-form the entire network.")
+              .defineInRange("networkSplitSearchLimit", 16_384, 0, Integer.MAX_VALUE));
+        batchTransporterSync = CachedBooleanValue.wrap(this, builder.comment("Send the changes to all logistical transporters in a network as a single compact packet per player each tick, rather than a packet per transporter change.")
+              .define("batchTransporterSync", true));
+        qioMappedDriveStorage = CachedBooleanValue.wrap(this, builder.comment("Experimental: Store the contents of QIO drives in a memory mapped file in the world's data folder, so that saving a drive only writes the item types that changed. Drives using this storage only keep their contents in the world they were saved in. Disabling this moves the contents of drives back onto the drive items the next time they are saved.")
+              .define("qioMappedDriveStorage", false));
+        qioDriveSaveDelay = CachedIntValue.wrap(this, builder.comment("Number of ticks to wait after the contents of a QIO drive change before saving them onto the drive. Drives are always saved when the world saves or the drive is removed.")
+              .defineInRange("qioDriveSaveDelay", 100, 0, 72_000));
+        qioDriveSaveBudget = CachedIntValue.wrap(this, builder.comment("Maximum number of item types to write when saving changed QIO drives each tick, drives that don't fit are saved in later ticks. At least one drive is always saved per tick.")
+              .defineInRange("qioDriveSaveBudget", 16_384, 1, Integer.MAX_VALUE));
+        qioViewerSyncRate = CachedIntValue.wrap(this, builder.comment("Approximate number of bytes per tick to send to each player viewing a QIO frequency while the items they can't see yet are still being sent to them. The items they can see when opening the viewer are always sent immediately.")
+              .defineInRange("qioViewerSyncRate", 32_768, 1_024, Integer.MAX_VALUE));
+        minerSearchThreads = CachedIntValue.wrap(this, builder.comment("Number of threads shared by all Digital Miners for searching for blocks to mine. Set to zero to use half of the available processors. Changes only apply after restarting the server.")
+              .defineInRange("minerSearchThreads", 0, 0, 64));
+        builder.pop();
+
         builder.pop();
         configSpec = builder.build();
     }
@@ -1,7 +1,9 @@
 package mekanism.common.content.matrix;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import mekanism.api.Action;
@@ -21,7 +23,14 @@ public class MatrixEnergyContainer implements IEnergyContainer {
 
     private final Map<BlockPos, InductionProviderTier> providers = new Object2ObjectOpenHashMap<>();
     private final Map<BlockPos, IEnergyContainer> cells = new Object2ObjectOpenHashMap<>();
+    /**
+     * Cells in the order they get filled. Once the energy is compacted all cells before the {@link #fillCursor} are full and all cells after it are empty, so that
+     * transfers only have to touch the cell at the cursor, and the cells next to it when they fill up or become empty.
+     */
+    private final List<IEnergyContainer> orderedCells = new ObjectArrayList<>();
     private final Set<BlockPos> invalidPositions = new ObjectOpenHashSet<>();
+    private int fillCursor;
+    private boolean needsCompacting;
 
     //TODO: Eventually we could look into extending FloatingLong to have a "BigInt" styled implementation that is used by the class
     // at the very least for keeping track of the cached values and rates
@@ -43,7 +52,10 @@ public class MatrixEnergyContainer implements IEnergyContainer {
     public void addCell(BlockPos pos, TileEntityInductionCell cell) {
         //As we already have the two different variables just pass them instead of accessing world to get tile again
         MachineEnergyContainer<TileEntityInductionCell> energyContainer = cell.getEnergyContainer();
-        cells.put(pos, energyContainer);
+        if (cells.put(pos, energyContainer) == null) {
+            orderedCells.add(energyContainer);
+            needsCompacting = true;
+        }
         storageCap = storageCap.plusEqual(energyContainer.getMaxEnergy());
         cachedTotal = cachedTotal.plusEqual(energyContainer.getEnergy());
     }
@@ -64,10 +76,9 @@ public class MatrixEnergyContainer implements IEnergyContainer {
                 transferCap = transferCap.minusEqual(providers.get(pos).getOutput());
             } else if (cells.containsKey(pos)) {
                 //It is a cell
-                //TODO: Handle this better, as I believe we *technically* could have this cause the cached total to become negative
-                // It may work better if we just flush the buffer writing immediately, and then recalculate the cached totals/caps
+                //Note: The cached total gets recalculated from the cells that remain when they are compacted next tick
                 IEnergyContainer cellContainer = cells.get(pos);
-                storageCap = storageCap.plusEqual(cellContainer.getMaxEnergy());
+                storageCap = storageCap.minusEqual(cellContainer.getMaxEnergy());
                 cachedTotal = cachedTotal.minusEqual(cellContainer.getEnergy());
             }
         }
@@ -78,6 +89,9 @@ public class MatrixEnergyContainer implements IEnergyContainer {
         tick();
         //And reset everything
         cells.clear();
+        orderedCells.clear();
+        fillCursor = 0;
+        needsCompacting = false;
         providers.clear();
         queuedOutput = FloatingLong.ZERO;
         queuedInput = FloatingLong.ZERO;
@@ -91,11 +105,18 @@ public class MatrixEnergyContainer implements IEnergyContainer {
     public void tick() {
         if (!invalidPositions.isEmpty()) {
             for (BlockPos invalidPosition : invalidPositions) {
-                cells.remove(invalidPosition);
+                IEnergyContainer cell = cells.remove(invalidPosition);
+                if (cell != null) {
+                    orderedCells.remove(cell);
+                    needsCompacting = true;
+                }
                 providers.remove(invalidPosition);
             }
             invalidPositions.clear();
         }
+        if (needsCompacting) {
+            compact();
+        }
         int compare = queuedInput.compareTo(queuedOutput);
         if (compare < 0) {
             //queuedInput is smaller - we are removing energy
@@ -110,35 +131,55 @@ public class MatrixEnergyContainer implements IEnergyContainer {
         queuedOutput = FloatingLong.ZERO;
     }
 
+    /**
+     * Moves the energy stored in the cells so that they are filled in order, and recalculates the total from what the cells actually contain. This only has to be done
+     * when the cells change, as from then on energy is only ever added to or removed from the boundary between the full and the empty cells.
+     */
+    private void compact() {
+        needsCompacting = false;
+        FloatingLong total = FloatingLong.ZERO;
+        for (IEnergyContainer cell : orderedCells) {
+            total = total.plusEqual(cell.getEnergy());
+        }
+        cachedTotal = total.copy();
+        fillCursor = -1;
+        for (int i = 0, size = orderedCells.size(); i < size; i++) {
+            IEnergyContainer cell = orderedCells.get(i);
+            FloatingLong stored = total.min(cell.getMaxEnergy()).copy();
+            //Note: setting the energy of the cell's energy container handles marking the cell for saving if it changes
+            cell.setEnergy(stored);
+            total = total.minusEqual(stored);
+            if (fillCursor == -1 && stored.smallerThan(cell.getMaxEnergy())) {
+                //First cell that isn't full
+                fillCursor = i;
+            }
+        }
+        if (fillCursor == -1) {
+            //All cells are full, or there aren't any cells
+            fillCursor = Math.max(0, orderedCells.size() - 1);
+        }
+    }
+
     private void addEnergy(FloatingLong energy) {
         cachedTotal = cachedTotal.plusEqual(energy);
-        for (IEnergyContainer container : cells.values()) {
+        for (int size = orderedCells.size(); fillCursor < size; fillCursor++) {
             //Note: inserting into the cell's energy container handles marking the cell for saving if it changes
-            FloatingLong remainder = container.insert(energy, Action.EXECUTE, AutomationType.INTERNAL);
-            if (remainder.smallerThan(energy)) {
-                //Our cell accepted at least some energy
-                if (remainder.isZero()) {
-                    //Check less than equal rather than just equal in case something went wrong
-                    // and break if we don't have any energy left to add
-                    break;
-                }
-                energy = remainder;
+            energy = orderedCells.get(fillCursor).insert(energy, Action.EXECUTE, AutomationType.INTERNAL);
+            if (energy.isZero() || fillCursor == size - 1) {
+                //Stop once we don't have any energy left to add, and keep the cursor on the last cell if we filled all of them
+                break;
             }
         }
     }
 
     private void removeEnergy(FloatingLong energy) {
         cachedTotal = cachedTotal.minusEqual(energy);
-        for (IEnergyContainer container : cells.values()) {
+        for (; fillCursor >= 0 && fillCursor < orderedCells.size(); fillCursor--) {
             //Note: extracting from the cell's energy container handles marking the cell for saving if it changes
-            FloatingLong extracted = container.extract(energy, Action.EXECUTE, AutomationType.INTERNAL);
-            if (!extracted.isZero()) {
-                energy = energy.minusEqual(extracted);
-                if (energy.isZero()) {
-                    //Check less than equal rather than just equal in case something went wrong
-                    // and break if we don't need to remove any more energy
-                    break;
-                }
+            energy = energy.minusEqual(orderedCells.get(fillCursor).extract(energy, Action.EXECUTE, AutomationType.INTERNAL));
+            if (energy.isZero() || fillCursor == 0) {
+                //Stop once we don't need to remove any more energy, and keep the cursor on the first cell if we emptied all of them
+                break;
             }
         }
     }
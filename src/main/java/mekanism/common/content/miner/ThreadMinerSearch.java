@@ -4,31 +4,51 @@ import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2BooleanMap;
 import it.unimi.dsi.fastutil.objects.Object2BooleanOpenHashMap;
+import java.util.ArrayList;
 import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
 import mekanism.api.annotations.NothingNullByDefault;
 import mekanism.api.math.MathUtils;
 import mekanism.api.text.IHasTextComponent;
 import mekanism.api.text.ILangEntry;
+import mekanism.common.Mekanism;
 import mekanism.common.MekanismLang;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.tags.MekanismTags;
 import mekanism.common.tile.TileEntityBoundingBlock;
 import mekanism.common.tile.machine.TileEntityDigitalMiner;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.network.chat.Component;
-import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.PathNavigationRegion;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import org.jetbrains.annotations.Nullable;
 
-public class ThreadMinerSearch extends Thread {
+/**
+ * Searches the area of a Digital Miner for blocks to mine. Searches are run on a shared bounded pool rather than on a thread per miner, and are split into one task per
+ * chunk section so that idle workers can steal sections from larger searches. Sections that only contain air, or whose palette doesn't contain any block the miner would
+ * mine, are skipped without looking at the individual blocks.
+ */
+public class ThreadMinerSearch {
+
+    @Nullable
+    private static ForkJoinPool pool;
 
     private final TileEntityDigitalMiner tile;
-    private final Long2ObjectMap<BitSet> oresToMine = new Long2ObjectOpenHashMap<>();
+    private final AtomicInteger foundCount = new AtomicInteger();
     private PathNavigationRegion chunkCache;
-    public State state = State.IDLE;
-    public int found = 0;
+    public volatile State state = State.IDLE;
+    private volatile boolean cancelled;
 
     public ThreadMinerSearch(TileEntityDigitalMiner tile) {
         this.tile = tile;
@@ -38,39 +58,169 @@ public class ThreadMinerSearch extends Thread {
         this.chunkCache = cache;
     }
 
-    @Override
-    public void run() {
+    /**
+     * @return The number of blocks that have been found so far.
+     */
+    public int getFound() {
+        return foundCount.get();
+    }
+
+    /**
+     * Queues the search on the shared search pool.
+     */
+    public void start() {
         state = State.SEARCHING;
+        getPool().execute(this::run);
+    }
+
+    /**
+     * Stops the search, if it is still running the results are discarded.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    private boolean isInvalid() {
+        //Make sure the miner is still valid and something hasn't gone wrong
+        return cancelled || tile.isRemoved() || tile.searcher != this;
+    }
+
+    private void run() {
         if (!tile.getInverse() && !tile.getFilterManager().hasEnabledFilters()) {
             state = State.FINISHED;
             return;
         }
-        Object2BooleanMap<Block> acceptedItems = new Object2BooleanOpenHashMap<>();
-        BlockPos pos = tile.getStartingPos();
+        BlockPos start = tile.getStartingPos();
         int diameter = tile.getDiameter();
-        int size = tile.getTotalSize();
-        Block info;
-        BlockPos minerPos = tile.getBlockPos();
-        for (int i = 0; i < size; i++) {
-            if (tile.isRemoved()) {
-                //Make sure the miner is still valid and something hasn't gone wrong
-                return;
+        int maxY = tile.getMaxY();
+        List<SectionSearch> sections = new ArrayList<>();
+        for (int chunkX = SectionPos.blockToSectionCoord(start.getX()), maxChunkX = SectionPos.blockToSectionCoord(start.getX() + diameter - 1); chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = SectionPos.blockToSectionCoord(start.getZ()), maxChunkZ = SectionPos.blockToSectionCoord(start.getZ() + diameter - 1); chunkZ <= maxChunkZ; chunkZ++) {
+                if (chunkCache.getChunkForCollisions(chunkX, chunkZ) instanceof ChunkAccess chunk) {
+                    for (int sectionY = SectionPos.blockToSectionCoord(start.getY()), maxSectionY = SectionPos.blockToSectionCoord(maxY); sectionY <= maxSectionY; sectionY++) {
+                        int sectionIndex = chunk.getSectionIndexFromSectionY(sectionY);
+                        if (sectionIndex >= 0 && sectionIndex < chunk.getSectionsCount()) {
+                            LevelChunkSection section = chunk.getSection(sectionIndex);
+                            if (!section.hasOnlyAir()) {
+                                sections.add(new SectionSearch(SectionPos.of(chunkX, sectionY, chunkZ), section, start, diameter, maxY));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        ForkJoinTask.invokeAll(sections);
+        if (isInvalid()) {
+            return;
+        }
+        Long2ObjectMap<BitSet> oresToMine = new Long2ObjectOpenHashMap<>();
+        for (SectionSearch section : sections) {
+            BitSet found = section.getRawResult();
+            if (found != null) {
+                BitSet chunkToMine = oresToMine.get(section.pos.chunk().toLong());
+                if (chunkToMine == null) {
+                    oresToMine.put(section.pos.chunk().toLong(), found);
+                } else {
+                    chunkToMine.or(found);
+                }
+            }
+        }
+        state = State.FINISHED;
+        chunkCache = null;
+        //Only update search if we are still valid and didn't get replaced due to a reset call
+        tile.updateFromSearch(oresToMine, foundCount.get());
+    }
+
+    private static ForkJoinPool getPool() {
+        if (pool == null) {
+            int threads = MekanismConfig.general.minerSearchThreads.get();
+            if (threads == 0) {
+                threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
             }
-            BlockPos testPos = TileEntityDigitalMiner.getOffsetForIndex(pos, diameter, i);
-            if (minerPos.equals(testPos) || WorldUtils.getTileEntity(TileEntityBoundingBlock.class, chunkCache, testPos) != null) {
-                //Skip the miner itself, and also skip any bounding blocks
-                continue;
+            pool = new ForkJoinPool(threads, p -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+                thread.setName("Mekanism Miner Search-" + thread.getPoolIndex());
+                thread.setDaemon(true);
+                return thread;
+            }, (thread, throwable) -> Mekanism.logger.error("Error searching for blocks to mine", throwable), true);
+        }
+        return pool;
+    }
+
+    public static void shutdown() {
+        if (pool != null) {
+            pool.shutdownNow();
+            pool = null;
+        }
+    }
+
+    /**
+     * Searches a single chunk section, resulting in the indices of the blocks to mine in the section, or {@code null} if there are none.
+     */
+    private class SectionSearch extends RecursiveTask<BitSet> {
+
+        private final SectionPos pos;
+        private final LevelChunkSection section;
+        private final BlockPos start;
+        private final int diameter;
+        private final int maxY;
+
+        private SectionSearch(SectionPos pos, LevelChunkSection section, BlockPos start, int diameter, int maxY) {
+            this.pos = pos;
+            this.section = section;
+            this.start = start;
+            this.diameter = diameter;
+            this.maxY = maxY;
+        }
+
+        @Override
+        protected BitSet compute() {
+            if (isInvalid()) {
+                return null;
             }
-            BlockState state = chunkCache.getBlockState(testPos);
-            if (state.isAir() || state.is(MekanismTags.Blocks.MINER_BLACKLIST) || state.getDestroySpeed(chunkCache, testPos) < 0) {
-                //Skip air, blacklisted blocks, and unbreakable blocks
-                continue;
+            Object2BooleanMap<Block> acceptedItems = new Object2BooleanOpenHashMap<>();
+            if (!section.getStates().maybeHas(state -> isMineable(state) && isAccepted(acceptedItems, state))) {
+                //Nothing in the palette of this section is something we would mine
+                return null;
             }
-            info = state.getBlock();
-            if (MekanismUtils.isLiquidBlock(info)) {//Skip liquids
-                continue;
+            BlockPos minerPos = tile.getBlockPos();
+            BlockPos.MutableBlockPos testPos = new BlockPos.MutableBlockPos();
+            BitSet found = null;
+            int minX = Math.max(start.getX(), pos.minBlockX()), maxX = Math.min(start.getX() + diameter - 1, pos.maxBlockX());
+            int minY = Math.max(start.getY(), pos.minBlockY()), maxBlockY = Math.min(maxY, pos.maxBlockY());
+            int minZ = Math.max(start.getZ(), pos.minBlockZ()), maxZ = Math.min(start.getZ() + diameter - 1, pos.maxBlockZ());
+            for (int y = minY; y <= maxBlockY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    for (int x = minX; x <= maxX; x++) {
+                        BlockState state = section.getBlockState(x & 15, y & 15, z & 15);
+                        if (!isMineable(state) || !isAccepted(acceptedItems, state)) {
+                            continue;
+                        }
+                        testPos.set(x, y, z);
+                        if (state.getDestroySpeed(chunkCache, testPos) < 0 || minerPos.equals(testPos) ||
+                            WorldUtils.getTileEntity(TileEntityBoundingBlock.class, chunkCache, testPos) != null) {
+                            //Skip unbreakable blocks, the miner itself, and also skip any bounding blocks
+                            continue;
+                        }
+                        if (found == null) {
+                            found = new BitSet();
+                        }
+                        //Note: This matches the index used by TileEntityDigitalMiner#getOffsetForIndex
+                        found.set(((y - start.getY()) * diameter + z - start.getZ()) * diameter + x - start.getX());
+                        foundCount.incrementAndGet();
+                    }
+                }
             }
-            boolean accepted = acceptedItems.computeIfAbsent(info, (Block block) -> {
+            return found;
+        }
+
+        private boolean isMineable(BlockState state) {
+            //Skip air, blacklisted blocks, and liquids
+            return !state.isAir() && !state.is(MekanismTags.Blocks.MINER_BLACKLIST) && !MekanismUtils.isLiquidBlock(state.getBlock());
+        }
+
+        private boolean isAccepted(Object2BooleanMap<Block> acceptedItems, BlockState state) {
+            return acceptedItems.computeIfAbsent(state.getBlock(), (Block block) -> {
                 if (tile.isReplaceTarget(block.asItem())) {
                     //If it is a replace target just mark it as never being accepted
                     return false;
@@ -78,18 +228,6 @@ public class ThreadMinerSearch extends Thread {
                 //Ensure that the inverse mode is the opposite of the filter match
                 return tile.getInverse() != tile.getFilterManager().anyEnabledMatch(filter -> filter.canFilter(state));
             });
-            if (accepted) {
-                long chunk = ChunkPos.asLong(testPos);
-                oresToMine.computeIfAbsent(chunk, k -> new BitSet()).set(i);
-                found++;
-            }
-        }
-
-        state = State.FINISHED;
-        chunkCache = null;
-        if (tile.searcher == this) {
-            //Only update search if we are still valid and didn't get replaced due to a reset call
-            tile.updateFromSearch(oresToMine, found);
         }
     }
 
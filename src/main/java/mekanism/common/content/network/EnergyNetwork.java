@@ -11,10 +11,11 @@ import mekanism.api.energy.IEnergyContainer;
 import mekanism.api.energy.IMekanismStrictEnergyHandler;
 import mekanism.api.energy.IStrictEnergyHandler;
 import mekanism.api.math.FloatingLong;
+import mekanism.api.math.FloatingLongAccumulator;
 import mekanism.common.MekanismLang;
 import mekanism.common.capabilities.energy.BasicEnergyContainer;
 import mekanism.common.capabilities.energy.VariableCapacityEnergyContainer;
-import mekanism.common.content.network.distribution.EnergyAcceptorTarget;
+import mekanism.common.content.network.distribution.EnergyAcceptorDistributor;
 import mekanism.common.content.network.distribution.EnergyTransmitterSaveTarget;
 import mekanism.common.content.network.transmitter.UniversalCable;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
@@ -30,9 +31,13 @@ import org.jetbrains.annotations.Nullable;
 public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler, EnergyNetwork, FloatingLong, UniversalCable> implements IMekanismStrictEnergyHandler {
 
     private final List<IEnergyContainer> energyContainers;
+    private final EnergyAcceptorDistributor distributor = new EnergyAcceptorDistributor();
+    private boolean acceptorsPrepared;
     public final VariableCapacityEnergyContainer energyContainer;
     private FloatingLong prevTransferAmount = FloatingLong.ZERO;
     private FloatingLong floatingLongCapacity = FloatingLong.ZERO;
+    //Note: Reused between calls to updateCapacity so that recalculating the capacity doesn't have to allocate
+    private final FloatingLongAccumulator capacitySum = new FloatingLongAccumulator();
 
     public EnergyNetwork(UUID networkID) {
         super(networkID);
@@ -102,12 +107,12 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
 
     @Override
     public synchronized void updateCapacity() {
-        FloatingLong sum = FloatingLong.ZERO;
+        capacitySum.setZero();
         for (UniversalCable transmitter : transmitters) {
-            sum = sum.plusEqual(transmitter.getCapacityAsFloatingLong());
+            capacitySum.plusEqual(transmitter.getCapacityAsFloatingLong());
         }
-        if (!floatingLongCapacity.equals(sum)) {
-            floatingLongCapacity = sum;
+        if (!capacitySum.valueEquals(floatingLongCapacity)) {
+            floatingLongCapacity = capacitySum.toFloatingLong();
             capacity = floatingLongCapacity.longValue();
         }
     }
@@ -127,19 +132,33 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
         }
     }
 
-    private FloatingLong tickEmit(FloatingLong energyToSend) {
-        Collection<Map<Direction, LazyOptional<IStrictEnergyHandler>>> acceptorValues = acceptorCache.getAcceptorValues();
-        EnergyAcceptorTarget target = new EnergyAcceptorTarget(acceptorValues.size() * 2);
-        for (Map<Direction, LazyOptional<IStrictEnergyHandler>> acceptors : acceptorValues) {
+    @Override
+    public void prepareAcceptors() {
+        super.prepareAcceptors();
+        if (!energyContainer.isEmpty()) {
+            collectAcceptors(energyContainer.getEnergy());
+            acceptorsPrepared = true;
+        }
+    }
+
+    private void collectAcceptors(FloatingLong energyToSend) {
+        //Note: We pass a constant copy so that acceptors can't modify our stored energy during distribution
+        distributor.prepare(energyToSend.copyAsConst());
+        for (Map<Direction, LazyOptional<IStrictEnergyHandler>> acceptors : acceptorCache.getAcceptorValues()) {
             for (LazyOptional<IStrictEnergyHandler> lazyAcceptor : acceptors.values()) {
-                lazyAcceptor.ifPresent(acceptor -> {
-                    if (acceptor.insertEnergy(energyToSend, Action.SIMULATE).smallerThan(energyToSend)) {
-                        target.addHandler(acceptor);
-                    }
-                });
+                distributor.addAcceptor(lazyAcceptor);
             }
         }
-        return EmitUtils.sendToAcceptors(target, energyToSend.copy());
+    }
+
+    private FloatingLong tickEmit(FloatingLong energyToSend) {
+        if (acceptorsPrepared) {
+            //The acceptors were already collected while the networks were being prepared in parallel
+            acceptorsPrepared = false;
+        } else {
+            collectAcceptors(energyToSend);
+        }
+        return distributor.distribute();
     }
 
     @Override
@@ -1,23 +1,27 @@
 package mekanism.common.content.network;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import mekanism.api.heat.HeatAPI;
-import mekanism.api.heat.HeatAPI.HeatTransfer;
 import mekanism.api.heat.IHeatHandler;
 import mekanism.common.MekanismLang;
 import mekanism.common.content.network.transmitter.ThermodynamicConductor;
 import mekanism.common.lib.transmitter.DynamicNetwork;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.UnitDisplayUtils.TemperatureUnit;
+import net.minecraft.core.Direction;
 import net.minecraft.network.chat.Component;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class HeatNetwork extends DynamicNetwork<IHeatHandler, HeatNetwork, ThermodynamicConductor> {
 
     private double meanTemp = HeatAPI.AMBIENT_TEMP;
     private double heatLost;
     private double heatTransferred;
+    @Nullable
+    private HeatNetworkSolver solver;
 
     public HeatNetwork(UUID networkID) {
         super(networkID);
@@ -47,24 +51,70 @@ public class HeatNetwork extends DynamicNetwork<IHeatHandler, HeatNetwork, Therm
     @Override
     public void onUpdate() {
         super.onUpdate();
-        double newSumTemp = 0, newHeatLost = 0, newHeatTransferred = 0;
-        for (ThermodynamicConductor transmitter : transmitters) {
-            HeatTransfer transfer = transmitter.simulate();
-            newHeatTransferred += transfer.adjacentTransfer();
-            newHeatLost += transfer.environmentTransfer();
+        if (solver == null || solver.size() != transmittersSize() || solver.connectionsChanged()) {
+            solver = new HeatNetworkSolver(transmitters);
         }
-        //After we updated the heat values of all the transmitters, we need to update the temperatures
-        // we do this after instead of when iterating initially so that if heat is transferred from one
-        // conductor to one we already updated then we want it to have the proper total temperature
-        for (ThermodynamicConductor transmitter : transmitters) {
-            transmitter.updateHeatCapacitors(null);
-            newSumTemp += transmitter.getTotalTemperature();
-        }
-        heatLost = newHeatLost;
-        heatTransferred = newHeatTransferred;
+        double newSumTemp = solver.solve();
+        heatLost = solver.getHeatLost();
+        heatTransferred = solver.getHeatTransferred();
         meanTemp = newSumTemp / transmittersSize();
     }
 
+    /**
+     * Marks the packed conductor data as outdated so that it gets rebuilt before the next update.
+     */
+    private void invalidateSolver() {
+        solver = null;
+    }
+
+    @Override
+    protected void validTransmittersAdded() {
+        super.validTransmittersAdded();
+        invalidateSolver();
+    }
+
+    @Override
+    public void addTransmitter(ThermodynamicConductor transmitter) {
+        super.addTransmitter(transmitter);
+        invalidateSolver();
+    }
+
+    @Override
+    public void removeTransmitter(ThermodynamicConductor transmitter) {
+        super.removeTransmitter(transmitter);
+        invalidateSolver();
+    }
+
+    @Override
+    protected void removeInvalid(@Nullable ThermodynamicConductor triggerTransmitter) {
+        super.removeInvalid(triggerTransmitter);
+        invalidateSolver();
+    }
+
+    @Override
+    protected void transmittersRemoved(List<ThermodynamicConductor> removed) {
+        super.transmittersRemoved(removed);
+        invalidateSolver();
+    }
+
+    @Override
+    public void acceptorChanged(ThermodynamicConductor transmitter, Direction side) {
+        super.acceptorChanged(transmitter, side);
+        invalidateSolver();
+    }
+
+    @Override
+    public List<ThermodynamicConductor> adoptTransmittersAndAcceptorsFrom(HeatNetwork net) {
+        invalidateSolver();
+        return super.adoptTransmittersAndAcceptorsFrom(net);
+    }
+
+    @Override
+    public void deregister() {
+        super.deregister();
+        invalidateSolver();
+    }
+
     @Override
     public String toString() {
         return "[HeatNetwork] " + transmittersSize() + " transmitters, " + getAcceptorCount() + " acceptors.";
@@ -0,0 +1,203 @@
+package mekanism.common.content.network;
+
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import java.util.Set;
+import mekanism.api.heat.HeatAPI;
+import mekanism.api.heat.IHeatHandler;
+import mekanism.common.content.network.transmitter.ThermodynamicConductor;
+import mekanism.common.tile.transmitter.TileEntityTransmitter;
+import mekanism.common.util.EnumUtils;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+/**
+ * Simulates the heat transfers of all the conductors in a {@link HeatNetwork} using flat primitive arrays that get built when the network changes. This performs the
+ * same calculations as {@link mekanism.common.capabilities.heat.ITileHeatHandler#simulate()} does for each conductor, but transfers between two conductors are looked up
+ * by index instead of resolving the adjacent capability, and the static per conductor values (capacity, conduction, and ambient temperatures) are only read once.
+ */
+class HeatNetworkSolver {
+
+    private static final int SIDES = EnumUtils.DIRECTIONS.length;
+    private static final int NO_TARGET = -1;
+
+    private final ThermodynamicConductor[] conductors;
+    private final double[] heatCapacity;
+    private final double[] inverseConduction;
+    /**
+     * Inverse of the total inverse conduction to the environment, so that it can be multiplied instead of divided.
+     */
+    private final double[] environmentConduction;
+    /**
+     * Ambient temperature of each side of each conductor, indexed by {@code conductor * SIDES + side}.
+     */
+    private final double[] ambientTemperature;
+    /**
+     * Links between two conductors, stored as the source conductor, the side, and the index of the target conductor.
+     */
+    private final int[] conductorLinks;
+    /**
+     * Links from a conductor to an acceptor that isn't part of the network, stored as the source conductor and the side.
+     */
+    private final int[] acceptorLinks;
+    /**
+     * Connections each conductor had when the links were built, so that we can tell when the links are outdated.
+     */
+    private final byte[] connections;
+    private final double[] temperature;
+    private final double[] heatChange;
+    private double heatTransferred;
+    private double heatLost;
+
+    HeatNetworkSolver(Set<ThermodynamicConductor> transmitters) {
+        int count = transmitters.size();
+        conductors = transmitters.toArray(new ThermodynamicConductor[0]);
+        heatCapacity = new double[count];
+        inverseConduction = new double[count];
+        environmentConduction = new double[count];
+        ambientTemperature = new double[count * SIDES];
+        temperature = new double[count];
+        heatChange = new double[count];
+        connections = new byte[count];
+        Reference2IntMap<ThermodynamicConductor> indices = new Reference2IntOpenHashMap<>(count);
+        indices.defaultReturnValue(NO_TARGET);
+        for (int i = 0; i < count; i++) {
+            indices.put(conductors[i], i);
+        }
+        int[] conductorLinks = new int[count * SIDES * 3];
+        int[] acceptorLinks = new int[count * SIDES * 2];
+        int conductorLinkCount = 0, acceptorLinkCount = 0;
+        for (int i = 0; i < count; i++) {
+            ThermodynamicConductor conductor = conductors[i];
+            //Note: Conductors have a single capacitor that is exposed on all sides, so we can just use the values for any side
+            heatCapacity[i] = conductor.getTotalHeatCapacity(null);
+            inverseConduction[i] = conductor.getTotalInverseConductionCoefficient(null);
+            environmentConduction[i] = 1 / (HeatAPI.AIR_INVERSE_COEFFICIENT + conductor.getTotalInverseInsulation(null) + inverseConduction[i]);
+            connections[i] = conductor.getAllCurrentConnections();
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                ambientTemperature[i * SIDES + side.ordinal()] = conductor.getAmbientTemperature(side);
+                if (conductor.getAdjacent(side) != null) {
+                    int target = NO_TARGET;
+                    BlockEntity adjacent = conductor.getAcceptorCache().getConnectedAcceptorTile(side);
+                    if (adjacent instanceof TileEntityTransmitter transmitterTile && transmitterTile.getTransmitter() instanceof ThermodynamicConductor adjacentConductor) {
+                        target = indices.getInt(adjacentConductor);
+                    }
+                    if (target == NO_TARGET) {
+                        acceptorLinks[acceptorLinkCount++] = i;
+                        acceptorLinks[acceptorLinkCount++] = side.ordinal();
+                    } else {
+                        conductorLinks[conductorLinkCount++] = i;
+                        conductorLinks[conductorLinkCount++] = side.ordinal();
+                        conductorLinks[conductorLinkCount++] = target;
+                    }
+                }
+            }
+        }
+        this.conductorLinks = trim(conductorLinks, conductorLinkCount);
+        this.acceptorLinks = trim(acceptorLinks, acceptorLinkCount);
+    }
+
+    private static int[] trim(int[] array, int length) {
+        if (array.length == length) {
+            return array;
+        }
+        int[] trimmed = new int[length];
+        System.arraycopy(array, 0, trimmed, 0, length);
+        return trimmed;
+    }
+
+    int size() {
+        return conductors.length;
+    }
+
+    /**
+     * Checks if any of the conductors have connected or disconnected a side since the links were built, for example due to a redstone change or the side being
+     * configured, as changing connections doesn't notify the network.
+     *
+     * @return {@code true} if the links are outdated and this solver needs to be rebuilt.
+     */
+    boolean connectionsChanged() {
+        for (int i = 0; i < conductors.length; i++) {
+            if (conductors[i].getAllCurrentConnections() != connections[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    double getHeatTransferred() {
+        return heatTransferred;
+    }
+
+    double getHeatLost() {
+        return heatLost;
+    }
+
+    /**
+     * Simulates the heat transfers for this tick and applies them to the conductors.
+     *
+     * @return The sum of the temperatures of all the conductors after the transfers have been applied.
+     */
+    double solve() {
+        int count = conductors.length;
+        for (int i = 0; i < count; i++) {
+            temperature[i] = conductors[i].buffer.getHeat() / heatCapacity[i];
+        }
+        double lost = 0;
+        for (int i = 0; i < count; i++) {
+            double temp = temperature[i];
+            double change = 0;
+            for (int side = 0, ambientIndex = i * SIDES; side < SIDES; side++, ambientIndex++) {
+                double tempToTransfer = (temp - ambientTemperature[ambientIndex]) * environmentConduction[i];
+                change -= tempToTransfer * heatCapacity[i];
+                if (tempToTransfer > 0) {
+                    //Only count it towards environmental loss if it is hotter than the ambient temperature
+                    lost += tempToTransfer;
+                }
+            }
+            heatChange[i] = change;
+        }
+        double transferred = 0;
+        for (int link = 0; link < conductorLinks.length; link += 3) {
+            int source = conductorLinks[link];
+            int target = conductorLinks[link + 2];
+            double tempToTransfer = (temperature[source] - ambientTemperature[source * SIDES + conductorLinks[link + 1]]) /
+                                    (inverseConduction[target] + inverseConduction[source]);
+            double heatToTransfer = tempToTransfer * heatCapacity[source];
+            heatChange[source] -= heatToTransfer;
+            heatChange[target] += heatToTransfer;
+            if (tempToTransfer <= 0) {
+                //Note: Heat transfers from one conductor to another don't count as adjacent transfer if they are positive
+                transferred += tempToTransfer;
+            }
+        }
+        for (int link = 0; link < acceptorLinks.length; link += 2) {
+            int source = acceptorLinks[link];
+            int side = acceptorLinks[link + 1];
+            ThermodynamicConductor conductor = conductors[source];
+            Direction direction = EnumUtils.DIRECTIONS[side];
+            IHeatHandler sink = conductor.getAdjacent(direction);
+            if (sink != null) {
+                double tempToTransfer = (temperature[source] - ambientTemperature[source * SIDES + side]) / (sink.getTotalInverseConduction() + inverseConduction[source]);
+                double heatToTransfer = tempToTransfer * heatCapacity[source];
+                heatChange[source] -= heatToTransfer;
+                //Note: Our sinks in mek are "lazy" but they will update the next tick if needed
+                sink.handleHeat(heatToTransfer);
+                transferred = conductor.incrementAdjacentTransfer(transferred, tempToTransfer, direction);
+            }
+        }
+        double sumTemp = 0;
+        for (int i = 0; i < count; i++) {
+            ThermodynamicConductor conductor = conductors[i];
+            if (heatChange[i] != 0) {
+                conductor.buffer.handleHeat(heatChange[i]);
+            }
+            //Update the capacitor even if we didn't change the heat, as other handlers may have transferred heat to it
+            conductor.updateHeatCapacitors(null);
+            sumTemp += conductor.buffer.getTemperature();
+        }
+        heatTransferred = transferred;
+        heatLost = lost;
+        return sumTemp;
+    }
+}
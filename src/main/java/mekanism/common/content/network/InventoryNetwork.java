@@ -21,6 +21,7 @@ import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.content.transporter.TransporterStack;
+import mekanism.common.content.transporter.TransporterSyncBatch;
 import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
 import mekanism.common.lib.transmitter.DynamicNetwork;
@@ -40,6 +41,7 @@ import org.jetbrains.annotations.Nullable;
 public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetwork, LogisticalTransporterBase> {
 
     private final Map<BlockPos, LogisticalTransporterBase> positionedTransmitters = new Object2ObjectOpenHashMap<>();
+    private final TransporterSyncBatch syncBatch = new TransporterSyncBatch();
 
     public InventoryNetwork(UUID networkID) {
         super(networkID);
@@ -165,6 +167,21 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
         }
     }
 
+    @Override
+    protected void removeSplitTransmitter(LogisticalTransporterBase transmitter) {
+        super.removeSplitTransmitter(transmitter);
+        removePositionedTransmitter(transmitter);
+    }
+
+    @Override
+    protected void transmittersRemoved(List<LogisticalTransporterBase> removed) {
+        super.transmittersRemoved(removed);
+        // only invalidate the cached paths that went through the removed transmitters as the rest of the network is unchanged
+        for (LogisticalTransporterBase transmitter : removed) {
+            PathfinderCache.onChanged(this, transmitter.getTilePos());
+        }
+    }
+
     @Override
     public List<LogisticalTransporterBase> adoptTransmittersAndAcceptorsFrom(InventoryNetwork net) {
         positionedTransmitters.putAll(net.positionedTransmitters);
@@ -178,9 +195,24 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
         PathfinderCache.onChanged(this);
     }
 
+    /**
+     * @return The batch that changes to the stacks in this network's transporters should be synced to the client with.
+     */
+    public TransporterSyncBatch getSyncBatch() {
+        return syncBatch;
+    }
+
+    @Override
+    public void onUpdate() {
+        super.onUpdate();
+        syncBatch.send(getWorld());
+    }
+
     @Override
     public void deregister() {
         super.deregister();
+        //Make sure any changes that haven't been sent yet don't get lost
+        syncBatch.send(getWorld());
         positionedTransmitters.clear();
         // update the cache when the network has been removed (when transmitters are removed)
         PathfinderCache.onChanged(this);
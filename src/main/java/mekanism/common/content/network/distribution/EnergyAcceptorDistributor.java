@@ -0,0 +1,201 @@
+package mekanism.common.content.network.distribution;
+
+import java.util.Arrays;
+import mekanism.api.Action;
+import mekanism.api.energy.IStrictEnergyHandler;
+import mekanism.api.math.FloatingLong;
+import mekanism.api.math.FloatingLongAccumulator;
+import mekanism.common.content.network.EnergyNetwork;
+import mekanism.common.lib.distribution.FloatingLongSplitInfo;
+import mekanism.common.util.EmitUtils;
+import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.common.util.NonNullConsumer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Primitive based equivalent of using an {@link EnergyAcceptorTarget} with {@link EmitUtils#sendToAcceptors(mekanism.common.lib.distribution.Target, FloatingLong)}.
+ * The split is tracked using {@link FloatingLongAccumulator}s rather than as {@link FloatingLong}s, and the handler and needed arrays are reused between ticks so that an
+ * {@link EnergyNetwork} does not have to create a new target and split info every time it emits.
+ *
+ * @implNote The split produced by this is identical to the one produced by {@link FloatingLongSplitInfo}, so any changes to how that splits should also be reflected
+ * here.
+ */
+public class EnergyAcceptorDistributor {
+
+    private final NonNullConsumer<IStrictEnergyHandler> acceptorCollector = this::collect;
+    //Split information
+    private final FloatingLongAccumulator amountToSplit = new FloatingLongAccumulator();
+    private final FloatingLongAccumulator amountPerTarget = new FloatingLongAccumulator();
+    private final FloatingLongAccumulator lastAmountPerTarget = new FloatingLongAccumulator();
+    private final FloatingLongAccumulator sentSoFar = new FloatingLongAccumulator();
+    private final FloatingLongAccumulator scratch = new FloatingLongAccumulator();
+    private int toSplitAmong;
+    private boolean amountPerChanged;
+
+    //Handlers
+    private IStrictEnergyHandler[] handlers = new IStrictEnergyHandler[8];
+    private int handlerCount;
+    /**
+     * Indices into {@link #handlers} of the handlers that want more than we can/are willing to provide, and the amount they want.
+     */
+    private int[] needed = new int[4];
+    private long[] neededValue = new long[4];
+    private short[] neededDecimal = new short[4];
+    private int neededCount;
+    @NotNull
+    private FloatingLong toSend = FloatingLong.ZERO;
+
+    /**
+     * Prepares this distributor for collecting handlers that can accept some of the given amount.
+     *
+     * @param toSend The amount that will be distributed.
+     */
+    public void prepare(@NotNull FloatingLong toSend) {
+        clear();
+        this.toSend = toSend;
+    }
+
+    /**
+     * Adds the acceptor if it is present and is willing to accept at least some of the amount that is being distributed.
+     */
+    public void addAcceptor(LazyOptional<IStrictEnergyHandler> lazyAcceptor) {
+        lazyAcceptor.ifPresent(acceptorCollector);
+    }
+
+    private void collect(@NotNull IStrictEnergyHandler acceptor) {
+        if (acceptor.insertEnergy(toSend, Action.SIMULATE).smallerThan(toSend)) {
+            addHandler(acceptor);
+        }
+    }
+
+    public void addHandler(IStrictEnergyHandler handler) {
+        if (handlerCount == handlers.length) {
+            handlers = Arrays.copyOf(handlers, handlerCount * 2);
+        }
+        handlers[handlerCount++] = handler;
+    }
+
+    public int getHandlerCount() {
+        return handlerCount;
+    }
+
+    /**
+     * Distributes the amount passed to {@link #prepare(FloatingLong)} fairly among the handlers that have been added.
+     *
+     * @return The amount that actually got sent.
+     */
+    public FloatingLong distribute() {
+        try {
+            if (handlerCount == 0) {
+                return FloatingLong.ZERO;
+            }
+            amountToSplit.set(toSend);
+            toSplitAmong = handlerCount;
+            amountPerTarget.set(amountToSplit);
+            amountPerTarget.divideEquals(toSplitAmong);
+            sentSoFar.setZero();
+            amountPerChanged = false;
+
+            sendPossible();
+            while (amountPerChanged) {
+                amountPerChanged = false;
+                shiftNeeded();
+            }
+            sendRemainingSplit();
+            return sentSoFar.toFloatingLong();
+        } finally {
+            //Don't hold onto references of the handlers between ticks
+            clear();
+        }
+    }
+
+    private void clear() {
+        Arrays.fill(handlers, 0, handlerCount, null);
+        handlerCount = 0;
+        neededCount = 0;
+        toSend = FloatingLong.ZERO;
+    }
+
+    /**
+     * @see mekanism.common.lib.distribution.Target#sendPossible(Object, mekanism.common.lib.distribution.SplitInfo)
+     */
+    private void sendPossible() {
+        for (int i = 0; i < handlerCount; i++) {
+            IStrictEnergyHandler handler = handlers[i];
+            scratch.set(toSend);
+            scratch.minusEqual(handler.insertEnergy(toSend, Action.SIMULATE));
+            if (scratch.compareTo(amountPerTarget) <= 0) {
+                acceptAmount(handler, scratch);
+            } else {
+                addNeeded(i, scratch);
+            }
+        }
+    }
+
+    /**
+     * @see mekanism.common.lib.distribution.Target#shiftNeeded(mekanism.common.lib.distribution.SplitInfo)
+     */
+    private void shiftNeeded() {
+        //Compact the needed arrays as we go so that the order of the remaining entries is maintained
+        int remaining = 0;
+        for (int i = 0; i < neededCount; i++) {
+            scratch.set(neededValue[i], neededDecimal[i]);
+            if (scratch.compareTo(amountPerTarget) <= 0) {
+                acceptAmount(handlers[needed[i]], scratch);
+            } else {
+                needed[remaining] = needed[i];
+                neededValue[remaining] = neededValue[i];
+                neededDecimal[remaining] = neededDecimal[i];
+                remaining++;
+            }
+        }
+        neededCount = remaining;
+    }
+
+    /**
+     * @see mekanism.common.lib.distribution.Target#sendRemainingSplit(mekanism.common.lib.distribution.SplitInfo)
+     */
+    private void sendRemainingSplit() {
+        for (int i = 0; i < neededCount; i++) {
+            acceptAmount(handlers[needed[i]], amountPerTarget);
+        }
+    }
+
+    private void addNeeded(int handlerIndex, FloatingLongAccumulator amount) {
+        if (neededCount == needed.length) {
+            int newLength = neededCount * 2;
+            needed = Arrays.copyOf(needed, newLength);
+            neededValue = Arrays.copyOf(neededValue, newLength);
+            neededDecimal = Arrays.copyOf(neededDecimal, newLength);
+        }
+        needed[neededCount] = handlerIndex;
+        neededValue[neededCount] = amount.getValue();
+        neededDecimal[neededCount] = amount.getDecimal();
+        neededCount++;
+    }
+
+    private void acceptAmount(IStrictEnergyHandler handler, FloatingLongAccumulator amount) {
+        FloatingLong toInsert = amount.toFloatingLong();
+        scratch.set(toInsert);
+        scratch.minusEqual(handler.insertEnergy(toInsert, Action.EXECUTE));
+        send(scratch);
+    }
+
+    /**
+     * @see FloatingLongSplitInfo#send(FloatingLong)
+     */
+    private void send(FloatingLongAccumulator amountNeeded) {
+        amountToSplit.minusEqual(amountNeeded);
+        sentSoFar.plusEqual(amountNeeded);
+        toSplitAmong--;
+        //Only recalculate it if it is not willing to accept/doesn't want the full per side split
+        if (!amountNeeded.valueEquals(amountPerTarget) && toSplitAmong != 0) {
+            lastAmountPerTarget.set(amountPerTarget);
+            amountPerTarget.set(amountToSplit);
+            amountPerTarget.divideEquals(toSplitAmong);
+            if (!amountPerChanged && !amountPerTarget.valueEquals(lastAmountPerTarget)) {
+                amountPerChanged = true;
+            }
+        }
+    }
+}
@@ -45,6 +45,7 @@ public class LogisticalTransporter extends LogisticalTransporterBase implements
     @Override
     public InteractionResult onConfigure(Player player, Direction side) {
         TransporterUtils.incrementColor(this);
+        //Changing the color can both block paths through this transporter and open up shorter paths that were blocked before, so invalidate all the paths
         PathfinderCache.onChanged(getTransmitterNetwork());
         getTransmitterTile().sendUpdatePacket();
         EnumColor color = getColor();
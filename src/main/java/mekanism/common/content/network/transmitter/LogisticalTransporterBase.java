@@ -9,9 +9,11 @@ import java.util.Collections;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.IntConsumer;
+import mekanism.api.MekanismAPI;
 import mekanism.api.NBTConstants;
 import mekanism.api.text.EnumColor;
 import mekanism.common.Mekanism;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.content.transporter.TransporterStack;
@@ -32,7 +34,9 @@ import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraftforge.common.capabilities.ForgeCapabilities;
 import net.minecraftforge.items.IItemHandler;
@@ -242,7 +246,11 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
 
                 if (!deletes.isEmpty() || !needsSync.isEmpty()) {
                     //Notify clients, so that we send the information before we start clearing our lists
-                    Mekanism.packetHandler().sendToAllTracking(new PacketTransporterUpdate(this, needsSync, deletes), getTransmitterTile());
+                    if (MekanismConfig.general.batchTransporterSync.get()) {
+                        network.getSyncBatch().add(this, needsSync, deletes);
+                    } else {
+                        sendToAllTracking(new PacketTransporterUpdate(this, needsSync, deletes));
+                    }
                     // Now remove any entries from transit that have been deleted
                     deletes.forEach((IntConsumer) (this::deleteStack));
 
@@ -423,13 +431,27 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
             if (doEmit) {
                 int stackId = nextId++;
                 addStack(stackId, stack);
-                Mekanism.packetHandler().sendToAllTracking(new PacketTransporterUpdate(this, stackId, stack), getTransmitterTile());
+                InventoryNetwork network = getTransmitterNetwork();
+                if (network != null && MekanismConfig.general.batchTransporterSync.get()) {
+                    network.getSyncBatch().add(this, stackId, stack);
+                } else {
+                    sendToAllTracking(new PacketTransporterUpdate(this, stackId, stack));
+                }
                 getTransmitterTile().markForSave();
             }
         }
         return response;
     }
 
+    private void sendToAllTracking(PacketTransporterUpdate packet) {
+        TileEntityTransmitter tile = getTransmitterTile();
+        if (MekanismAPI.debug && tile.getLevel() instanceof ServerLevel level) {
+            //Count the packet once per player it is sent to, the same as batched updates are counted
+            PacketTransporterUpdate.trackSent(packet, level.getChunkSource().chunkMap.getPlayers(new ChunkPos(tile.getBlockPos()), false).size());
+        }
+        Mekanism.packetHandler().sendToAllTracking(packet, tile);
+    }
+
     private void entityEntering(TransporterStack stack, int progress) {
         // Update the progress of the stack and add it as something that's both
         // in transit and needs sync down to the client.
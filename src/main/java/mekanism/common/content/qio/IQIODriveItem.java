@@ -3,11 +3,20 @@ package mekanism.common.content.qio;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMap.Entry;
 import java.util.UUID;
+import mekanism.api.Coord4D;
 import mekanism.api.NBTConstants;
+import mekanism.api.inventory.IInventorySlot;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.util.ItemDataUtils;
+import mekanism.common.util.WorldUtils;
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.Tag;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraftforge.server.ServerLifecycleHooks;
+import org.jetbrains.annotations.Nullable;
 
 public interface IQIODriveItem {
 
@@ -16,7 +25,23 @@ public interface IQIODriveItem {
     }
 
     default void loadItemMap(ItemStack stack, QIODriveData data) {
-        if (hasStoredItemMap(stack)) {
+        UUID driveId = ItemDataUtils.getUniqueID(stack, NBTConstants.QIO_DRIVE_ID);
+        Object2LongMap<UUID> storedItems = null;
+        if (driveId != null) {
+            storedItems = QIODriveStorage.INSTANCE.getDrive(driveId);
+            claimDrive(stack, driveId, data.getKey().holder(), storedItems);
+        }
+        if (storedItems != null) {
+            //The contents of the drive are kept in the mapped drive storage
+            Object2LongMap<HashedItem> itemMap = data.getItemMap();
+            for (Entry<UUID> entry : storedItems.object2LongEntrySet()) {
+                HashedItem type = QIOGlobalItemLookup.INSTANCE.getTypeByUUID(entry.getKey());
+                if (type != null) {
+                    itemMap.put(type, entry.getLongValue());
+                }
+            }
+            data.setTrackingChanges(true);
+        } else if (hasStoredItemMap(stack)) {
             Object2LongMap<HashedItem> itemMap = data.getItemMap();
             long[] array = ItemDataUtils.getLongArray(stack, NBTConstants.QIO_ITEM_MAP);
             if (array.length % 3 == 0) {
@@ -41,6 +66,17 @@ public interface IQIODriveItem {
      * array of items to in the drive. For our max drive size this is equivalent to {@code 3 * 8,192 * 8 + 4 = 196,612} bytes.
      */
     default void writeItemMap(ItemStack stack, QIODriveData map) {
+        UUID driveId = ItemDataUtils.getUniqueID(stack, NBTConstants.QIO_DRIVE_ID);
+        if (MekanismConfig.general.qioMappedDriveStorage.get() && QIODriveStorage.INSTANCE.ensureCreated()) {
+            writeMappedItemMap(stack, driveId, map);
+            return;
+        } else if (driveId != null) {
+            //Move the contents back onto the stack
+            QIODriveStorage.INSTANCE.clearDrive(driveId);
+            ItemDataUtils.removeData(stack, NBTConstants.QIO_DRIVE_ID);
+            ItemDataUtils.removeData(stack, NBTConstants.QIO_DRIVE_OWNER);
+        }
+        map.setTrackingChanges(false);
         int i = 0;
         Object2LongMap<HashedItem> itemMap = map.getItemMap();
         long[] serializedMap = new long[3 * itemMap.size()];
@@ -53,6 +89,120 @@ public interface IQIODriveItem {
         ItemDataUtils.setLongArrayOrRemove(stack, NBTConstants.QIO_ITEM_MAP, serializedMap);
     }
 
+    /**
+     * Moves the contents of a drive that is being removed from its holder out of the {@link QIODriveStorage} and back onto the stack, and frees the records of the drive.
+     * This makes sure that drives outside of holders can be freely copied, destroyed, or voided without leaving anything behind in the storage.
+     */
+    default void detachFromStorage(ItemStack stack) {
+        UUID driveId = copyFromStorage(stack);
+        if (driveId != null) {
+            QIODriveStorage.INSTANCE.clearDrive(driveId);
+        }
+    }
+
+    /**
+     * Copies the contents of a drive from the {@link QIODriveStorage} onto the stack without freeing the records of the drive, for when the stack is a copy of a drive
+     * that is still in its holder.
+     *
+     * @return The id the drive was stored under, or {@code null} if the drive was not in the storage.
+     */
+    @Nullable
+    default UUID copyFromStorage(ItemStack stack) {
+        UUID driveId = ItemDataUtils.getUniqueID(stack, NBTConstants.QIO_DRIVE_ID);
+        if (driveId != null) {
+            Object2LongMap<UUID> storedItems = QIODriveStorage.INSTANCE.getDrive(driveId);
+            if (storedItems != null) {
+                int i = 0;
+                long[] serializedMap = new long[3 * storedItems.size()];
+                for (Entry<UUID> entry : storedItems.object2LongEntrySet()) {
+                    UUID uuid = entry.getKey();
+                    serializedMap[i++] = uuid.getMostSignificantBits();
+                    serializedMap[i++] = uuid.getLeastSignificantBits();
+                    serializedMap[i++] = entry.getLongValue();
+                }
+                ItemDataUtils.setLongArrayOrRemove(stack, NBTConstants.QIO_ITEM_MAP, serializedMap);
+            }
+            ItemDataUtils.removeData(stack, NBTConstants.QIO_DRIVE_ID);
+            ItemDataUtils.removeData(stack, NBTConstants.QIO_DRIVE_OWNER);
+        }
+        return driveId;
+    }
+
+    /**
+     * Writes the item map to the {@link QIODriveStorage}, only writing the types that changed since the last save if the drive was already stored there.
+     */
+    private void writeMappedItemMap(ItemStack stack, @Nullable UUID driveId, QIODriveData map) {
+        Object2LongMap<HashedItem> itemMap = map.getItemMap();
+        if (driveId == null || !map.isTrackingChanges()) {
+            if (driveId == null) {
+                driveId = UUID.randomUUID();
+                ItemDataUtils.setUUID(stack, NBTConstants.QIO_DRIVE_ID, driveId);
+                ItemDataUtils.setCompound(stack, NBTConstants.QIO_DRIVE_OWNER, getOwner(map.getKey().holder()).write(new CompoundTag()));
+            } else {
+                //Make sure there are no stale types left from a previous time the drive was stored in the mapped storage
+                QIODriveStorage.INSTANCE.clearDrive(driveId);
+            }
+            for (Entry<HashedItem> entry : itemMap.object2LongEntrySet()) {
+                QIODriveStorage.INSTANCE.write(driveId, QIOGlobalItemLookup.INSTANCE.getOrTrackUUID(entry.getKey()), entry.getLongValue());
+            }
+            ItemDataUtils.removeData(stack, NBTConstants.QIO_ITEM_MAP);
+        } else {
+            for (HashedItem type : map.getChangedTypes()) {
+                QIODriveStorage.INSTANCE.write(driveId, QIOGlobalItemLookup.INSTANCE.getOrTrackUUID(type), itemMap.getLong(type));
+            }
+        }
+        map.setTrackingChanges(true);
+    }
+
+    /**
+     * Makes sure a drive that is stored in the mapped storage is owned by the holder it is being loaded into. If the drive was copied from a holder that still has the
+     * original drive, for example by copying the entire drive array, the copy is given its own id so that the two drives don't share their contents. Otherwise, such as
+     * when the drive array was dropped with its drives inside and placed somewhere else, the new holder takes over the existing id.
+     */
+    private static void claimDrive(ItemStack stack, UUID driveId, IQIODriveHolder holder, @Nullable Object2LongMap<UUID> storedItems) {
+        Coord4D owner = getOwner(holder);
+        if (ItemDataUtils.hasData(stack, NBTConstants.QIO_DRIVE_OWNER, Tag.TAG_COMPOUND)) {
+            Coord4D previousOwner = Coord4D.read(ItemDataUtils.getCompound(stack, NBTConstants.QIO_DRIVE_OWNER));
+            if (!owner.equals(previousOwner) && mayStillOwn(previousOwner, driveId)) {
+                UUID copyId = UUID.randomUUID();
+                if (storedItems != null) {
+                    for (Entry<UUID> entry : storedItems.object2LongEntrySet()) {
+                        QIODriveStorage.INSTANCE.write(copyId, entry.getKey(), entry.getLongValue());
+                    }
+                }
+                ItemDataUtils.setUUID(stack, NBTConstants.QIO_DRIVE_ID, copyId);
+            }
+        }
+        ItemDataUtils.setCompound(stack, NBTConstants.QIO_DRIVE_OWNER, owner.write(new CompoundTag()));
+    }
+
+    /**
+     * @return {@code true} if the holder at the given position has a drive with the given id, or if we can't tell because the position isn't loaded.
+     *
+     * @implNote If we can't tell we assume it is still owned, as giving a moved drive a new id only leaves the old records behind, while sharing the id of a copied drive
+     * would let the two drives change each other's contents.
+     */
+    private static boolean mayStillOwn(Coord4D owner, UUID driveId) {
+        ServerLevel level = ServerLifecycleHooks.getCurrentServer().getLevel(owner.dimension);
+        if (level == null) {
+            //The dimension no longer exists
+            return false;
+        } else if (!WorldUtils.isBlockLoaded(level, owner.getPos())) {
+            return true;
+        } else if (WorldUtils.getTileEntity(level, owner.getPos()) instanceof IQIODriveHolder previousHolder) {
+            for (IInventorySlot slot : previousHolder.getDriveSlots()) {
+                if (driveId.equals(ItemDataUtils.getUniqueID(slot.getStack(), NBTConstants.QIO_DRIVE_ID))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static Coord4D getOwner(IQIODriveHolder holder) {
+        return new Coord4D((BlockEntity) holder);
+    }
+
     long getCountCapacity(ItemStack stack);
 
     int getTypeCapacity(ItemStack stack);
@@ -2,6 +2,8 @@ package mekanism.common.content.qio;
 
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.Set;
 import mekanism.api.Action;
 import mekanism.common.Mekanism;
 import mekanism.common.content.qio.IQIODriveItem.DriveMetadata;
@@ -14,6 +16,12 @@ public class QIODriveData {
     private final long countCapacity;
     private final int typeCapacity;
     private final Object2LongMap<HashedItem> itemMap = new Object2LongOpenHashMap<>();
+    /**
+     * Types whose stored amount changed since the drive was last saved, only tracked while {@link #isTrackingChanges()} is {@code true}.
+     */
+    private final Set<HashedItem> changedTypes = new ObjectOpenHashSet<>();
+    private boolean trackingChanges;
+    private boolean dirty;
     private long itemCount;
 
     public QIODriveData(QIODriveKey key) {
@@ -41,6 +49,7 @@ public class QIODriveData {
         if (action.execute()) {
             itemMap.put(type, stored + toAdd);
             itemCount += toAdd;
+            markChanged(type);
             key.updateMetadata(this);
             key.dataUpdate();
         }
@@ -58,12 +67,64 @@ public class QIODriveData {
                 itemMap.removeLong(type);
             }
             itemCount -= removed;
+            markChanged(type);
             key.updateMetadata(this);
             key.dataUpdate();
         }
         return removed;
     }
 
+    private void markChanged(HashedItem type) {
+        if (trackingChanges) {
+            changedTypes.add(type);
+        }
+        if (!dirty) {
+            dirty = true;
+            QIODriveSaveScheduler.markDirty(this);
+        }
+    }
+
+    /**
+     * @return {@code true} if the contents of the drive changed since it was last saved.
+     */
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * @return The number of item types that will be written when this drive is saved.
+     */
+    public int getEntriesToSave() {
+        return trackingChanges ? changedTypes.size() : itemMap.size();
+    }
+
+    /**
+     * Saves the contents of this drive onto the drive stack.
+     */
+    public void save() {
+        key.updateMetadata(this);
+        key.save(this);
+    }
+
+    /**
+     * @return {@code true} if the types that changed since the last save are being tracked, so that only those need to be written when saving.
+     */
+    public boolean isTrackingChanges() {
+        return trackingChanges;
+    }
+
+    /**
+     * Sets whether the types that change should be tracked, and resets the types that have been tracked so far. Called after the drive has been saved or loaded.
+     */
+    public void setTrackingChanges(boolean trackingChanges) {
+        this.trackingChanges = trackingChanges;
+        changedTypes.clear();
+    }
+
+    public Set<HashedItem> getChangedTypes() {
+        return changedTypes;
+    }
+
     public long getStored(HashedItem type) {
         return itemMap.getOrDefault(type, 0L);
     }
@@ -96,6 +157,8 @@ public class QIODriveData {
 
         public void save(QIODriveData data) {
             holder.save(driveSlot, data);
+            data.dirty = false;
+            QIODriveSaveScheduler.markSaved(data);
         }
 
         public void dataUpdate() {
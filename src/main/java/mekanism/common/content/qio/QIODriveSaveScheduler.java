@@ -0,0 +1,74 @@
+package mekanism.common.content.qio;
+
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.Reference2LongLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongMap;
+import mekanism.api.MekanismAPI;
+import mekanism.common.Mekanism;
+import mekanism.common.config.MekanismConfig;
+
+/**
+ * Saves the contents of QIO drives that have changed onto the drives, spread across multiple ticks. Drives are saved in the order they first changed in, once they have
+ * been dirty for the configured delay, and only as many as fit in the per tick budget of item types to write.
+ * <p>
+ * When drives are stored in the {@link QIODriveStorage} they are not saved by this scheduler, as anything written to that storage has to be committed with the world
+ * save. Instead, the holders of dirty drives are marked as needing to be saved, and the drives get saved when the world saves the holders.
+ */
+public class QIODriveSaveScheduler {
+
+    private QIODriveSaveScheduler() {
+    }
+
+    /**
+     * Dirty drives, mapped to the tick they became dirty in.
+     */
+    private static final Reference2LongLinkedOpenHashMap<QIODriveData> dirtyDrives = new Reference2LongLinkedOpenHashMap<>();
+    private static long currentTick;
+
+    static void markDirty(QIODriveData data) {
+        if (!dirtyDrives.containsKey(data)) {
+            dirtyDrives.put(data, currentTick);
+        }
+    }
+
+    static void markSaved(QIODriveData data) {
+        dirtyDrives.removeLong(data);
+    }
+
+    public static void tick() {
+        currentTick++;
+        if (dirtyDrives.isEmpty() || MekanismConfig.general.qioMappedDriveStorage.get()) {
+            //Note: Drives in the mapped storage get saved by the world save of their holders instead
+            return;
+        }
+        long saveBefore = currentTick - MekanismConfig.general.qioDriveSaveDelay.get();
+        int budget = MekanismConfig.general.qioDriveSaveBudget.get();
+        int drivesSaved = 0;
+        int entriesSaved = 0;
+        for (ObjectIterator<Reference2LongMap.Entry<QIODriveData>> iterator = dirtyDrives.reference2LongEntrySet().fastIterator(); iterator.hasNext(); ) {
+            Reference2LongMap.Entry<QIODriveData> entry = iterator.next();
+            if (entry.getLongValue() > saveBefore) {
+                //All remaining drives became dirty more recently
+                break;
+            }
+            QIODriveData data = entry.getKey();
+            int entries = data.getEntriesToSave();
+            //Always save at least one drive per tick so that a single large drive can't block saving
+            if (drivesSaved > 0 && entriesSaved + entries > budget) {
+                break;
+            }
+            iterator.remove();
+            data.save();
+            drivesSaved++;
+            entriesSaved += entries;
+        }
+        if (MekanismAPI.debug && drivesSaved > 0) {
+            Mekanism.logger.info("Saved {} QIO drives ({} item types) this tick, {} drives still waiting to be saved", drivesSaved, entriesSaved, dirtyDrives.size());
+        }
+    }
+
+    public static void reset() {
+        dirtyDrives.clear();
+        currentTick = 0;
+    }
+}
@@ -0,0 +1,313 @@
+package mekanism.common.content.qio;
+
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.UUID;
+import mekanism.common.Mekanism;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.level.storage.LevelResource;
+import net.minecraftforge.server.ServerLifecycleHooks;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Alternative storage for the contents of QIO drives, where the drive stack only holds an id, and the amount of each item type (keyed by the id from
+ * {@link QIOGlobalItemLookup}) is kept in a per world memory mapped file. Changes are appended to the file as records, so saving a drive only writes the types that
+ * changed since it was last saved. Records only become valid once they are committed when the world or a chunk containing a drive holder saves, so that after a
+ * crash the file matches the last saved drive stacks rather than containing changes the world doesn't know about. Once most records in the file are outdated, the current contents are compacted into the second
+ * file and that one becomes the active file, which means a crash while compacting can never lose the data from the previously active file.
+ * <p>
+ * Only drives that are installed in a drive holder keep their contents here, drives that get removed from a holder have their contents moved back onto the stack, and
+ * their records freed. This means copies of drive stacks, and drives that get destroyed or voided, never refer to records in the storage.
+ */
+public class QIODriveStorage {
+
+    public static final QIODriveStorage INSTANCE = new QIODriveStorage();
+    private static final String FILE_NAME = "mekanism_qio_drives";
+    private static final int MAGIC = 0x4D514944;
+    private static final int VERSION = 1;
+    //Magic, version, generation, end of records
+    private static final int HEADER_SIZE = 2 * Integer.BYTES + 2 * Long.BYTES;
+    private static final int GENERATION_OFFSET = 2 * Integer.BYTES;
+    private static final int END_OFFSET = GENERATION_OFFSET + Long.BYTES;
+    //Drive id, type id, count
+    private static final int RECORD_SIZE = 5 * Long.BYTES;
+    private static final int MIN_CAPACITY = HEADER_SIZE + 4_096 * RECORD_SIZE;
+    private static final int MIN_COMPACTION_RECORDS = 16_384;
+    /**
+     * Count used for records that represent the entire drive having been cleared.
+     */
+    private static final long CLEAR_DRIVE = -1;
+
+    private final Map<UUID, Object2LongMap<UUID>> drives = new Object2ObjectOpenHashMap<>();
+    @Nullable
+    private Path[] files;
+    private int activeFile;
+    @Nullable
+    private FileChannel channel;
+    @Nullable
+    private MappedByteBuffer buffer;
+    private long generation;
+    private int end;
+    private int liveEntries;
+    private boolean loaded;
+
+    private QIODriveStorage() {
+    }
+
+    /**
+     * Loads the existing drive storage for the current server if there is one.
+     *
+     * @apiNote Only call this from the server side.
+     */
+    public void createOrLoad() {
+        if (!loaded) {
+            loaded = true;
+            MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+            Path dataFolder = server.getWorldPath(LevelResource.ROOT).resolve("data");
+            files = new Path[]{dataFolder.resolve(FILE_NAME + "_0.dat"), dataFolder.resolve(FILE_NAME + "_1.dat")};
+            long bestGeneration = -1;
+            for (int i = 0; i < files.length; i++) {
+                long fileGeneration = readGeneration(files[i]);
+                if (fileGeneration > bestGeneration) {
+                    bestGeneration = fileGeneration;
+                    activeFile = i;
+                }
+            }
+            if (bestGeneration >= 0) {
+                try {
+                    open(files[activeFile], false);
+                    readRecords();
+                } catch (IOException e) {
+                    Mekanism.logger.error("Failed to load QIO drive storage", e);
+                    close();
+                    //Don't allow creating a new file over the existing one, so that drives fall back to being stored on the stack
+                    files = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return {@code true} if the storage file is available, creating it if it doesn't exist yet.
+     */
+    public boolean ensureCreated() {
+        if (buffer == null && files != null) {
+            try {
+                Files.createDirectories(files[activeFile].getParent());
+                open(files[activeFile], true);
+                buffer.putLong(GENERATION_OFFSET, generation);
+            } catch (IOException e) {
+                Mekanism.logger.error("Failed to create QIO drive storage", e);
+                close();
+            }
+        }
+        return buffer != null;
+    }
+
+    /**
+     * @return The stored amount of each item type in the given drive, or {@code null} if the storage has nothing stored for the drive.
+     */
+    @Nullable
+    public Object2LongMap<UUID> getDrive(UUID driveId) {
+        return drives.get(driveId);
+    }
+
+    /**
+     * Sets the stored amount of an item type in a drive.
+     *
+     * @apiNote The change only becomes persistent once it is committed by {@link #commit()}.
+     */
+    public void write(UUID driveId, UUID type, long count) {
+        if (buffer != null) {
+            Object2LongMap<UUID> drive = drives.computeIfAbsent(driveId, id -> new Object2LongOpenHashMap<>());
+            long previous = count == 0 ? drive.removeLong(type) : drive.put(type, count);
+            if (previous == 0 && count != 0) {
+                liveEntries++;
+            } else if (previous != 0 && count == 0) {
+                liveEntries--;
+            }
+            if (drive.isEmpty()) {
+                drives.remove(driveId);
+            }
+            append(driveId, type.getMostSignificantBits(), type.getLeastSignificantBits(), count);
+        }
+    }
+
+    /**
+     * Removes everything stored for the given drive, for example when the drive switches back to storing its data on the stack.
+     *
+     * @apiNote The change only becomes persistent once it is committed by {@link #commit()}.
+     */
+    public void clearDrive(UUID driveId) {
+        Object2LongMap<UUID> drive = drives.remove(driveId);
+        if (drive != null && buffer != null) {
+            liveEntries -= drive.size();
+            append(driveId, 0, 0, CLEAR_DRIVE);
+        }
+    }
+
+    /**
+     * Marks all records that have been written as valid, and compacts the file if most of its records are outdated. Called when the world saves, and when a chunk
+     * containing a drive holder saves (including when it unloads), so that the committed records always match the drive stacks that were saved.
+     */
+    public void commit() {
+        if (buffer != null && buffer.getLong(END_OFFSET) != end) {
+            int records = (end - HEADER_SIZE) / RECORD_SIZE;
+            if (records > MIN_COMPACTION_RECORDS && records > 2 * liveEntries) {
+                compact();
+            } else {
+                buffer.putLong(END_OFFSET, end);
+                buffer.force();
+            }
+        }
+    }
+
+    public void reset() {
+        //Note: We don't commit here, as anything that should be persisted was committed when the world saved while the server was stopping
+        close();
+        drives.clear();
+        files = null;
+        activeFile = 0;
+        generation = 0;
+        liveEntries = 0;
+        loaded = false;
+    }
+
+    private void append(UUID driveId, long typeMost, long typeLeast, long count) {
+        if (end + RECORD_SIZE > buffer.capacity() && !grow(end + RECORD_SIZE)) {
+            return;
+        }
+        buffer.putLong(end, driveId.getMostSignificantBits());
+        buffer.putLong(end + Long.BYTES, driveId.getLeastSignificantBits());
+        buffer.putLong(end + 2 * Long.BYTES, typeMost);
+        buffer.putLong(end + 3 * Long.BYTES, typeLeast);
+        buffer.putLong(end + 4 * Long.BYTES, count);
+        end += RECORD_SIZE;
+    }
+
+    private boolean grow(int required) {
+        long capacity = Math.min(Integer.MAX_VALUE, Math.max(required, 2L * buffer.capacity()));
+        if (capacity < required) {
+            Mekanism.logger.error("QIO drive storage is full, unable to save drive contents");
+            return false;
+        }
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            return true;
+        } catch (IOException e) {
+            Mekanism.logger.error("Failed to grow QIO drive storage", e);
+            return false;
+        }
+    }
+
+    private void compact() {
+        int target = 1 - activeFile;
+        buffer.putLong(END_OFFSET, end);
+        buffer.force();
+        close();
+        activeFile = target;
+        generation++;
+        try {
+            open(files[target], true);
+            for (Map.Entry<UUID, Object2LongMap<UUID>> entry : drives.entrySet()) {
+                UUID driveId = entry.getKey();
+                for (Object2LongMap.Entry<UUID> typeEntry : entry.getValue().object2LongEntrySet()) {
+                    UUID type = typeEntry.getKey();
+                    append(driveId, type.getMostSignificantBits(), type.getLeastSignificantBits(), typeEntry.getLongValue());
+                }
+            }
+            buffer.putLong(END_OFFSET, end);
+            //Make sure the compacted data has been fully written before it takes priority over the old file
+            buffer.force();
+            buffer.putLong(GENERATION_OFFSET, generation);
+            buffer.force();
+        } catch (IOException e) {
+            Mekanism.logger.error("Failed to compact QIO drive storage", e);
+            close();
+            //The previous file is still intact, but stop writing to it so that drives fall back to being stored on the stack
+            files = null;
+        }
+    }
+
+    private void open(Path file, boolean create) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+        long size = channel.size();
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(size, MIN_CAPACITY));
+        if (create) {
+            //Write a new empty header, with the generation only being written by the caller once the contents are valid
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(Integer.BYTES, VERSION);
+            buffer.putLong(GENERATION_OFFSET, -1);
+            end = HEADER_SIZE;
+            buffer.putLong(END_OFFSET, end);
+        } else {
+            generation = buffer.getLong(GENERATION_OFFSET);
+            end = (int) Math.max(HEADER_SIZE, Math.min(buffer.capacity(), buffer.getLong(END_OFFSET)));
+        }
+    }
+
+    private void readRecords() {
+        drives.clear();
+        liveEntries = 0;
+        for (int offset = HEADER_SIZE; offset + RECORD_SIZE <= end; offset += RECORD_SIZE) {
+            UUID driveId = new UUID(buffer.getLong(offset), buffer.getLong(offset + Long.BYTES));
+            long count = buffer.getLong(offset + 4 * Long.BYTES);
+            if (count == CLEAR_DRIVE) {
+                Object2LongMap<UUID> drive = drives.remove(driveId);
+                if (drive != null) {
+                    liveEntries -= drive.size();
+                }
+                continue;
+            }
+            UUID type = new UUID(buffer.getLong(offset + 2 * Long.BYTES), buffer.getLong(offset + 3 * Long.BYTES));
+            Object2LongMap<UUID> drive = drives.computeIfAbsent(driveId, id -> new Object2LongOpenHashMap<>());
+            long previous = count == 0 ? drive.removeLong(type) : drive.put(type, count);
+            if (previous == 0 && count != 0) {
+                liveEntries++;
+            } else if (previous != 0 && count == 0) {
+                liveEntries--;
+            }
+            if (drive.isEmpty()) {
+                drives.remove(driveId);
+            }
+        }
+    }
+
+    private void close() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                Mekanism.logger.error("Failed to close QIO drive storage", e);
+            }
+        }
+        channel = null;
+        buffer = null;
+    }
+
+    /**
+     * @return The generation of the given file, or {@code -1} if it doesn't exist or isn't a valid storage file.
+     */
+    private static long readGeneration(Path file) {
+        if (Files.isRegularFile(file)) {
+            try (FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.READ)) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                if (fileChannel.read(header, 0) == HEADER_SIZE && header.getInt(0) == MAGIC && header.getInt(Integer.BYTES) == VERSION) {
+                    return header.getLong(GENERATION_OFFSET);
+                }
+            } catch (IOException e) {
+                Mekanism.logger.error("Failed to read QIO drive storage header", e);
+            }
+        }
+        return -1;
+    }
+}
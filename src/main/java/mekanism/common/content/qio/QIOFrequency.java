@@ -13,7 +13,6 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.ObjLongConsumer;
@@ -27,15 +26,17 @@ import mekanism.api.text.EnumColor;
 import mekanism.common.CommonWorldTickHandler;
 import mekanism.common.Mekanism;
 import mekanism.common.base.TagCache;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.qio.QIODriveData.QIODriveKey;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
+import mekanism.common.inventory.container.QIOItemViewerContainer.ListSortType;
+import mekanism.common.inventory.container.QIOItemViewerContainer.SortDirection;
 import mekanism.common.lib.WildcardMatcher;
 import mekanism.common.lib.collection.BiMultimap;
 import mekanism.common.lib.frequency.Frequency;
 import mekanism.common.lib.frequency.FrequencyType;
 import mekanism.common.lib.frequency.IColorableFrequency;
 import mekanism.common.lib.inventory.HashedItem;
-import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
 import mekanism.common.network.to_client.PacketQIOItemViewerGuiSync;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.NBTUtils;
@@ -45,13 +46,10 @@ import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.minecraftforge.common.util.Lazy;
 import org.jetbrains.annotations.Nullable;
 
 public class QIOFrequency extends Frequency implements IColorableFrequency, IQIOFrequency {
 
-    private static final Random rand = new Random();
-
     private final Map<QIODriveKey, QIODriveData> driveMap = new LinkedHashMap<>();
     private final Map<HashedItem, QIOItemTypeData> itemDataMap = new LinkedHashMap<>();
     private final Set<IQIODriveHolder> driveHolders = new HashSet<>();
@@ -68,13 +66,11 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     private final SetMultimap<String, String> modIDWildcardCache = HashMultimap.create();
     private final Set<String> failedWildcardModIDs = new HashSet<>();
 
-    private final Set<UUID> updatedItems = new HashSet<>();
-    private final Set<ServerPlayer> playersViewingItems = new HashSet<>();
+    private final Set<HashedItem> updatedItems = new HashSet<>();
+    private final Map<ServerPlayer, QIOItemViewerSession> itemViewers = new HashMap<>();
 
     /** If we need to send a packet to viewing clients with changed item data. */
     private boolean needsUpdate;
-    /** If we have new item changes that haven't been saved. */
-    private boolean isDirty;
 
     private long totalCount, totalCountCapacity;
     private int totalTypeCapacity;
@@ -365,17 +361,26 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         return added;
     }
 
-    public void openItemViewer(ServerPlayer player) {
-        playersViewingItems.add(player);
-        Object2LongMap<UUIDAwareHashedItem> map = new Object2LongOpenHashMap<>(itemDataMap.size());
-        for (QIOItemTypeData data : itemDataMap.values()) {
-            map.put(new UUIDAwareHashedItem(data.itemType, QIOGlobalItemLookup.INSTANCE.getOrTrackUUID(data.itemType)), data.count);
+    /**
+     * Starts syncing the items to a player, or if they are already viewing the items updates the order they are viewing them in.
+     *
+     * @param visibleSlots Number of items the player can see without scrolling, these get sent immediately and the remaining items get sent over the next ticks.
+     */
+    public void openItemViewer(ServerPlayer player, ListSortType sortType, SortDirection sortDirection, int visibleSlots) {
+        QIOItemViewerSession session = itemViewers.get(player);
+        if (session == null) {
+            session = new QIOItemViewerSession();
+            itemViewers.put(player, session);
+            session.subscribe(this, sortType, sortDirection);
+            Mekanism.packetHandler().sendTo(session.createFirstPage(this, visibleSlots), player);
+        } else {
+            //Prioritize sending the items that are now at the top of their list
+            session.subscribe(this, sortType, sortDirection);
         }
-        Mekanism.packetHandler().sendTo(PacketQIOItemViewerGuiSync.batch(map, totalCountCapacity, totalTypeCapacity), player);
     }
 
     public void closeItemViewer(ServerPlayer player) {
-        playersViewingItems.remove(player);
+        itemViewers.remove(player);
     }
 
     @Override
@@ -436,43 +441,29 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     @Override
     public boolean tick() {
         boolean superDirty = super.tick();
-        if (!updatedItems.isEmpty() || needsUpdate) {
-            //Only calculate the packet and the update map if there are actually players viewing this frequency,
-            // otherwise we can just skip looking up UUIDs and counts
-            Lazy<PacketQIOItemViewerGuiSync> lazyPacket = Lazy.of(() -> {
-                Object2LongMap<UUIDAwareHashedItem> map = new Object2LongOpenHashMap<>(updatedItems.size());
-                updatedItems.forEach(uuid -> {
-                    HashedItem type = QIOGlobalItemLookup.INSTANCE.getTypeByUUID(uuid);
-                    if (type != null) {//The type should never be null as we create a UUID if there isn't one before adding but validate it
-                        QIOItemTypeData data = itemDataMap.get(type);
-                        map.put(new UUIDAwareHashedItem(type, uuid), data == null ? 0 : data.count);
-                    }
-                });
-                return PacketQIOItemViewerGuiSync.update(map, totalCountCapacity, totalTypeCapacity);
-            });
-            for (Iterator<ServerPlayer> viewingIterator = playersViewingItems.iterator(); viewingIterator.hasNext(); ) {
-                ServerPlayer player = viewingIterator.next();
+        if (!itemViewers.isEmpty()) {
+            boolean hasUpdates = !updatedItems.isEmpty() || needsUpdate;
+            int maxBytes = MekanismConfig.general.qioViewerSyncRate.get();
+            for (Iterator<Map.Entry<ServerPlayer, QIOItemViewerSession>> viewingIterator = itemViewers.entrySet().iterator(); viewingIterator.hasNext(); ) {
+                Map.Entry<ServerPlayer, QIOItemViewerSession> entry = viewingIterator.next();
+                ServerPlayer player = entry.getKey();
                 if (player.containerMenu instanceof QIOItemViewerContainer) {
-                    Mekanism.packetHandler().sendTo(lazyPacket.get(), player);
+                    QIOItemViewerSession session = entry.getValue();
+                    //Each player gets their own packet as the indices of the items and which items have been sent to them differ between players
+                    if (hasUpdates || session.isStreaming()) {
+                        PacketQIOItemViewerGuiSync packet = session.createUpdate(this, updatedItems, needsUpdate, maxBytes);
+                        if (packet != null) {
+                            Mekanism.packetHandler().sendTo(packet, player);
+                        }
+                    }
                 } else {
                     //flush players that somehow didn't send a container close packet
                     viewingIterator.remove();
                 }
             }
-            updatedItems.clear();
-            needsUpdate = false;
-        }
-        // if something has changed, we'll subsequently randomly run a save operation in the next 100 ticks.
-        // the random factor helps us avoid bogging down the CPU by saving all QIO frequencies at once
-        // this isn't a fully necessary operation, but it'll help avoid all item data getting lost if the server
-        // is forcibly shut down.
-        if (isDirty && rand.nextInt(100) == 0) {
-            //Note: We don't have this affect our super dirty value as this is for if the drives are dirty,
-            // not for if the frequency is dirty
-            saveAll();
-            isDirty = false;
         }
-
+        updatedItems.clear();
+        needsUpdate = false;
         if (CommonWorldTickHandler.flushTagAndRecipeCaches) {
             //Note: We only need to clear tags here as the modids cannot change just because a reload happened
             tagLookupMap.clear();
@@ -514,7 +505,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         Set<QIODriveKey> keys = new HashSet<>(driveMap.keySet());
         keys.forEach(key -> removeDrive(key, false));
         driveMap.clear();
-        playersViewingItems.forEach(player -> Mekanism.packetHandler().sendTo(PacketQIOItemViewerGuiSync.kill(), player));
+        itemViewers.keySet().forEach(player -> Mekanism.packetHandler().sendTo(PacketQIOItemViewerGuiSync.kill(), player));
     }
 
     @Override
@@ -609,26 +600,29 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         key.save(data);
     }
 
+    /**
+     * Saves all drives whose contents changed since they were last saved, drives that haven't changed already have their contents saved on the stack.
+     */
     public void saveAll() {
-        driveMap.forEach((key, value) -> {
-            key.updateMetadata(value);
-            key.save(value);
-        });
+        for (QIODriveData data : driveMap.values()) {
+            if (data.isDirty()) {
+                data.save();
+            }
+        }
     }
 
     private void setNeedsUpdate(@Nullable HashedItem changedItem) {
-        isDirty = true;
-        if (!playersViewingItems.isEmpty()) {//Skip marking for update if there are no players viewing the items
+        if (!itemViewers.isEmpty()) {//Skip marking for update if there are no players viewing the items
             needsUpdate = true;
             if (changedItem != null) {
-                updatedItems.add(QIOGlobalItemLookup.INSTANCE.getUUIDForType(changedItem));
+                updatedItems.add(changedItem);
             }
         }
     }
 
     private void markForUpdate(HashedItem changedItem) {
-        if (!playersViewingItems.isEmpty()) {//Skip marking for update if there are no players viewing the items
-            updatedItems.add(QIOGlobalItemLookup.INSTANCE.getUUIDForType(changedItem));
+        if (!itemViewers.isEmpty()) {//Skip marking for update if there are no players viewing the items
+            updatedItems.add(changedItem);
         }
     }
 
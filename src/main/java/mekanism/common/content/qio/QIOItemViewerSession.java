@@ -0,0 +1,183 @@
+package mekanism.common.content.qio;
+
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import mekanism.common.inventory.ISlotClickHandler.IScrollableSlot;
+import mekanism.common.inventory.container.QIOItemViewerContainer.ListSortType;
+import mekanism.common.inventory.container.QIOItemViewerContainer.SortDirection;
+import mekanism.common.lib.inventory.HashedItem;
+import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
+import mekanism.common.network.to_client.PacketQIOItemViewerGuiSync;
+import net.minecraft.network.FriendlyByteBuf;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Keeps track of which items of a QIO frequency have been sent to a player that is viewing it. Only the items the player can see when opening the viewer are sent
+ * immediately, and the remaining items are streamed to them over the following ticks in the order they are viewing the items in. Items that have been sent are given
+ * an index that is only valid for this session, so that count changes can be sent without having to send the item or its UUID again.
+ */
+class QIOItemViewerSession {
+
+    //Only used on the server thread to measure how large the items we are sending are
+    private static final FriendlyByteBuf SIZE_BUFFER = new FriendlyByteBuf(Unpooled.buffer());
+    //Upper bound of the index, the optional UUID, and the count that get sent with each item
+    private static final int DEFINITION_OVERHEAD = 5 + 17 + 10;
+    //Upper bound of the index and the count for items that have already been sent
+    private static final int COUNT_SIZE = 5 + 10;
+
+    private final Object2IntMap<HashedItem> indices = new Object2IntOpenHashMap<>();
+    private final ObjectLinkedOpenHashSet<HashedItem> unsent = new ObjectLinkedOpenHashSet<>();
+    private int nextIndex;
+
+    QIOItemViewerSession() {
+        indices.defaultReturnValue(-1);
+    }
+
+    /**
+     * @return {@code true} if there are still items that haven't been sent yet.
+     */
+    boolean isStreaming() {
+        return !unsent.isEmpty();
+    }
+
+    /**
+     * Sorts the items that haven't been sent yet into the order the player is viewing them in, so that the ones at the top of their list get sent first.
+     */
+    void subscribe(QIOFrequency frequency, ListSortType sortType, SortDirection sortDirection) {
+        List<IScrollableSlot> toSort = new ArrayList<>(Math.max(0, frequency.getItemDataMap().size() - indices.size()));
+        for (HashedItem type : frequency.getItemDataMap().keySet()) {
+            if (!indices.containsKey(type)) {
+                toSort.add(new SortableItem(type, frequency.getStored(type)));
+            }
+        }
+        sortType.sort(toSort, sortDirection);
+        unsent.clear();
+        for (IScrollableSlot slot : toSort) {
+            unsent.add(slot.item());
+        }
+    }
+
+    /**
+     * Creates the packet containing the first page of items for when the player opens the viewer.
+     *
+     * @param pageSize Number of items to send.
+     */
+    PacketQIOItemViewerGuiSync createFirstPage(QIOFrequency frequency, int pageSize) {
+        Int2ObjectMap<UUIDAwareHashedItem> definitions = new Int2ObjectOpenHashMap<>(Math.min(pageSize, unsent.size()));
+        Int2LongMap counts = new Int2LongOpenHashMap(Math.min(pageSize, unsent.size()));
+        addUnsent(frequency, definitions, counts, pageSize, Integer.MAX_VALUE);
+        return PacketQIOItemViewerGuiSync.batch(definitions, counts, frequency.getTotalItemCountCapacity(), frequency.getTotalItemTypeCapacity());
+    }
+
+    /**
+     * Creates the packet containing the changes to the items that have been sent, and as many of the items that haven't been sent as fit in the given budget.
+     *
+     * @param updatedItems    Items that changed since the last update.
+     * @param changedCapacity {@code true} to send a packet even if no items changed, as the capacity of the frequency changed.
+     * @param maxBytes        Approximate number of bytes to send.
+     *
+     * @return The packet to send, or {@code null} if there is nothing to send.
+     */
+    @Nullable
+    PacketQIOItemViewerGuiSync createUpdate(QIOFrequency frequency, Set<HashedItem> updatedItems, boolean changedCapacity, int maxBytes) {
+        Int2ObjectMap<UUIDAwareHashedItem> definitions = new Int2ObjectOpenHashMap<>();
+        Int2LongMap counts = new Int2LongOpenHashMap(updatedItems.size());
+        for (HashedItem type : updatedItems) {
+            long count = frequency.getStored(type);
+            int index = indices.getInt(type);
+            if (index == -1) {
+                if (count == 0) {
+                    unsent.remove(type);
+                } else if (!unsent.contains(type)) {
+                    //New items get sent before any of the remaining items so that the player sees them as quickly as if all the items were already sent
+                    unsent.addAndMoveToFirst(type);
+                }
+            } else {
+                counts.put(index, count);
+                if (count == 0) {
+                    //The client forgets about the item when it gets removed so we need to send it in full again if it gets added back
+                    indices.removeInt(type);
+                }
+            }
+        }
+        addUnsent(frequency, definitions, counts, Integer.MAX_VALUE, maxBytes - counts.size() * COUNT_SIZE);
+        if (counts.isEmpty() && !changedCapacity) {
+            return null;
+        }
+        return PacketQIOItemViewerGuiSync.update(definitions, counts, frequency.getTotalItemCountCapacity(), frequency.getTotalItemTypeCapacity());
+    }
+
+    private void addUnsent(QIOFrequency frequency, Int2ObjectMap<UUIDAwareHashedItem> definitions, Int2LongMap counts, int maxItems, int maxBytes) {
+        //Note: We always send at least one item so that we can't get stuck on items that are larger than the budget
+        for (int items = 0; items < maxItems && !unsent.isEmpty() && (items == 0 || maxBytes > 0); items++) {
+            HashedItem type = unsent.removeFirst();
+            long count = frequency.getStored(type);
+            if (count > 0) {
+                int index = nextIndex++;
+                indices.put(type, index);
+                definitions.put(index, new UUIDAwareHashedItem(type, QIOGlobalItemLookup.INSTANCE.getOrTrackUUID(type)));
+                counts.put(index, count);
+                SIZE_BUFFER.clear();
+                SIZE_BUFFER.writeItem(type.getInternalStack());
+                maxBytes -= SIZE_BUFFER.writerIndex() + DEFINITION_OVERHEAD;
+            }
+        }
+    }
+
+    private static class SortableItem implements IScrollableSlot {
+
+        private final HashedItem item;
+        private final long count;
+        @Nullable
+        private String displayName;
+        @Nullable
+        private String modID;
+
+        private SortableItem(HashedItem item, long count) {
+            this.item = item;
+            this.count = count;
+        }
+
+        @Override
+        public HashedItem item() {
+            return item;
+        }
+
+        @Override
+        public UUID itemUUID() {
+            //Not needed for sorting
+            return null;
+        }
+
+        @Override
+        public long count() {
+            return count;
+        }
+
+        @Override
+        public String getDisplayName() {
+            if (displayName == null) {
+                displayName = IScrollableSlot.super.getDisplayName();
+            }
+            return displayName;
+        }
+
+        @Override
+        public String getModID() {
+            if (modID == null) {
+                modID = IScrollableSlot.super.getModID();
+            }
+            return modID;
+        }
+    }
+}
@@ -6,12 +6,13 @@ import it.unimi.dsi.fastutil.chars.Char2ObjectMap;
 import it.unimi.dsi.fastutil.chars.CharSet;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.BiPredicate;
+import java.util.function.Function;
 import mekanism.common.base.TagCache;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.world.item.ItemStack;
@@ -25,7 +26,17 @@ import org.jetbrains.annotations.Nullable;
  */
 public class SearchQueryParser {
 
-    private static final ISearchQuery INVALID = stack -> false;
+    private static final ISearchQuery INVALID = new ISearchQuery() {
+        @Override
+        public boolean matches(ItemStack stack) {
+            return false;
+        }
+
+        @Override
+        public boolean matches(SearchTokens tokens) {
+            return false;
+        }
+    };
     private static final Set<Character> TERMINATORS = Sets.newHashSet('|', '(', '\"', '\'');
 
     public static ISearchQuery parse(String query) {
@@ -180,11 +191,10 @@ public class SearchQueryParser {
 
     public enum QueryType {
         // ~ is a dummy char, not actually used by parser
-        NAME('~', (key, stack) -> stack.getHoverName().getString().toLowerCase(Locale.ROOT).contains(key.toLowerCase(Locale.ROOT))),
-        MOD_ID('@', (key, stack) -> MekanismUtils.getModId(stack).toLowerCase(Locale.ROOT).contains(key.toLowerCase(Locale.ROOT))),
-        TOOLTIP('$', (key, stack) -> stack.getTooltipLines(null, TooltipFlag.Default.NORMAL).stream().map(t -> t.getString().toLowerCase(Locale.ROOT))
-              .anyMatch(tooltip -> tooltip.contains(key.toLowerCase(Locale.ROOT)))),
-        TAG('#', (key, stack) -> TagCache.getItemTags(stack).stream().anyMatch(itemTag -> itemTag.toLowerCase(Locale.ROOT).contains(key.toLowerCase(Locale.ROOT))));
+        NAME('~', stack -> List.of(stack.getHoverName().getString().toLowerCase(Locale.ROOT))),
+        MOD_ID('@', stack -> List.of(MekanismUtils.getModId(stack).toLowerCase(Locale.ROOT))),
+        TOOLTIP('$', stack -> stack.getTooltipLines(null, TooltipFlag.Default.NORMAL).stream().map(t -> t.getString().toLowerCase(Locale.ROOT)).toList()),
+        TAG('#', stack -> TagCache.getItemTags(stack).stream().map(itemTag -> itemTag.toLowerCase(Locale.ROOT)).toList());
 
         private static final Char2ObjectMap<QueryType> charLookupMap;
 
@@ -205,15 +215,54 @@ public class SearchQueryParser {
         }
 
         private final char prefix;
-        private final BiPredicate<String, ItemStack> checker;
+        private final Function<ItemStack, List<String>> tokenizer;
 
-        QueryType(char prefix, BiPredicate<String, ItemStack> checker) {
+        QueryType(char prefix, Function<ItemStack, List<String>> tokenizer) {
             this.prefix = prefix;
-            this.checker = checker;
+            this.tokenizer = tokenizer;
         }
 
         public boolean matches(String key, ItemStack stack) {
-            return checker.test(key, stack);
+            return matches(key, tokenize(stack));
+        }
+
+        /**
+         * @return The lowercase strings of the given stack that keys of this type are checked against.
+         */
+        public List<String> tokenize(ItemStack stack) {
+            return tokenizer.apply(stack);
+        }
+
+        private static boolean matches(String key, List<String> tokens) {
+            String lowerKey = key.toLowerCase(Locale.ROOT);
+            for (String token : tokens) {
+                if (token.contains(lowerKey)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Lazily computed and cached search tokens of a stack, so that repeatedly searching the same stack (for example while a query is being typed) only has to look
+     * up things like its name or tooltip once.
+     */
+    public static class SearchTokens {
+
+        private final Map<QueryType, List<String>> tokens = new EnumMap<>(QueryType.class);
+        private final ItemStack stack;
+
+        public SearchTokens(ItemStack stack) {
+            this.stack = stack;
+        }
+
+        public ItemStack getStack() {
+            return stack;
+        }
+
+        public List<String> get(QueryType type) {
+            return tokens.computeIfAbsent(type, t -> t.tokenize(stack));
         }
     }
 
@@ -223,7 +272,25 @@ public class SearchQueryParser {
 
         @Override
         public boolean matches(ItemStack stack) {
-            return queryStrings.entrySet().stream().allMatch(entry -> entry.getValue().stream().anyMatch(key -> entry.getKey().matches(key, stack)));
+            return matches(new SearchTokens(stack));
+        }
+
+        @Override
+        public boolean matches(SearchTokens tokens) {
+            for (Map.Entry<QueryType, List<String>> entry : queryStrings.entrySet()) {
+                List<String> stackTokens = tokens.get(entry.getKey());
+                boolean matched = false;
+                for (String key : entry.getValue()) {
+                    if (QueryType.matches(key, stackTokens)) {
+                        matched = true;
+                        break;
+                    }
+                }
+                if (!matched) {
+                    return false;
+                }
+            }
+            return true;
         }
 
         private boolean isEmpty() {
@@ -250,8 +317,13 @@ public class SearchQueryParser {
 
         @Override
         public boolean matches(ItemStack stack) {
+            return matches(new SearchTokens(stack));
+        }
+
+        @Override
+        public boolean matches(SearchTokens tokens) {
             // allow empty query lists to match all stacks
-            return queries.isEmpty() || queries.stream().anyMatch(query -> query.matches(stack));
+            return queries.isEmpty() || queries.stream().anyMatch(query -> query.matches(tokens));
         }
 
         @Override
@@ -268,6 +340,13 @@ public class SearchQueryParser {
 
         boolean matches(ItemStack stack);
 
+        /**
+         * Checks if this query matches the already tokenized stack.
+         */
+        default boolean matches(SearchTokens tokens) {
+            return matches(tokens.getStack());
+        }
+
         default boolean isInvalid() {
             return this == INVALID;
         }
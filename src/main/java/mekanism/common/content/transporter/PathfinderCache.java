@@ -1,47 +1,99 @@
 package mekanism.common.content.transporter;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
+import mekanism.common.util.EnumUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import org.jetbrains.annotations.Nullable;
 
 public class PathfinderCache {
 
     private PathfinderCache() {
     }
 
-    private static final Map<UUID, Map<PathData, CachedPath>> cachedPaths = new Object2ObjectOpenHashMap<>();
+    /**
+     * Maximum number of starting transporters to keep routes for in each network. The routes from a single transporter are as large as the network, so this keeps the
+     * memory used by routes linear in the size of the network rather than quadratic.
+     */
+    private static final int MAX_ROUTE_STARTS = 32;
+    private static final Map<UUID, NetworkPaths> cachedPaths = new Object2ObjectOpenHashMap<>();
 
+    /**
+     * Invalidates all cached paths for the given networks.
+     */
     public static void onChanged(InventoryNetwork... networks) {
         for (InventoryNetwork network : networks) {
             cachedPaths.remove(network.getUUID());
         }
     }
 
-    public static void addCachedPath(LogisticalTransporterBase start, PathData data, List<BlockPos> positions, double cost) {
-        cachedPaths.computeIfAbsent(start.getTransmitterNetwork().getUUID(), uuid -> new Object2ObjectOpenHashMap<>()).put(data, new CachedPath(positions, cost));
+    /**
+     * Invalidates only the cached paths of the given network that pass through the given position.
+     */
+    public static void onChanged(@Nullable InventoryNetwork network, BlockPos changedPos) {
+        if (network != null) {
+            NetworkPaths paths = cachedPaths.get(network.getUUID());
+            if (paths != null) {
+                paths.invalidate(changedPos.asLong());
+                if (paths.isEmpty()) {
+                    cachedPaths.remove(network.getUUID());
+                }
+            }
+        }
+    }
+
+    public static void addCachedPath(LogisticalTransporterBase start, BlockPos end, Direction endSide, List<BlockPos> positions, double cost) {
+        cachedPaths.computeIfAbsent(start.getTransmitterNetwork().getUUID(), uuid -> new NetworkPaths())
+              .add(start.getTilePos().asLong(), end.asLong(), endSide, new CachedPath(positions, cost));
     }
 
+    @Nullable
     public static CachedPath getCache(LogisticalTransporterBase start, BlockPos end, Set<Direction> sides) {
         CachedPath ret = null;
-        UUID uuid = start.getTransmitterNetwork().getUUID();
-        if (cachedPaths.containsKey(uuid)) {
-            Map<PathData, CachedPath> pathMap = cachedPaths.get(uuid);
-            for (Direction side : sides) {
-                CachedPath test = pathMap.get(new PathData(start.getTilePos(), end, side));
-                if (ret == null || (test != null && test.cost() < ret.cost())) {
-                    ret = test;
+        NetworkPaths networkPaths = cachedPaths.get(start.getTransmitterNetwork().getUUID());
+        if (networkPaths != null) {
+            PathEntry[] pathsBySide = networkPaths.get(start.getTilePos().asLong(), end.asLong());
+            if (pathsBySide != null) {
+                for (Direction side : sides) {
+                    PathEntry test = pathsBySide[side.ordinal()];
+                    if (test != null && (ret == null || test.path().cost() < ret.cost())) {
+                        ret = test.path();
+                    }
                 }
             }
         }
         return ret;
     }
 
+    /**
+     * Gets the cheapest routes from the given transporter to all transporters in its network that the given stack can travel through, calculating them if they
+     * haven't been calculated yet, got invalidated, or got evicted.
+     */
+    public static TransporterRoutes getRoutes(LogisticalTransporterBase start, TransporterStack stack) {
+        InventoryNetwork network = start.getTransmitterNetwork();
+        NetworkPaths paths = cachedPaths.computeIfAbsent(network.getUUID(), uuid -> new NetworkPaths());
+        TransporterRoutes[] routesByColor = paths.getRoutes(start.getTilePos().asLong());
+        int index = stack.color == null ? 0 : stack.color.ordinal() + 1;
+        TransporterRoutes routes = routesByColor[index];
+        if (routes == null) {
+            routes = TransporterRoutes.calculate(network, start.getTilePos(), stack);
+            routesByColor[index] = routes;
+            paths.routeCount++;
+        }
+        return routes;
+    }
+
     public static void reset() {
         cachedPaths.clear();
     }
@@ -49,32 +101,142 @@ public class PathfinderCache {
     public record CachedPath(List<BlockPos> path, double cost) {
     }
 
-    public static class PathData {
-
-        private final BlockPos startTransporter;
-        private final BlockPos end;
-        private final Direction endSide;
-        private final int hash;
-
-        public PathData(BlockPos s, BlockPos e, Direction es) {
-            startTransporter = s;
-            end = e;
-            endSide = es;
-            int code = 1;
-            code = 31 * code + startTransporter.hashCode();
-            code = 31 * code + end.hashCode();
-            code = 31 * code + endSide.hashCode();
-            hash = code;
+    /**
+     * Cached paths of a single network. Paths are keyed by the packed start and end positions and then indexed by the side of the destination, and each path is also
+     * tracked by every transporter it passes through so that a change to a transporter only has to invalidate the paths that actually cross it.
+     */
+    private static class NetworkPaths {
+
+        private final Long2ObjectMap<Long2ObjectMap<PathEntry[]>> paths = new Long2ObjectOpenHashMap<>();
+        private final Long2ObjectMap<Set<PathEntry>> pathsThroughNode = new Long2ObjectOpenHashMap<>();
+        /**
+         * Routes from a starting transporter, indexed by the color of the stack (with uncolored stacks at index zero). Ordered from least to most recently used.
+         */
+        private final Long2ObjectLinkedOpenHashMap<TransporterRoutes[]> routes = new Long2ObjectLinkedOpenHashMap<>();
+        private int size;
+        private int routeCount;
+
+        private boolean isEmpty() {
+            return size == 0 && routeCount == 0;
+        }
+
+        /**
+         * Gets the routes from the given transporter, evicting the routes of the least recently used transporter if there are already too many transporters with routes.
+         */
+        private TransporterRoutes[] getRoutes(long start) {
+            TransporterRoutes[] routesByColor = routes.getAndMoveToLast(start);
+            if (routesByColor == null) {
+                if (routes.size() >= MAX_ROUTE_STARTS) {
+                    for (TransporterRoutes colorRoutes : routes.removeFirst()) {
+                        if (colorRoutes != null) {
+                            routeCount--;
+                        }
+                    }
+                }
+                routesByColor = new TransporterRoutes[EnumUtils.COLORS.length + 1];
+                routes.putAndMoveToLast(start, routesByColor);
+            }
+            return routesByColor;
+        }
+
+        @Nullable
+        private PathEntry[] get(long start, long end) {
+            Long2ObjectMap<PathEntry[]> pathsFromStart = paths.get(start);
+            return pathsFromStart == null ? null : pathsFromStart.get(end);
+        }
+
+        private void add(long start, long end, Direction endSide, CachedPath path) {
+            PathEntry[] pathsBySide = paths.computeIfAbsent(start, s -> new Long2ObjectOpenHashMap<>())
+                  .computeIfAbsent(end, e -> new PathEntry[EnumUtils.DIRECTIONS.length]);
+            PathEntry previous = pathsBySide[endSide.ordinal()];
+            if (previous == null) {
+                size++;
+            } else {
+                untrack(previous, Long.MIN_VALUE);
+            }
+            PathEntry entry = new PathEntry(start, end, endSide, path);
+            pathsBySide[endSide.ordinal()] = entry;
+            List<BlockPos> positions = path.path();
+            //Note: The first position is the destination rather than a transporter, so we don't need to track it
+            for (int i = 1, count = positions.size(); i < count; i++) {
+                pathsThroughNode.computeIfAbsent(positions.get(i).asLong(), pos -> new ReferenceOpenHashSet<>()).add(entry);
+            }
+        }
+
+        private void invalidate(long changedPos) {
+            invalidateRoutes(changedPos);
+            Set<PathEntry> entries = pathsThroughNode.remove(changedPos);
+            if (entries == null) {
+                return;
+            }
+            for (PathEntry entry : entries) {
+                untrack(entry, changedPos);
+                Long2ObjectMap<PathEntry[]> pathsFromStart = paths.get(entry.start);
+                if (pathsFromStart != null) {
+                    PathEntry[] pathsBySide = pathsFromStart.get(entry.end);
+                    if (pathsBySide != null && pathsBySide[entry.endSide.ordinal()] == entry) {
+                        pathsBySide[entry.endSide.ordinal()] = null;
+                        size--;
+                        if (isEmpty(pathsBySide)) {
+                            pathsFromStart.remove(entry.end);
+                            if (pathsFromStart.isEmpty()) {
+                                paths.remove(entry.start);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        private void invalidateRoutes(long changedPos) {
+            int invalidated = 0;
+            for (ObjectIterator<TransporterRoutes[]> iterator = routes.values().iterator(); iterator.hasNext(); ) {
+                TransporterRoutes[] routesByColor = iterator.next();
+                boolean empty = true;
+                for (int i = 0; i < routesByColor.length; i++) {
+                    TransporterRoutes colorRoutes = routesByColor[i];
+                    if (colorRoutes != null) {
+                        if (colorRoutes.touches(changedPos)) {
+                            routesByColor[i] = null;
+                            invalidated++;
+                        } else {
+                            empty = false;
+                        }
+                    }
+                }
+                if (empty) {
+                    iterator.remove();
+                }
+            }
+            routeCount -= invalidated;
         }
 
-        @Override
-        public boolean equals(Object obj) {
-            return obj instanceof PathData data && data.startTransporter.equals(startTransporter) && data.end.equals(end) && data.endSide == endSide;
+        private static boolean isEmpty(PathEntry[] pathsBySide) {
+            for (PathEntry entry : pathsBySide) {
+                if (entry != null) {
+                    return false;
+                }
+            }
+            return true;
         }
 
-        @Override
-        public int hashCode() {
-            return hash;
+        /**
+         * Removes the given path from the positions it passes through, except for the position that is already being invalidated.
+         */
+        private void untrack(PathEntry entry, long skipPos) {
+            List<BlockPos> positions = entry.path.path();
+            for (int i = 1, count = positions.size(); i < count; i++) {
+                long pos = positions.get(i).asLong();
+                if (pos != skipPos) {
+                    Set<PathEntry> entries = pathsThroughNode.get(pos);
+                    if (entries != null && entries.remove(entry) && entries.isEmpty()) {
+                        pathsThroughNode.remove(pos);
+                    }
+                }
+            }
         }
     }
-}
\ No newline at end of file
+
+    private record PathEntry(long start, long end, Direction endSide, CachedPath path) {
+    }
+}
@@ -17,7 +17,6 @@ import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.network.InventoryNetwork.AcceptorData;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import mekanism.common.content.transporter.PathfinderCache.CachedPath;
-import mekanism.common.content.transporter.PathfinderCache.PathData;
 import mekanism.common.content.transporter.TransporterPathfinder.Pathfinder.DestChecker;
 import mekanism.common.content.transporter.TransporterStack.Path;
 import mekanism.common.lib.SidedBlockPos;
@@ -84,22 +83,44 @@ public final class TransporterPathfinder {
             if (test != null && checkPath(network, test.path(), stack)) {
                 return new Destination(test.path(), false, response, test.cost());
             }
-            Pathfinder p = new Pathfinder(new DestChecker() {
-                @Override
-                public boolean isValid(TransporterStack stack, Direction side, BlockEntity tile) {
-                    return TransporterUtils.canInsert(tile, stack.color, response.getStack(), side, false);
+            BlockEntity destTile = WorldUtils.getTileEntity(start.getTileWorld(), chunkMap, dest);
+            if (destTile == null) {
+                return null;
+            }
+            //Rather than path finding to each destination, look up the cheapest route to each transporter next to the destination
+            // from the routes that are shared by all destinations
+            TransporterRoutes routes = PathfinderCache.getRoutes(start, stack);
+            BlockPos bestPosition = null;
+            Direction bestSide = null;
+            double bestCost = 0;
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                BlockPos transporterPos = dest.relative(side.getOpposite());
+                double cost = routes.getCost(transporterPos);
+                if (cost >= 0 && (bestPosition == null || cost < bestCost)) {
+                    LogisticalTransporterBase transporter = network.getTransmitter(transporterPos);
+                    if (transporter != null && TransporterUtils.canInsert(destTile, stack.color, response.getStack(), side, false) && canEmitTo(transporter, side, dest, stack)) {
+                        bestPosition = transporterPos;
+                        bestSide = side;
+                        bestCost = cost;
+                    }
                 }
-            }, network, start.getTileWorld(), dest, start.getTilePos(), stack);
-            p.find(chunkMap);
-            List<BlockPos> path = p.getPath();
-            if (path.size() >= 2) {
-                PathfinderCache.addCachedPath(start, new PathData(start.getTilePos(), dest, p.getSide()), path, p.finalScore);
-                return new Destination(path, false, response, p.finalScore);
+            }
+            if (bestPosition != null) {
+                List<BlockPos> path = routes.getPath(dest, bestPosition);
+                //Note: The score includes the distance from the last transporter to the destination to match the score the pathfinder would give
+                double score = bestCost + WorldUtils.distanceBetween(bestPosition, dest);
+                PathfinderCache.addCachedPath(start, dest, bestSide, path, score);
+                return new Destination(path, false, response, score);
             }
         }
         return null;
     }
 
+    private static boolean canEmitTo(LogisticalTransporterBase transporter, Direction side, BlockPos dest, TransporterStack stack) {
+        //Emit normally (or push), or if it is the home location of the stack allow connecting to it (pull)
+        return transporter.canEmitTo(side) || (dest.equals(stack.homeLocation) && transporter.canConnect(side));
+    }
+
     @Nullable
     public static Destination getNewBasePath(LogisticalTransporterBase start, TransporterStack stack, TransitRequest request, int min) {
         return getNewBasePath(start, stack, request, min, Collections.emptyMap());
@@ -0,0 +1,171 @@
+package mekanism.common.content.transporter;
+
+import it.unimi.dsi.fastutil.longs.Long2DoubleMap;
+import it.unimi.dsi.fastutil.longs.Long2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import mekanism.common.content.network.InventoryNetwork;
+import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
+import mekanism.common.util.EnumUtils;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Cheapest routes from a single transporter to every transporter of its network that a stack of a given color can travel through, calculated with a single pass of
+ * Dijkstra's algorithm so that all potential destinations can be checked without having to path find to each of them separately.
+ */
+public class TransporterRoutes {
+
+    private static final long NO_PARENT = Long.MIN_VALUE;
+
+    private final Long2LongMap parents = new Long2LongOpenHashMap();
+    private final Long2DoubleMap costs = new Long2DoubleOpenHashMap();
+    /**
+     * Positions of all transporters that were reached or considered while calculating the routes, if any of these change the routes may no longer be accurate.
+     */
+    private final LongSet touched = new LongOpenHashSet();
+    private final long start;
+
+    private TransporterRoutes(long start) {
+        this.start = start;
+        parents.defaultReturnValue(NO_PARENT);
+        costs.defaultReturnValue(-1);
+    }
+
+    public static TransporterRoutes calculate(InventoryNetwork network, BlockPos start, TransporterStack stack) {
+        return calculate(new NetworkGraph(network, stack), start.asLong());
+    }
+
+    static <NODE> TransporterRoutes calculate(RouteGraph<NODE> graph, long start) {
+        TransporterRoutes routes = new TransporterRoutes(start);
+        routes.calculate(graph);
+        return routes;
+    }
+
+    private <NODE> void calculate(RouteGraph<NODE> graph) {
+        PriorityQueue<Node> openSet = new PriorityQueue<>();
+        LongSet closedSet = new LongOpenHashSet();
+        costs.put(start, 0);
+        touched.add(start);
+        openSet.add(new Node(start, 0));
+        while (!openSet.isEmpty()) {
+            Node current = openSet.poll();
+            if (!closedSet.add(current.pos)) {
+                //Stale entry for a transporter we already found a cheaper route to
+                continue;
+            }
+            NODE currentTransporter = graph.get(current.pos);
+            for (Direction direction : EnumUtils.DIRECTIONS) {
+                long neighbor = BlockPos.offset(current.pos, direction);
+                NODE neighborTransporter = graph.get(neighbor);
+                if (neighborTransporter != null) {
+                    touched.add(neighbor);
+                    if (!closedSet.contains(neighbor) && graph.canMove(currentTransporter, neighborTransporter, direction)) {
+                        double tentative = current.cost + graph.getCost(neighborTransporter);
+                        double existing = costs.get(neighbor);
+                        if (existing < 0 || tentative < existing) {
+                            costs.put(neighbor, tentative);
+                            parents.put(neighbor, current.pos);
+                            openSet.add(new Node(neighbor, tentative));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return {@code true} if a change to the transporter at the given position may affect these routes.
+     */
+    public boolean touches(long pos) {
+        return touched.contains(pos);
+    }
+
+    /**
+     * @return The cost of the cheapest route to the transporter at the given position, or a negative number if it can't be reached.
+     */
+    public double getCost(BlockPos pos) {
+        return costs.get(pos.asLong());
+    }
+
+    /**
+     * Gets the path to a destination in the same format as {@link TransporterPathfinder.Pathfinder#getPath()}, with the destination first and the starting transporter
+     * last.
+     *
+     * @param destination  Destination position.
+     * @param lastPosition Position of the reachable transporter that is adjacent to the destination.
+     */
+    public List<BlockPos> getPath(BlockPos destination, BlockPos lastPosition) {
+        List<BlockPos> path = new ArrayList<>();
+        path.add(destination);
+        path.add(lastPosition);
+        for (long pos = parents.get(lastPosition.asLong()); pos != NO_PARENT; pos = parents.get(pos)) {
+            path.add(BlockPos.of(pos));
+        }
+        return path;
+    }
+
+    /**
+     * The transporters that routes are calculated over, so that calculating the routes doesn't depend on the transporters being in a world.
+     */
+    interface RouteGraph<NODE> {
+
+        /**
+         * @return The transporter at the given position, or {@code null} if there isn't one.
+         */
+        @Nullable
+        NODE get(long pos);
+
+        /**
+         * @return {@code true} if the stack can move from one transporter to the transporter next to it in the given direction.
+         */
+        boolean canMove(@Nullable NODE from, NODE to, Direction direction);
+
+        /**
+         * @return The cost of moving the stack into the given transporter.
+         */
+        double getCost(NODE node);
+    }
+
+    private static class NetworkGraph implements RouteGraph<LogisticalTransporterBase> {
+
+        private final BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
+        private final InventoryNetwork network;
+        private final TransporterStack stack;
+
+        private NetworkGraph(InventoryNetwork network, TransporterStack stack) {
+            this.network = network;
+            this.stack = stack;
+        }
+
+        @Nullable
+        @Override
+        public LogisticalTransporterBase get(long pos) {
+            return network.getTransmitter(mutable.set(pos));
+        }
+
+        @Override
+        public boolean canMove(@Nullable LogisticalTransporterBase from, LogisticalTransporterBase to, Direction direction) {
+            return stack.canInsertToTransporterNN(to, direction, from);
+        }
+
+        @Override
+        public double getCost(LogisticalTransporterBase transporter) {
+            return transporter.getCost();
+        }
+    }
+
+    private record Node(long pos, double cost) implements Comparable<Node> {
+
+        @Override
+        public int compareTo(Node other) {
+            return Double.compare(cost, other.cost);
+        }
+    }
+}
@@ -15,7 +15,9 @@ import mekanism.common.content.transporter.TransporterPathfinder.IdlePathData;
 import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
 import mekanism.common.tile.TileEntityLogisticalSorter;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.NBTUtils;
+import mekanism.common.util.StackUtils;
 import mekanism.common.util.TransporterUtils;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
@@ -32,6 +34,12 @@ import org.jetbrains.annotations.Nullable;
 
 public class TransporterStack {
 
+    private static final int COMPACT_PATH_TYPE_MASK = 0b11;
+    private static final int COMPACT_HAS_NEXT = 1 << 2;
+    private static final int COMPACT_NEXT_ADJACENT = 1 << 3;
+    private static final int COMPACT_PREV_ADJACENT = 1 << 4;
+    private static final int COMPACT_ORIGINAL_IS_PREV = 1 << 5;
+
     public ItemStack itemStack = ItemStack.EMPTY;
 
     public int progress;
@@ -96,6 +104,87 @@ public class TransporterStack {
         itemStack = dataStream.readItem();
     }
 
+    /**
+     * Creates a snapshot of this stack that only holds the information the client needs to render it in the given transporter, to allow syncing it later in the tick.
+     *
+     * @implNote The snapshot shares the {@link #itemStack} of this stack rather than copying it, as transporters always replace the item stack of a
+     * {@link TransporterStack} instead of modifying it.
+     */
+    public TransporterStack createClientCopy(LogisticalTransporterBase transporter) {
+        TransporterStack copy = new TransporterStack();
+        copy.itemStack = itemStack;
+        copy.progress = progress;
+        copy.color = color;
+        copy.originalLocation = originalLocation;
+        copy.pathType = pathType;
+        if (pathToTarget.indexOf(transporter.getTilePos()) > 0) {
+            copy.clientNext = getNext(transporter);
+        }
+        copy.clientPrev = getPrev(transporter);
+        return copy;
+    }
+
+    /**
+     * Writes a snapshot created by {@link #createClientCopy(LogisticalTransporterBase)} with the neighboring positions encoded relative to the transporter, and the item
+     * stack encoded as an index into a list of item types that is synced separately.
+     *
+     * @implNote The progress is written as is instead of as a delta, as it is always less than 100 by the time it gets synced, so it only takes a single byte as a var
+     * int. The client also doesn't keep the previous progress of a stack around to apply a delta to, as each update replaces the stack.
+     */
+    public void writeCompact(BlockPos transporterPos, FriendlyByteBuf buf, int itemIndex) {
+        Direction nextSide = clientNext == null ? null : WorldUtils.sideDifference(clientNext, transporterPos);
+        Direction prevSide = WorldUtils.sideDifference(clientPrev, transporterPos);
+        boolean originalIsPrev = clientPrev.equals(originalLocation);
+        int flags = pathType.ordinal();
+        if (clientNext != null) {
+            flags |= nextSide == null ? COMPACT_HAS_NEXT : COMPACT_HAS_NEXT | COMPACT_NEXT_ADJACENT;
+        }
+        if (prevSide != null) {
+            flags |= COMPACT_PREV_ADJACENT;
+        }
+        if (originalIsPrev) {
+            flags |= COMPACT_ORIGINAL_IS_PREV;
+        }
+        buf.writeByte(flags);
+        buf.writeVarInt(TransporterUtils.getColorIndex(color));
+        buf.writeVarInt(progress);
+        if (clientNext != null) {
+            if (nextSide == null) {
+                buf.writeBlockPos(clientNext);
+            } else {
+                buf.writeByte(nextSide.ordinal());
+            }
+        }
+        if (prevSide == null) {
+            buf.writeBlockPos(clientPrev);
+        } else {
+            buf.writeByte(prevSide.ordinal());
+        }
+        if (!originalIsPrev) {
+            buf.writeBlockPos(originalLocation);
+        }
+        buf.writeVarInt(itemIndex);
+        buf.writeVarInt(itemStack.getCount());
+    }
+
+    public static TransporterStack readCompact(BlockPos transporterPos, FriendlyByteBuf buf, List<ItemStack> itemTypes) {
+        TransporterStack stack = new TransporterStack();
+        int flags = buf.readUnsignedByte();
+        stack.pathType = Path.byIndexStatic(flags & COMPACT_PATH_TYPE_MASK);
+        stack.color = TransporterUtils.readColor(buf.readVarInt());
+        stack.progress = buf.readVarInt();
+        if (stack.progress == 0) {
+            stack.progress = 5;
+        }
+        if ((flags & COMPACT_HAS_NEXT) != 0) {
+            stack.clientNext = (flags & COMPACT_NEXT_ADJACENT) == 0 ? buf.readBlockPos() : transporterPos.relative(EnumUtils.DIRECTIONS[buf.readByte()]);
+        }
+        stack.clientPrev = (flags & COMPACT_PREV_ADJACENT) == 0 ? buf.readBlockPos() : transporterPos.relative(EnumUtils.DIRECTIONS[buf.readByte()]);
+        stack.originalLocation = (flags & COMPACT_ORIGINAL_IS_PREV) == 0 ? buf.readBlockPos() : stack.clientPrev;
+        stack.itemStack = StackUtils.size(itemTypes.get(buf.readVarInt()), buf.readVarInt());
+        return stack;
+    }
+
     public void writeToUpdateTag(LogisticalTransporterBase transporter, CompoundTag updateTag) {
         updateTag.putInt(NBTConstants.COLOR, TransporterUtils.getColorIndex(color));
         updateTag.putInt(NBTConstants.PROGRESS, progress);
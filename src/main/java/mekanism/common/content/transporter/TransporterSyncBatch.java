@@ -0,0 +1,80 @@
+package mekanism.common.content.transporter;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import mekanism.common.Mekanism;
+import mekanism.common.content.network.transmitter.DiversionTransporter;
+import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
+import mekanism.common.network.to_client.PacketTransporterBatch;
+import mekanism.common.network.to_client.PacketTransporterBatch.TransporterChanges;
+import mekanism.common.network.to_client.PacketTransporterUpdate;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Collects the changes to the stacks of the transporters in a network over the course of a tick, so that they can be sent to each player as a single packet that only
+ * contains the transporters in chunks the player is tracking.
+ */
+public class TransporterSyncBatch {
+
+    private final Map<BlockPos, TransporterChanges> changes = new Object2ObjectOpenHashMap<>();
+
+    /**
+     * Adds changes to the stacks of the given transporter. The stacks are copied immediately so that further changes to them during the tick don't affect what gets
+     * synced.
+     */
+    public void add(LogisticalTransporterBase transporter, Int2ObjectMap<TransporterStack> updates, IntSet deletes) {
+        TransporterChanges transporterChanges = changes.computeIfAbsent(transporter.getTilePos(), TransporterChanges::new);
+        for (Int2ObjectMap.Entry<TransporterStack> entry : updates.int2ObjectEntrySet()) {
+            transporterChanges.addUpdate(entry.getIntKey(), entry.getValue().createClientCopy(transporter));
+        }
+        deletes.forEach(transporterChanges::addDelete);
+        if (transporter instanceof DiversionTransporter diversionTransporter) {
+            transporterChanges.setModes(diversionTransporter.modes);
+        }
+    }
+
+    public void add(LogisticalTransporterBase transporter, int stackId, TransporterStack stack) {
+        TransporterChanges transporterChanges = changes.computeIfAbsent(transporter.getTilePos(), TransporterChanges::new);
+        transporterChanges.addUpdate(stackId, stack.createClientCopy(transporter));
+        if (transporter instanceof DiversionTransporter diversionTransporter) {
+            transporterChanges.setModes(diversionTransporter.modes);
+        }
+    }
+
+    /**
+     * Sends all the collected changes to the players tracking the chunks of the transporters that changed.
+     */
+    public void send(@Nullable Level level) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        if (level instanceof ServerLevel serverLevel) {
+            Long2ObjectMap<List<ServerPlayer>> chunkPlayers = new Long2ObjectOpenHashMap<>();
+            Map<ServerPlayer, List<TransporterChanges>> playerChanges = new Object2ObjectOpenHashMap<>();
+            for (TransporterChanges transporterChanges : changes.values()) {
+                long chunk = ChunkPos.asLong(transporterChanges.getPos());
+                List<ServerPlayer> players = chunkPlayers.computeIfAbsent(chunk, c -> serverLevel.getChunkSource().chunkMap.getPlayers(new ChunkPos(c), false));
+                for (ServerPlayer player : players) {
+                    playerChanges.computeIfAbsent(player, p -> new ArrayList<>()).add(transporterChanges);
+                }
+            }
+            for (Map.Entry<ServerPlayer, List<TransporterChanges>> entry : playerChanges.entrySet()) {
+                PacketTransporterBatch packet = new PacketTransporterBatch(entry.getValue());
+                PacketTransporterUpdate.trackSent(packet, 1);
+                Mekanism.packetHandler().sendTo(packet, entry.getKey());
+            }
+        }
+        changes.clear();
+    }
+}
@@ -0,0 +1,128 @@
+package mekanism.common.integration.computer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import mekanism.common.integration.computer.BoundComputerMethod.SelectedMethodInfo;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Runs multiple methods that don't take any arguments at once, so that a computer only has to wait for the server thread once to read many values from a handler.
+ * Results can also be kept as a snapshot for the rest of the tick, so that scripts that poll the same values repeatedly can opt in to reading them without waiting for
+ * the server thread at all.
+ */
+public class BatchedMethodCaller {
+
+    public static final String METHOD_NAME = "getMany";
+
+    private final Map<String, BoundComputerMethod> boundMethods;
+    private final LongSupplier gameTime;
+    @Nullable
+    private volatile Snapshot snapshot;
+
+    /**
+     * @param gameTime Supplies the current game time that snapshots are valid for, or a negative value if snapshots should not be used.
+     */
+    public BatchedMethodCaller(Map<String, BoundComputerMethod> boundMethods, LongSupplier gameTime) {
+        this.boundMethods = boundMethods;
+        this.gameTime = gameTime;
+    }
+
+    /**
+     * Validates that all the given methods exist and can be run without any arguments.
+     *
+     * @param noArguments Argument handler that doesn't have any arguments.
+     */
+    public <EXCEPTION extends Exception> BatchedCall prepare(ComputerArgumentHandler<EXCEPTION, ?> noArguments, Collection<String> methodNames) throws EXCEPTION {
+        List<String> names = new ArrayList<>(methodNames.size());
+        List<BoundComputerMethod> methods = new ArrayList<>(methodNames.size());
+        List<SelectedMethodInfo> selected = new ArrayList<>(methodNames.size());
+        boolean threadSafe = true;
+        for (String methodName : methodNames) {
+            if (names.contains(methodName)) {
+                continue;
+            }
+            BoundComputerMethod method = boundMethods.get(methodName);
+            if (method == null) {
+                throw noArguments.error("Unknown method %s.", methodName);
+            }
+            //Note: This errors if the method can't be called without arguments
+            SelectedMethodInfo selectedMethod = method.findMatchingImplementation(noArguments);
+            Class<?> returnType = selectedMethod.getMethod().returnType();
+            if (returnType == void.class || returnType == Void.class) {
+                throw noArguments.error("%s does not return a value and can't be used with %s.", methodName, METHOD_NAME);
+            }
+            threadSafe &= selectedMethod.getMethod().threadSafe();
+            names.add(methodName);
+            methods.add(method);
+            selected.add(selectedMethod);
+        }
+        return new BatchedCall(names, methods, selected, threadSafe);
+    }
+
+    /**
+     * @return The values of the given call from the snapshot taken this tick, or {@code null} if there is no snapshot for this tick or it doesn't contain all the values.
+     */
+    @Nullable
+    public Map<String, Object> getSnapshot(BatchedCall call) {
+        Snapshot snapshot = this.snapshot;
+        if (snapshot == null || snapshot.gameTime() != gameTime.getAsLong()) {
+            return null;
+        }
+        Map<String, Object> results = new LinkedHashMap<>();
+        for (String name : call.names()) {
+            Object value = snapshot.values().get(name);
+            if (value == null) {
+                return null;
+            }
+            results.put(name, value);
+        }
+        return results;
+    }
+
+    /**
+     * Runs all the methods of the given call.
+     *
+     * @param noArguments    Argument handler that doesn't have any arguments.
+     * @param updateSnapshot {@code true} to store the results in the snapshot for this tick.
+     * @param unwrapper      Converts the result of a method back to the value to return for it.
+     *
+     * @return Map of method name to the value it returned. Methods that returned {@code null} are not included.
+     */
+    public <EXCEPTION extends Exception, RESULT> Map<String, Object> run(ComputerArgumentHandler<EXCEPTION, RESULT> noArguments, BatchedCall call, boolean updateSnapshot,
+          Function<RESULT, @Nullable Object> unwrapper) throws EXCEPTION {
+        Map<String, Object> results = new LinkedHashMap<>();
+        for (int i = 0, size = call.names().size(); i < size; i++) {
+            Object value = unwrapper.apply(call.methods().get(i).run(noArguments, call.selected().get(i)));
+            if (value != null) {
+                results.put(call.names().get(i), value);
+            }
+        }
+        if (updateSnapshot) {
+            long time = gameTime.getAsLong();
+            if (time >= 0) {
+                Snapshot snapshot = this.snapshot;
+                Map<String, Object> values;
+                if (snapshot == null || snapshot.gameTime() != time) {
+                    values = new LinkedHashMap<>(results);
+                } else {
+                    //Merge with the values that were already read this tick, so that scripts reading different values each get served from the snapshot
+                    values = new LinkedHashMap<>(snapshot.values());
+                    values.putAll(results);
+                }
+                this.snapshot = new Snapshot(time, values);
+            }
+        }
+        return results;
+    }
+
+    public record BatchedCall(List<String> names, List<BoundComputerMethod> methods, List<SelectedMethodInfo> selected, boolean threadSafe) {
+    }
+
+    private record Snapshot(long gameTime, Map<String, Object> values) {
+    }
+}
@@ -8,6 +8,8 @@ import org.jetbrains.annotations.Nullable;
 
 public class BoundComputerMethod {
 
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
     private final String methodName;
     private final List<ThreadAwareMethodHandle> implementations;
 
@@ -59,14 +61,17 @@ public class BoundComputerMethod {
     private <EXCEPTION extends Exception> SelectedMethodInfo validateArguments(ComputerArgumentHandler<EXCEPTION, ?> argumentHandler, ThreadAwareMethodHandle overload,
           boolean error) throws EXCEPTION {
         int argumentCount = argumentHandler.getCount();
-        MethodType methodType = overload.methodHandle.type();
-        int expectedCount = methodType.parameterCount();
+        Class<?>[] parameterTypes = overload.parameterTypes;
+        int expectedCount = parameterTypes.length;
         if (argumentCount != expectedCount) {
             if (error) {
                 throw argumentHandler.error("Mismatched parameter count. %s expected: '%d' arguments, but received: '%d' arguments.", methodName,
                       expectedCount, argumentCount);
             }
             return null;
+        } else if (expectedCount == 0) {
+            //Most of our methods are getters, so we reuse the selection for methods that don't have any arguments
+            return overload.noArgumentSelection;
         }
         //Note: We implement our own type checking here rather than relying on exceptions to occur when trying to invoke
         // the method handle as it is a lot quicker to quickly do some minor type checking, than have the java native stuff
@@ -75,7 +80,7 @@ public class BoundComputerMethod {
         // numbers it passes to us, so we need to wrap them into the correct/compatible type
         Object[] sanitizedArguments = new Object[expectedCount];
         for (int index = 0; index < expectedCount; index++) {
-            Class<?> expectedType = methodType.parameterType(index);
+            Class<?> expectedType = parameterTypes[index];
             Object argument = argumentHandler.getArgument(index);
             if (argument == null) {
                 //We don't allow null arguments for our computer methods
@@ -88,27 +93,17 @@ public class BoundComputerMethod {
             boolean matches = true;
             if (expectedType != argumentClass) {
                 //Types are different, validate if they match and sanitize if needed
+                //Note: As the arguments are objects their class is never a primitive class, so we only need to check if the argument can be unboxed
+                // and if needed upcast to the expected primitive type
                 if (expectedType.isPrimitive()) {
-                    //See if we can cast the argument to the correct primitive
-                    if (argumentClass.isPrimitive()) {
-                        if (isInvalidUpcast(argumentClass, expectedType)) {
-                            //Validate if we are allowed to upcast or not from one type to another
-                            // mark that we don't have a match and should attempt to sanitize it
-                            matches = false;
-                        }
-                    } else {
-                        Class<?> primitiveArgumentClass = getPrimitiveType(argumentClass);
-                        if (expectedType != primitiveArgumentClass && isInvalidUpcast(primitiveArgumentClass, expectedType)) {
-                            //Test if we are able to auto unbox, and if needed after unboxing, upcast
-                            // mark that we don't have a match and should attempt to sanitize it
-                            matches = false;
-                        }
+                    Class<?> primitiveArgumentClass = getPrimitiveType(argumentClass);
+                    if (expectedType != primitiveArgumentClass && isInvalidUpcast(primitiveArgumentClass, expectedType)) {
+                        //Test if we are able to auto unbox, and if needed after unboxing, upcast
+                        // mark that we don't have a match and should attempt to sanitize it
+                        matches = false;
                     }
-                } else if (!argumentClass.isPrimitive() || getPrimitiveType(expectedType) != argumentClass) {
-                    //if our argument is not a primitive, or the type doesn't match after autoboxing
-                    // We "cheat" to check this by just using our existing method to unbox the expected
-                    // type to see if it directly matches our primitive type
-                    // mark that we don't have a match and should attempt to sanitize it
+                } else {
+                    //The argument is a different class than the one we expect, mark that we don't have a match and should attempt to sanitize it
                     matches = false;
                 }
                 if (!matches) {
@@ -135,37 +130,33 @@ public class BoundComputerMethod {
     }
 
     public <EXCEPTION extends Exception, RESULT> RESULT run(ComputerArgumentHandler<EXCEPTION, RESULT> argumentHandler, SelectedMethodInfo methodInfo) throws EXCEPTION {
-        MethodHandle methodHandle = methodInfo.threadAwareMethodHandle.methodHandle;
-        MethodType methodType = methodHandle.type();
-        int argumentCount = methodType.parameterCount();
+        ThreadAwareMethodHandle method = methodInfo.threadAwareMethodHandle;
+        MethodHandle invoker = method.invoker;
+        Object[] arguments = methodInfo.arguments;
         Object result;
         try {
-            //Note: We manually call invoke for a good number of arguments until we fall back to invokeWithArguments, as there is a pretty
-            // sizable performance difference in the two methods. We also call invoke instead of invokeExact for the zero argument count
-            // as it requires knowing the return type by casting which causes us issues as we don't know it at compile time and thus cannot
-            // specify the cast to the correct type directly
-            result = switch (argumentCount) {
-                case 0 -> methodHandle.invoke();
-                case 1 -> methodHandle.invoke(methodInfo.arguments[0]);
-                case 2 -> methodHandle.invoke(methodInfo.arguments[0], methodInfo.arguments[1]);
-                case 3 -> methodHandle.invoke(methodInfo.arguments[0], methodInfo.arguments[1], methodInfo.arguments[2]);
-                case 4 -> methodHandle.invoke(methodInfo.arguments[0], methodInfo.arguments[1], methodInfo.arguments[2], methodInfo.arguments[3]);
-                case 5 -> methodHandle.invoke(methodInfo.arguments[0], methodInfo.arguments[1], methodInfo.arguments[2], methodInfo.arguments[3],
-                      methodInfo.arguments[4]);
-                case 6 -> methodHandle.invoke(methodInfo.arguments[0], methodInfo.arguments[1], methodInfo.arguments[2], methodInfo.arguments[3], methodInfo.arguments[4],
-                      methodInfo.arguments[5]);
-                case 7 -> methodHandle.invoke(methodInfo.arguments[0], methodInfo.arguments[1], methodInfo.arguments[2], methodInfo.arguments[3], methodInfo.arguments[4],
-                      methodInfo.arguments[5], methodInfo.arguments[6]);
-                case 8 -> methodHandle.invoke(methodInfo.arguments[0], methodInfo.arguments[1], methodInfo.arguments[2], methodInfo.arguments[3], methodInfo.arguments[4],
-                      methodInfo.arguments[5], methodInfo.arguments[6], methodInfo.arguments[7]);
-                case 9 -> methodHandle.invoke(methodInfo.arguments[0], methodInfo.arguments[1], methodInfo.arguments[2], methodInfo.arguments[3], methodInfo.arguments[4],
-                      methodInfo.arguments[5], methodInfo.arguments[6], methodInfo.arguments[7], methodInfo.arguments[8]);
+            //Note: We manually call invokeExact for a good number of arguments until we fall back to invokeWithArguments, as there is a pretty
+            // sizable performance difference in the two methods. As the invoker has all its parameters and its return type erased to Object
+            // when it gets bound, the call site types always match it exactly, so no adaptation of the handle is needed per call
+            result = switch (arguments.length) {
+                case 0 -> (Object) invoker.invokeExact();
+                case 1 -> (Object) invoker.invokeExact(arguments[0]);
+                case 2 -> (Object) invoker.invokeExact(arguments[0], arguments[1]);
+                case 3 -> (Object) invoker.invokeExact(arguments[0], arguments[1], arguments[2]);
+                case 4 -> (Object) invoker.invokeExact(arguments[0], arguments[1], arguments[2], arguments[3]);
+                case 5 -> (Object) invoker.invokeExact(arguments[0], arguments[1], arguments[2], arguments[3], arguments[4]);
+                case 6 -> (Object) invoker.invokeExact(arguments[0], arguments[1], arguments[2], arguments[3], arguments[4], arguments[5]);
+                case 7 -> (Object) invoker.invokeExact(arguments[0], arguments[1], arguments[2], arguments[3], arguments[4], arguments[5], arguments[6]);
+                case 8 -> (Object) invoker.invokeExact(arguments[0], arguments[1], arguments[2], arguments[3], arguments[4], arguments[5], arguments[6],
+                      arguments[7]);
+                case 9 -> (Object) invoker.invokeExact(arguments[0], arguments[1], arguments[2], arguments[3], arguments[4], arguments[5], arguments[6],
+                      arguments[7], arguments[8]);
                 //Note: If we ever really get to the point this needs to be used for the number of parameters, we should heavily consider
                 // adding in more argumentCount based special cases to improve the overall performance in the calls to the method
-                default -> methodHandle.invokeWithArguments(methodInfo.arguments);
+                default -> invoker.invokeWithArguments(arguments);
             };
         } catch (Throwable e) {
-            //Possible errors for invoke/invokeWithArguments:
+            //Possible errors for invokeExact/invokeWithArguments:
             // - WrongMethodTypeException if the target's type is not identical with the caller's symbolic type descriptor
             // - ClassCastException if the target's type can be adjusted to the caller, but a reference cast fails
             // - Throwable anything thrown by the underlying method propagates unchanged through the method handle call
@@ -176,12 +167,10 @@ public class BoundComputerMethod {
             // we should extract the computer exception case to an earlier catch block
             throw argumentHandler.error(e.getMessage());
         }
-        Class<?> returnType = methodType.returnType();
-        //Check both potential void types for methods to see if we have a return type
-        if (returnType == Void.class || returnType == Void.TYPE) {
-            return argumentHandler.noResult();
+        if (method.hasResult) {
+            return argumentHandler.wrapResult(result);
         }
-        return argumentHandler.wrapResult(result);
+        return argumentHandler.noResult();
     }
 
     private static boolean isInvalidUpcast(Class<?> argumentClass, Class<?> targetClass) {
@@ -238,7 +227,42 @@ public class BoundComputerMethod {
         }
     }
 
-    public record ThreadAwareMethodHandle(MethodHandle methodHandle, List<String> paramNames, boolean threadSafe) {
+    public static final class ThreadAwareMethodHandle {
+
+        private final MethodHandle methodHandle;
+        //Version of the method handle with all the parameters and the return type erased to Object so that it can always be invoked exactly
+        private final MethodHandle invoker;
+        private final Class<?>[] parameterTypes;
+        private final List<String> paramNames;
+        private final boolean threadSafe;
+        private final boolean hasResult;
+        @Nullable
+        private final SelectedMethodInfo noArgumentSelection;
+
+        public ThreadAwareMethodHandle(MethodHandle methodHandle, List<String> paramNames, boolean threadSafe) {
+            this.methodHandle = methodHandle;
+            this.paramNames = paramNames;
+            this.threadSafe = threadSafe;
+            MethodType methodType = methodHandle.type();
+            this.invoker = methodHandle.asType(methodType.generic());
+            this.parameterTypes = methodType.parameterArray();
+            //Check both potential void types for methods to see if we have a return type
+            Class<?> returnType = methodType.returnType();
+            this.hasResult = returnType != Void.class && returnType != Void.TYPE;
+            this.noArgumentSelection = parameterTypes.length == 0 ? new SelectedMethodInfo(this, NO_ARGUMENTS) : null;
+        }
+
+        public MethodHandle methodHandle() {
+            return methodHandle;
+        }
+
+        public List<String> paramNames() {
+            return paramNames;
+        }
+
+        public boolean threadSafe() {
+            return threadSafe;
+        }
 
         public Class<?> returnType() {
             return methodHandle.type().returnType();
@@ -248,4 +272,4 @@ public class BoundComputerMethod {
             return methodHandle.type().parameterList();
         }
     }
-}
\ No newline at end of file
+}
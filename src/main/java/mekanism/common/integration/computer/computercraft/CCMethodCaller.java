@@ -5,23 +5,45 @@ import dan200.computercraft.api.lua.ILuaCallback;
 import dan200.computercraft.api.lua.ILuaContext;
 import dan200.computercraft.api.lua.LuaException;
 import dan200.computercraft.api.lua.MethodResult;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import mekanism.api.annotations.NothingNullByDefault;
+import mekanism.common.integration.computer.BatchedMethodCaller;
+import mekanism.common.integration.computer.BatchedMethodCaller.BatchedCall;
 import mekanism.common.integration.computer.BoundComputerMethod;
 import mekanism.common.integration.computer.BoundComputerMethod.SelectedMethodInfo;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 @NothingNullByDefault
 public abstract class CCMethodCaller {
 
     private final BoundComputerMethod[] methods;
     private final String[] methodNames;
+    @Nullable
+    private final BatchedMethodCaller batchedCaller;
 
     protected CCMethodCaller(Map<String, BoundComputerMethod> boundMethods) {
+        this(boundMethods, false);
+    }
+
+    /**
+     * @param batched {@code true} to also expose a {@link BatchedMethodCaller#METHOD_NAME} method that can read multiple values at once.
+     */
+    protected CCMethodCaller(Map<String, BoundComputerMethod> boundMethods, boolean batched) {
         this.methods = new BoundComputerMethod[boundMethods.size()];
-        this.methodNames = new String[this.methods.length];
+        if (batched && !boundMethods.containsKey(BatchedMethodCaller.METHOD_NAME)) {
+            this.batchedCaller = new BatchedMethodCaller(boundMethods, this::getGameTime);
+            this.methodNames = new String[this.methods.length + 1];
+            //The batched method always comes after all our bound methods
+            this.methodNames[this.methods.length] = BatchedMethodCaller.METHOD_NAME;
+        } else {
+            this.batchedCaller = null;
+            this.methodNames = new String[this.methods.length];
+        }
         int i = 0;
         for (Map.Entry<String, BoundComputerMethod> entry : boundMethods.entrySet()) {
             this.methodNames[i] = entry.getKey();
@@ -32,6 +54,13 @@ public abstract class CCMethodCaller {
 
     protected abstract String getCallerType();
 
+    /**
+     * @return The current game time that snapshots of batched calls are valid for, or a negative value if snapshots should not be used.
+     */
+    protected long getGameTime() {
+        return -1;
+    }
+
     public String[] getMethodNames() {
         return methodNames;
     }
@@ -39,9 +68,11 @@ public abstract class CCMethodCaller {
     //Note: This method intentionally matches the signature for IDynamicLuaObject, but this class doesn't implement it to make sure
     // the peripheral doesn't have issues if something is doing an instance check. (There may not be any cases this is a problem)
     public MethodResult callMethod(ILuaContext context, int methodIndex, IArguments arguments) throws LuaException {
-        if (methodIndex < 0 || methodIndex >= methods.length) {
+        if (batchedCaller != null && methodIndex == methods.length) {
+            return callBatched(batchedCaller, context, arguments);
+        } else if (methodIndex < 0 || methodIndex >= methods.length) {
             throw new LuaException(String.format(Locale.ROOT, "Method index '%d' is out of bounds. This %s only has '%d' methods.", methodIndex, getCallerType(),
-                  methods.length));
+                  methodNames.length));
         }
         BoundComputerMethod method = methods[methodIndex];
         CCArgumentWrapper argumentWrapper = new CCArgumentWrapper(arguments);
@@ -56,6 +87,38 @@ public abstract class CCMethodCaller {
         return new TaskCallback(task).pull;
     }
 
+    private MethodResult callBatched(BatchedMethodCaller batchedCaller, ILuaContext context, IArguments arguments) throws LuaException {
+        Map<?, ?> table = arguments.getTable(0);
+        boolean snapshot = arguments.optBoolean(1, false);
+        List<String> names = new ArrayList<>(table.size());
+        for (Object value : table.values()) {
+            if (!(value instanceof String name)) {
+                throw new LuaException(String.format(Locale.ROOT, "Expected a table of method names for %s but received %s.", BatchedMethodCaller.METHOD_NAME, value));
+            }
+            names.add(name);
+        }
+        CCArgumentWrapper noArguments = new CCArgumentWrapper(arguments.drop(arguments.count()));
+        BatchedCall call = batchedCaller.prepare(noArguments, names);
+        if (snapshot) {
+            Map<String, Object> values = batchedCaller.getSnapshot(call);
+            if (values != null) {
+                return MethodResult.of(values);
+            }
+        }
+        if (call.threadSafe()) {
+            return MethodResult.of(batchedCaller.run(noArguments, call, snapshot, CCMethodCaller::unwrapResult));
+        }
+        //Read all the values in a single task on the game thread rather than having to wait for the game thread once per value
+        long task = context.issueMainThreadTask(() -> new Object[]{batchedCaller.run(noArguments, call, snapshot, CCMethodCaller::unwrapResult)});
+        return new TaskCallback(task).pull;
+    }
+
+    @Nullable
+    private static Object unwrapResult(MethodResult result) {
+        Object[] values = result.getResult();
+        return values == null || values.length == 0 ? null : values[0];
+    }
+
     /**
      * Basically a copy of dan200.computercraft.core.asm.TaskCallback as <a href="https://github.com/SquidDev-CC/CC-Tweaked/discussions/728">suggested</a> due to there
      * not being a method via the API to do this. Ideally eventually it will be replaced by a method on ILuaContext that we can just call
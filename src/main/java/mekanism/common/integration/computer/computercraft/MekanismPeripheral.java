@@ -12,6 +12,7 @@ import java.util.Map;
 import mekanism.api.annotations.NothingNullByDefault;
 import mekanism.common.integration.computer.BoundComputerMethod;
 import mekanism.common.integration.computer.IComputerTile;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import org.jetbrains.annotations.Nullable;
 
@@ -32,7 +33,7 @@ public class MekanismPeripheral<TILE extends BlockEntity & IComputerTile> extend
     private final TILE tile;
 
     private MekanismPeripheral(TILE tile, Map<String, BoundComputerMethod> boundMethods) {
-        super(boundMethods);
+        super(boundMethods, true);
         this.tile = tile;
         this.name = this.tile.getComputerName();
     }
@@ -42,6 +43,12 @@ public class MekanismPeripheral<TILE extends BlockEntity & IComputerTile> extend
         return "peripheral";
     }
 
+    @Override
+    protected long getGameTime() {
+        Level level = tile.getLevel();
+        return level == null ? -1 : level.getGameTime();
+    }
+
     @Override
     public String getType() {
         return name;
@@ -0,0 +1,127 @@
+package mekanism.common.integration.computer.opencomputers2;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import li.cil.oc2.api.bus.device.rpc.RPCInvocation;
+import li.cil.oc2.api.bus.device.rpc.RPCMethod;
+import li.cil.oc2.api.bus.device.rpc.RPCMethodGroup;
+import li.cil.oc2.api.bus.device.rpc.RPCParameter;
+import mekanism.api.annotations.NothingNullByDefault;
+import mekanism.common.integration.computer.BatchedMethodCaller;
+import mekanism.common.integration.computer.BatchedMethodCaller.BatchedCall;
+import mekanism.common.integration.computer.ComputerException;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Exposes {@link BatchedMethodCaller} to OC2 as {@code getMany(methods, [snapshot])}.
+ */
+@NothingNullByDefault
+public class MekanismBatchedRPCMethod implements RPCMethodGroup {
+
+    private static final RPCParameter METHODS = new MekanismRPCParameter(String[].class, "methods");
+    private static final RPCParameter SNAPSHOT = new MekanismRPCParameter(boolean.class, "snapshot");
+
+    private final BatchedMethodCaller caller;
+    private final Set<RPCMethod> overloads;
+
+    MekanismBatchedRPCMethod(BatchedMethodCaller caller) {
+        this.caller = caller;
+        this.overloads = Set.of(new Overload(null, new RPCParameter[]{METHODS}), new Overload(null, new RPCParameter[]{METHODS, SNAPSHOT}));
+    }
+
+    @Override
+    public String getName() {
+        return BatchedMethodCaller.METHOD_NAME;
+    }
+
+    @Override
+    public Optional<RPCMethod> findOverload(RPCInvocation invocation) {
+        JsonArray parameters = invocation.getParameters();
+        int count = parameters.size();
+        if (count == 0 || count > 2 || !parameters.get(0).isJsonArray()) {
+            return Optional.empty();
+        } else if (count == 2 && !(parameters.get(1).isJsonPrimitive() && parameters.get(1).getAsJsonPrimitive().isBoolean())) {
+            return Optional.empty();
+        }
+        JsonArray methods = parameters.get(0).getAsJsonArray();
+        List<String> methodNames = new ArrayList<>(methods.size());
+        for (JsonElement method : methods) {
+            if (!method.isJsonPrimitive() || !method.getAsJsonPrimitive().isString()) {
+                return Optional.empty();
+            }
+            methodNames.add(method.getAsString());
+        }
+        try {
+            BatchedCall call = caller.prepare(new OC2ArgumentWrapper(invocation).withoutArguments(), methodNames);
+            return Optional.of(new Overload(call, count == 2 ? new RPCParameter[]{METHODS, SNAPSHOT} : new RPCParameter[]{METHODS}));
+        } catch (ComputerException ignored) {
+            //Ignore exceptions as maybe the overload is provided by another device
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Set<RPCMethod> getOverloads() {
+        return overloads;
+    }
+
+    private class Overload implements RPCMethod {
+
+        @Nullable
+        private final BatchedCall call;
+        private final RPCParameter[] parameters;
+
+        private Overload(@Nullable BatchedCall call, RPCParameter[] parameters) {
+            this.call = call;
+            this.parameters = parameters;
+        }
+
+        @Override
+        public String getName() {
+            return BatchedMethodCaller.METHOD_NAME;
+        }
+
+        @Override
+        public boolean isSynchronized() {
+            return call == null || !call.threadSafe();
+        }
+
+        @Override
+        public Class<?> getReturnType() {
+            return Map.class;
+        }
+
+        @Override
+        public RPCParameter[] getParameters() {
+            return parameters;
+        }
+
+        @Nullable
+        @Override
+        public Object invoke(RPCInvocation invocation) throws ComputerException {
+            if (call == null) {
+                //If someone ends up calling invoke on the overload directly, look up the methods the invocation is for
+                Optional<RPCMethod> overload = findOverload(invocation);
+                if (overload.isEmpty()) {
+                    throw new ComputerException("Parameters do not match signature of %s.", getName());
+                }
+                return overload.get().invoke(invocation);
+            }
+            JsonArray invocationParameters = invocation.getParameters();
+            boolean snapshot = invocationParameters.size() > 1 && invocationParameters.get(1).getAsBoolean();
+            if (snapshot) {
+                Map<String, Object> values = caller.getSnapshot(call);
+                if (values != null) {
+                    return values;
+                }
+            }
+            return caller.run(new OC2ArgumentWrapper(invocation).withoutArguments(), call, snapshot, Function.identity());
+        }
+    }
+}
@@ -1,13 +1,16 @@
 package mekanism.common.integration.computer.opencomputers2;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import li.cil.oc2.api.bus.device.rpc.RPCDevice;
 import li.cil.oc2.api.bus.device.rpc.RPCMethodGroup;
+import mekanism.common.integration.computer.BatchedMethodCaller;
 import mekanism.common.integration.computer.BoundComputerMethod;
 import mekanism.common.integration.computer.IComputerTile;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import org.jetbrains.annotations.NotNull;
 
@@ -28,7 +31,17 @@ public class MekanismDevice<TILE extends BlockEntity & IComputerTile> implements
 
     private MekanismDevice(TILE tile, Map<String, BoundComputerMethod> boundMethods) {
         this.name = Collections.singletonList(tile.getComputerName());
-        this.methodGroups = boundMethods.entrySet().stream().<RPCMethodGroup>map(entry -> new MekanismRPCMethodGroup(entry.getKey(), entry.getValue())).toList();
+        List<RPCMethodGroup> methodGroups = new ArrayList<>(boundMethods.size() + 1);
+        for (Map.Entry<String, BoundComputerMethod> entry : boundMethods.entrySet()) {
+            methodGroups.add(new MekanismRPCMethodGroup(entry.getKey(), entry.getValue()));
+        }
+        if (!boundMethods.containsKey(BatchedMethodCaller.METHOD_NAME)) {
+            methodGroups.add(new MekanismBatchedRPCMethod(new BatchedMethodCaller(boundMethods, () -> {
+                Level level = tile.getLevel();
+                return level == null ? -1 : level.getGameTime();
+            })));
+        }
+        this.methodGroups = List.copyOf(methodGroups);
     }
 
     @NotNull
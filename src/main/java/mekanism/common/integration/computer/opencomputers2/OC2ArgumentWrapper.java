@@ -1,5 +1,7 @@
 package mekanism.common.integration.computer.opencomputers2;
 
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonPrimitive;
 import li.cil.oc2.api.bus.device.rpc.RPCInvocation;
@@ -10,15 +12,28 @@ import org.jetbrains.annotations.Nullable;
 
 public class OC2ArgumentWrapper extends ComputerArgumentHandler<ComputerException, Object> {
 
-    private final RPCInvocation invocation;
+    private final JsonArray parameters;
+    private final Gson gson;
 
     OC2ArgumentWrapper(RPCInvocation invocation) {
-        this.invocation = invocation;
+        this(invocation.getParameters(), invocation.getGson());
+    }
+
+    private OC2ArgumentWrapper(JsonArray parameters, Gson gson) {
+        this.parameters = parameters;
+        this.gson = gson;
+    }
+
+    /**
+     * @return An argument wrapper for the same invocation that doesn't have any arguments.
+     */
+    OC2ArgumentWrapper withoutArguments() {
+        return new OC2ArgumentWrapper(new JsonArray(), gson);
     }
 
     @Override
     public int getCount() {
-        return invocation.getParameters().size();
+        return parameters.size();
     }
 
     @Override
@@ -29,7 +44,7 @@ public class OC2ArgumentWrapper extends ComputerArgumentHandler<ComputerExceptio
     @Nullable
     @Override
     public JsonElement getArgument(int index) {
-        return invocation.getParameters().get(index);
+        return parameters.get(index);
     }
 
     @Override
@@ -64,7 +79,7 @@ public class OC2ArgumentWrapper extends ComputerArgumentHandler<ComputerExceptio
             //TODO: If people report any other types that aren't handled quite well (as we have only done limited testing),
             // handle them either via OC2's system or via our system here
             try {
-                return invocation.getGson().fromJson(element, expectedType);
+                return gson.fromJson(element, expectedType);
             } catch (Throwable ignored) {
             }
         }
@@ -1,9 +1,13 @@
 package mekanism.common.inventory.container;
 
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -22,6 +26,7 @@ import mekanism.common.content.qio.QIOCraftingWindow;
 import mekanism.common.content.qio.QIOFrequency;
 import mekanism.common.content.qio.SearchQueryParser;
 import mekanism.common.content.qio.SearchQueryParser.ISearchQuery;
+import mekanism.common.content.qio.SearchQueryParser.SearchTokens;
 import mekanism.common.inventory.GuiComponents.IDropdownEnum;
 import mekanism.common.inventory.GuiComponents.IToggleEnum;
 import mekanism.common.inventory.ISlotClickHandler;
@@ -66,6 +71,9 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     private SortDirection sortDirection;
 
     private Object2LongMap<UUIDAwareHashedItem> cachedInventory = new Object2LongOpenHashMap<>();
+    private Map<UUIDAwareHashedItem, ItemSlotData> slotLookup = new Object2ObjectOpenHashMap<>();
+    //Items by the index the server refers to them by while we are viewing them
+    private Int2ObjectMap<UUIDAwareHashedItem> sessionItems = new Int2ObjectOpenHashMap<>();
     private long cachedCountCapacity;
     private int cachedTypeCapacity;
     private long totalItems;
@@ -77,6 +85,8 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
 
     private Map<String, List<IScrollableSlot>> searchCache = new Object2ObjectOpenHashMap<>();
     private String searchQuery = "";
+    @Nullable
+    private ISearchQuery parsedSearchQuery;
 
     private int doubleClickTransferTicks = 0;
     private int lastSlot = -1;
@@ -124,6 +134,8 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     protected void sync(QIOItemViewerContainer container) {
         container.sortType = sortType;
         container.cachedInventory = cachedInventory;
+        container.slotLookup = slotLookup;
+        container.sessionItems = sessionItems;
         container.cachedCountCapacity = cachedCountCapacity;
         container.cachedTypeCapacity = cachedTypeCapacity;
         container.totalItems = totalItems;
@@ -131,6 +143,7 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         container.searchList = searchList;
         container.searchCache = searchCache;
         container.searchQuery = searchQuery;
+        container.parsedSearchQuery = parsedSearchQuery;
         container.selectedWindow = getSelectedWindow();
     }
 
@@ -172,10 +185,19 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     protected void openInventory(@NotNull Inventory inv) {
         super.openInventory(inv);
         if (isRemote()) {
-            Mekanism.packetHandler().sendToServer(PacketGuiItemDataRequest.qioItemViewer());
+            requestItems();
         }
     }
 
+    /**
+     * Requests the items from the server, or if they are already being sent lets the server know the order we are viewing them in, so that it can send the ones we can
+     * see first.
+     */
+    private void requestItems() {
+        int visibleSlots = MekanismConfig.client.qioItemViewerSlotsX.get() * MekanismConfig.client.qioItemViewerSlotsY.get();
+        Mekanism.packetHandler().sendToServer(PacketGuiItemDataRequest.qioItemViewer(sortType, sortDirection, visibleSlots));
+    }
+
     @Override
     protected void closeInventory(@NotNull Player player) {
         super.closeInventory(player);
@@ -306,14 +328,40 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         return transferSuccess(currentSlot, player, currentSlot.getItem(), ret);
     }
 
-    public void handleBatchUpdate(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
+    public void handleBatchUpdate(Int2ObjectMap<UUIDAwareHashedItem> definitions, Int2LongMap counts, long countCapacity, int typeCapacity) {
+        sessionItems.clear();
+        handleBatchUpdate(resolveSessionItems(definitions, counts), countCapacity, typeCapacity);
+    }
+
+    public void handleUpdate(Int2ObjectMap<UUIDAwareHashedItem> definitions, Int2LongMap counts, long countCapacity, int typeCapacity) {
+        handleUpdate(resolveSessionItems(definitions, counts), countCapacity, typeCapacity);
+    }
+
+    /**
+     * Looks up the items the server sent counts for by their index, and keeps track of any items that the server is sending to us for the first time.
+     */
+    private Object2LongMap<UUIDAwareHashedItem> resolveSessionItems(Int2ObjectMap<UUIDAwareHashedItem> definitions, Int2LongMap counts) {
+        sessionItems.putAll(definitions);
+        Object2LongMap<UUIDAwareHashedItem> itemMap = new Object2LongOpenHashMap<>(counts.size());
+        for (Int2LongMap.Entry entry : counts.int2LongEntrySet()) {
+            long count = entry.getLongValue();
+            //Items that get removed are forgotten about by the server, and if they get added again they will be sent to us in full with a new index
+            UUIDAwareHashedItem item = count == 0 ? sessionItems.remove(entry.getIntKey()) : sessionItems.get(entry.getIntKey());
+            if (item != null) {
+                itemMap.put(item, count);
+            }
+        }
+        return itemMap;
+    }
+
+    private void handleBatchUpdate(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
         cachedInventory = itemMap;
         cachedCountCapacity = countCapacity;
         cachedTypeCapacity = typeCapacity;
         syncItemList();
     }
 
-    public void handleUpdate(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
+    private void handleUpdate(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
         cachedCountCapacity = countCapacity;
         cachedTypeCapacity = typeCapacity;
         if (itemMap.isEmpty()) {
@@ -321,21 +369,78 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
             // just short circuit a lot of logic
             return;
         }
+        if (itemList == null) {
+            //We haven't built the list yet, so just apply the changes and build it from scratch
+            itemMap.object2LongEntrySet().forEach(entry -> {
+                long value = entry.getLongValue();
+                if (value == 0) {
+                    cachedInventory.removeLong(entry.getKey());
+                } else {
+                    cachedInventory.put(entry.getKey(), value);
+                }
+            });
+            syncItemList();
+            return;
+        }
+        //Apply the changes directly to the sorted lists instead of rebuilding and resorting them, as in general only a few items will have changed
+        Comparator<IScrollableSlot> comparator = sortType.getComparator(sortDirection);
+        boolean updateSearch = searchList != null && parsedSearchQuery != null;
         itemMap.object2LongEntrySet().forEach(entry -> {
+            UUIDAwareHashedItem key = entry.getKey();
             long value = entry.getLongValue();
+            ItemSlotData slot = slotLookup.get(key);
             if (value == 0) {
-                cachedInventory.removeLong(entry.getKey());
+                cachedInventory.removeLong(key);
+                if (slot != null) {
+                    slotLookup.remove(key);
+                    totalItems -= slot.count;
+                    removeSorted(itemList, slot, comparator);
+                    if (updateSearch) {
+                        removeSorted(searchList, slot, comparator);
+                    }
+                }
             } else {
-                cachedInventory.put(entry.getKey(), value);
+                cachedInventory.put(key, value);
+                if (slot == null) {
+                    slot = new ItemSlotData(key, key.getUUID(), value);
+                    slotLookup.put(key, slot);
+                    totalItems += value;
+                    insertSorted(itemList, slot, comparator);
+                    if (updateSearch && parsedSearchQuery.matches(slot.searchTokens)) {
+                        insertSorted(searchList, slot, comparator);
+                    }
+                } else if (slot.count != value) {
+                    totalItems += value - slot.count;
+                    if (sortType.sortsByCount) {
+                        //The position of the slot depends on the count, so we need to remove it before updating the count and then insert it again
+                        int searchIndex = updateSearch ? removeSorted(searchList, slot, comparator) : -1;
+                        removeSorted(itemList, slot, comparator);
+                        slot.count = value;
+                        insertSorted(itemList, slot, comparator);
+                        if (searchIndex != -1) {
+                            insertSorted(searchList, slot, comparator);
+                        }
+                    } else {
+                        slot.count = value;
+                    }
+                }
             }
         });
-        syncItemList();
+        //The contents changed so any other cached searches are now stale
+        searchCache.clear();
+        if (updateSearch) {
+            searchCache.put(searchQuery, searchList);
+        }
     }
 
     public void handleKill() {
         itemList = null;
         searchList = null;
         cachedInventory.clear();
+        slotLookup.clear();
+        sessionItems.clear();
+        searchCache.clear();
+        totalItems = 0;
     }
 
     public QIOCraftingTransferHelper getTransferHelper(Player player, QIOCraftingWindow craftingWindow) {
@@ -349,15 +454,21 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         itemList.clear();
         searchCache.clear();
         totalItems = 0;
-        //Note: While when only updating some items it would be better in terms of memory churn to just update
-        // the entries in the itemList that changed instead of creating a new ItemSlotData for each one that is the same,
-        // this greatly increases the time complexity of doing so due to having to find the matching entry in the itemList
-        // so is not worth doing so
+        Map<UUIDAwareHashedItem, ItemSlotData> previousSlots = slotLookup;
+        slotLookup = new Object2ObjectOpenHashMap<>(cachedInventory.size());
         cachedInventory.forEach((key, value) -> {
-            itemList.add(new ItemSlotData(key, key.getUUID(), value));
+            //Reuse the existing slot data where possible so that we don't have to look up the display names and search tokens again
+            ItemSlotData slot = previousSlots.get(key);
+            if (slot == null) {
+                slot = new ItemSlotData(key, key.getUUID(), value);
+            } else {
+                slot.count = value;
+            }
+            slotLookup.put(key, slot);
+            itemList.add(slot);
             totalItems += value;
         });
-        sortItemList();
+        sortType.sort(itemList, sortDirection);
         if (!searchQuery.isEmpty()) {
             updateSearch(searchQuery);
         }
@@ -366,9 +477,58 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     private void sortItemList() {
         if (itemList != null) {
             sortType.sort(itemList, sortDirection);
+            //Cached searches are sorted in the old order, but as the search list is a subset of the item list we can just filter it again
+            searchCache.clear();
+            if (!searchQuery.isEmpty()) {
+                updateSearch(searchQuery);
+            }
         }
     }
 
+    /**
+     * Inserts the slot into the given list that is sorted by the given comparator.
+     */
+    private static void insertSorted(List<IScrollableSlot> list, IScrollableSlot slot, Comparator<IScrollableSlot> comparator) {
+        int index = Collections.binarySearch(list, slot, comparator);
+        list.add(index < 0 ? -index - 1 : index, slot);
+    }
+
+    /**
+     * Removes the slot from the given list that is sorted by the given comparator.
+     *
+     * @return The index the slot was at, or {@code -1} if it was not in the list.
+     */
+    private static int removeSorted(List<IScrollableSlot> list, IScrollableSlot slot, Comparator<IScrollableSlot> comparator) {
+        int index = Collections.binarySearch(list, slot, comparator);
+        if (index < 0) {
+            return -1;
+        }
+        //Multiple slots may compare as equal (for example stacks with the same name but different NBT), so check all the ones around the match
+        if (list.get(index) != slot) {
+            int found = -1;
+            for (int i = index - 1; i >= 0 && comparator.compare(list.get(i), slot) == 0; i--) {
+                if (list.get(i) == slot) {
+                    found = i;
+                    break;
+                }
+            }
+            if (found == -1) {
+                for (int i = index + 1, size = list.size(); i < size && comparator.compare(list.get(i), slot) == 0; i++) {
+                    if (list.get(i) == slot) {
+                        found = i;
+                        break;
+                    }
+                }
+                if (found == -1) {
+                    return -1;
+                }
+            }
+            index = found;
+        }
+        list.remove(index);
+        return index;
+    }
+
     /**
      * @apiNote Only call this client side
      */
@@ -377,6 +537,7 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         MekanismConfig.client.qioItemViewerSortDirection.set(sortDirection);
         MekanismConfig.client.save();
         sortItemList();
+        requestItems();
     }
 
     public SortDirection getSortDirection() {
@@ -391,6 +552,7 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         MekanismConfig.client.qioItemViewerSortType.set(sortType);
         MekanismConfig.client.save();
         sortItemList();
+        requestItems();
     }
 
     public ListSortType getSortType() {
@@ -470,12 +632,19 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         if (!isRemote() || itemList == null) {
             return;
         }
+        if (!queryText.equals(searchQuery) || parsedSearchQuery == null) {
+            parsedSearchQuery = queryText.isEmpty() ? null : SearchQueryParser.parse(queryText);
+        }
         searchQuery = queryText;
+        if (parsedSearchQuery == null) {
+            searchList = null;
+            return;
+        }
+        ISearchQuery query = parsedSearchQuery;
         searchList = searchCache.computeIfAbsent(queryText, text -> {
             List<IScrollableSlot> list = new ArrayList<>();
-            ISearchQuery query = SearchQueryParser.parse(text);
             for (IScrollableSlot slot : itemList) {
-                if (query.matches(slot.item().getInternalStack())) {
+                if (query.matches(((ItemSlotData) slot).searchTokens)) {
                     list.add(slot);
                 }
             }
@@ -508,7 +677,56 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         }
     }
 
-    private record ItemSlotData(HashedItem item, UUID itemUUID, long count) implements IScrollableSlot {
+    private static class ItemSlotData implements IScrollableSlot {
+
+        private final HashedItem item;
+        @Nullable
+        private final UUID itemUUID;
+        private final SearchTokens searchTokens;
+        private long count;
+        @Nullable
+        private String displayName;
+        @Nullable
+        private String modID;
+
+        private ItemSlotData(HashedItem item, @Nullable UUID itemUUID, long count) {
+            this.item = item;
+            this.itemUUID = itemUUID;
+            this.count = count;
+            this.searchTokens = new SearchTokens(item.getInternalStack());
+        }
+
+        @Override
+        public HashedItem item() {
+            return item;
+        }
+
+        @Override
+        public UUID itemUUID() {
+            return itemUUID;
+        }
+
+        @Override
+        public long count() {
+            return count;
+        }
+
+        @Override
+        public String getDisplayName() {
+            //Cache the display name as it gets looked up a lot while sorting and binary searching
+            if (displayName == null) {
+                displayName = IScrollableSlot.super.getDisplayName();
+            }
+            return displayName;
+        }
+
+        @Override
+        public String getModID() {
+            if (modID == null) {
+                modID = IScrollableSlot.super.getModID();
+            }
+            return modID;
+        }
     }
 
     public enum SortDirection implements IToggleEnum<SortDirection> {
@@ -539,30 +757,37 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     }
 
     public enum ListSortType implements IDropdownEnum<ListSortType> {
-        NAME(MekanismLang.LIST_SORT_NAME, MekanismLang.LIST_SORT_NAME_DESC, Comparator.comparing(IScrollableSlot::getDisplayName)),
-        SIZE(MekanismLang.LIST_SORT_COUNT, MekanismLang.LIST_SORT_COUNT_DESC, Comparator.comparingLong(IScrollableSlot::count).thenComparing(IScrollableSlot::getDisplayName),
+        NAME(MekanismLang.LIST_SORT_NAME, MekanismLang.LIST_SORT_NAME_DESC, false, Comparator.comparing(IScrollableSlot::getDisplayName)),
+        SIZE(MekanismLang.LIST_SORT_COUNT, MekanismLang.LIST_SORT_COUNT_DESC, true, Comparator.comparingLong(IScrollableSlot::count).thenComparing(IScrollableSlot::getDisplayName),
               Comparator.comparingLong(IScrollableSlot::count).reversed().thenComparing(IScrollableSlot::getDisplayName)),
-        MOD(MekanismLang.LIST_SORT_MOD, MekanismLang.LIST_SORT_MOD_DESC, Comparator.comparing(IScrollableSlot::getModID).thenComparing(IScrollableSlot::getDisplayName),
+        MOD(MekanismLang.LIST_SORT_MOD, MekanismLang.LIST_SORT_MOD_DESC, false, Comparator.comparing(IScrollableSlot::getModID).thenComparing(IScrollableSlot::getDisplayName),
               Comparator.comparing(IScrollableSlot::getModID).reversed().thenComparing(IScrollableSlot::getDisplayName));
 
         private final ILangEntry name;
         private final ILangEntry tooltip;
+        private final boolean sortsByCount;
         private final Comparator<IScrollableSlot> ascendingComparator;
         private final Comparator<IScrollableSlot> descendingComparator;
 
-        ListSortType(ILangEntry name, ILangEntry tooltip, Comparator<IScrollableSlot> ascendingComparator) {
-            this(name, tooltip, ascendingComparator, ascendingComparator.reversed());
+        ListSortType(ILangEntry name, ILangEntry tooltip, boolean sortsByCount, Comparator<IScrollableSlot> ascendingComparator) {
+            this(name, tooltip, sortsByCount, ascendingComparator, ascendingComparator.reversed());
         }
 
-        ListSortType(ILangEntry name, ILangEntry tooltip, Comparator<IScrollableSlot> ascendingComparator, Comparator<IScrollableSlot> descendingComparator) {
+        ListSortType(ILangEntry name, ILangEntry tooltip, boolean sortsByCount, Comparator<IScrollableSlot> ascendingComparator,
+              Comparator<IScrollableSlot> descendingComparator) {
             this.name = name;
             this.tooltip = tooltip;
+            this.sortsByCount = sortsByCount;
             this.ascendingComparator = ascendingComparator;
             this.descendingComparator = descendingComparator;
         }
 
+        public Comparator<IScrollableSlot> getComparator(SortDirection direction) {
+            return direction.isAscending() ? ascendingComparator : descendingComparator;
+        }
+
         public void sort(List<IScrollableSlot> list, SortDirection direction) {
-            list.sort(direction.isAscending() ? ascendingComparator : descendingComparator);
+            list.sort(getComparator(direction));
         }
 
         @Override
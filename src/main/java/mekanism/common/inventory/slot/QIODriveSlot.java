@@ -99,5 +99,18 @@ public class QIODriveSlot extends BasicInventorySlot {
         if (frequency != null) {
             frequency.removeDrive(key, true);
         }
+        //Move the contents back onto the drive now that it is leaving the holder, so that nothing outside a holder refers to the mapped drive storage
+        if (getStack().getItem() instanceof IQIODriveItem driveItem) {
+            driveItem.detachFromStorage(getStack());
+        }
+    }
+
+    /**
+     * Called when the holder of this slot is removed from the world, to move the contents of the drive back onto the stack before the drive gets dropped.
+     */
+    public void onHolderRemoved() {
+        if (!isRemote() && !isEmpty()) {
+            removeDrive();
+        }
     }
 }
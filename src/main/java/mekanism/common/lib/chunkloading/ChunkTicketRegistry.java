@@ -0,0 +1,138 @@
+package mekanism.common.lib.chunkloading;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2BooleanLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2BooleanMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.Map;
+import java.util.Set;
+import mekanism.common.Mekanism;
+import mekanism.common.util.MekanismUtils;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.common.world.ForgeChunkManager;
+
+/**
+ * Keeps track of the chunk tickets our chunk loaders have forced in each dimension, and batches any changes to them so that they get applied once at the end of the tick.
+ * Only the last change to each ticket in a tick is applied, so loaders that release and then register the same chunks again in a single tick (for example when their
+ * data gets reloaded) don't cause any ticket churn. The number of loaders forcing each chunk is reference counted, so that chunks shared by dense clusters of loaders
+ * are only counted once.
+ */
+public class ChunkTicketRegistry {
+
+    private ChunkTicketRegistry() {
+    }
+
+    private static final Map<ResourceKey<Level>, DimensionTickets> dimensions = new Object2ObjectOpenHashMap<>();
+
+    /**
+     * Queues adding or removing a chunk ticket to be applied at the end of the tick.
+     *
+     * @param world   World the ticket is in.
+     * @param owner   Position of the chunk loader that owns the ticket.
+     * @param chunk   Chunk position as a long.
+     * @param add     {@code true} to force the chunk, {@code false} to stop forcing it.
+     * @param ticking {@code true} if the chunk should be fully ticking.
+     */
+    public static void forceChunk(ServerLevel world, BlockPos owner, long chunk, boolean add, boolean ticking) {
+        getTickets(world).pending.put(new Ticket(owner.immutable(), chunk, ticking), add);
+    }
+
+    /**
+     * Tracks a ticket that was already forced outside the registry, such as while the tickets for a world are being validated when it loads.
+     */
+    public static void trackForced(ServerLevel world, BlockPos owner, long chunk, boolean ticking) {
+        getTickets(world).track(new Ticket(owner.immutable(), chunk, ticking), true);
+    }
+
+    /**
+     * Called at the end of each level's tick to apply any changes to the tickets in that dimension.
+     */
+    public static void tickEnd(ServerLevel world) {
+        DimensionTickets tickets = dimensions.get(world.dimension());
+        if (tickets != null) {
+            tickets.flush(world);
+            if (tickets.requested > 0 && MekanismUtils.shouldLogDebugMetrics(world)) {
+                Mekanism.logger.info("{} chunk ticket changes were requested in {} in the last minute and {} were applied. {} tickets are forcing {} chunks.",
+                      tickets.requested, world.dimension().location(), tickets.applied, tickets.forced.size(), tickets.loadersPerChunk.size());
+                tickets.requested = 0;
+                tickets.applied = 0;
+            }
+        }
+    }
+
+    /**
+     * Applies any pending ticket changes for a world that is being unloaded and then stops tracking its tickets. Forge persists the tickets and our loaders will validate
+     * them when the world gets loaded again.
+     */
+    public static void unload(ServerLevel world) {
+        DimensionTickets tickets = dimensions.remove(world.dimension());
+        if (tickets != null) {
+            tickets.flush(world);
+        }
+    }
+
+    public static void reset() {
+        dimensions.clear();
+    }
+
+    private static DimensionTickets getTickets(ServerLevel world) {
+        return dimensions.computeIfAbsent(world.dimension(), dimension -> new DimensionTickets());
+    }
+
+    private static class DimensionTickets {
+
+        private final Object2BooleanLinkedOpenHashMap<Ticket> pending = new Object2BooleanLinkedOpenHashMap<>();
+        private final Set<Ticket> forced = new ObjectOpenHashSet<>();
+        private final Long2IntMap loadersPerChunk = new Long2IntOpenHashMap();
+        private int requested;
+        private int applied;
+
+        private void flush(ServerLevel world) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            requested += pending.size();
+            for (ObjectIterator<Object2BooleanMap.Entry<Ticket>> iterator = pending.object2BooleanEntrySet().fastIterator(); iterator.hasNext(); ) {
+                Object2BooleanMap.Entry<Ticket> entry = iterator.next();
+                Ticket ticket = entry.getKey();
+                boolean add = entry.getBooleanValue();
+                //Note: Removals are always passed on so that we can't leak a ticket that we didn't know about, but we can skip forcing tickets we already have
+                if (track(ticket, add) || !add) {
+                    ForgeChunkManager.forceChunk(world, Mekanism.MODID, ticket.owner(), (int) ticket.chunk(), (int) (ticket.chunk() >> 32), add, ticket.ticking());
+                    applied++;
+                }
+            }
+            pending.clear();
+        }
+
+        /**
+         * @return {@code true} if this changed which tickets are being tracked.
+         */
+        private boolean track(Ticket ticket, boolean add) {
+            if (add) {
+                if (forced.add(ticket)) {
+                    loadersPerChunk.mergeInt(ticket.chunk(), 1, Integer::sum);
+                    return true;
+                }
+            } else if (forced.remove(ticket)) {
+                int loaders = loadersPerChunk.get(ticket.chunk()) - 1;
+                if (loaders <= 0) {
+                    loadersPerChunk.remove(ticket.chunk());
+                } else {
+                    loadersPerChunk.put(ticket.chunk(), loaders);
+                }
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private record Ticket(BlockPos owner, long chunk, boolean ticking) {
+    }
+}
@@ -1,7 +1,10 @@
 package mekanism.common.lib.frequency;
 
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import mekanism.api.Coord4D;
 import mekanism.api.IFrequency;
 import mekanism.api.NBTConstants;
 import mekanism.api.security.SecurityMode;
@@ -17,6 +20,12 @@ public abstract class Frequency implements IFrequency {
 
     protected boolean dirty;
     private boolean removed;
+    private final Set<Coord4D> activeHolders = new ObjectOpenHashSet<>();
+    /**
+     * The data this frequency was last saved with, reused when saving again if the frequency hasn't been marked as dirty since then.
+     */
+    @Nullable
+    private CompoundTag saveData;
     private String name;
 
     @Nullable
@@ -60,6 +69,7 @@ public abstract class Frequency implements IFrequency {
      * @return {@code true} if persistent data was changed by deactivating the block and the frequency needs to be saved.
      */
     public boolean onDeactivate(BlockEntity tile) {
+        activeHolders.remove(new Coord4D(tile));
         return false;
     }
 
@@ -67,9 +77,17 @@ public abstract class Frequency implements IFrequency {
      * @return {@code true} if persistent data was changed by updating the block and the frequency needs to be saved.
      */
     public boolean update(BlockEntity tile) {
+        activeHolders.add(new Coord4D(tile));
         return false;
     }
 
+    /**
+     * @return {@code true} if there are any blocks that are currently using this frequency, and it therefore needs to be ticked.
+     */
+    public boolean hasActiveHolders() {
+        return !activeHolders.isEmpty();
+    }
+
     public FrequencyType<?> getType() {
         return frequencyType;
     }
@@ -137,6 +155,18 @@ public abstract class Frequency implements IFrequency {
         writeComponentData(nbtTags);
     }
 
+    /**
+     * Gets the data to save this frequency with, only writing it again if persistent data was changed since the last time it was saved.
+     */
+    CompoundTag getSaveData() {
+        if (dirty || saveData == null) {
+            saveData = new CompoundTag();
+            write(saveData);
+            dirty = false;
+        }
+        return saveData;
+    }
+
     protected void read(CompoundTag nbtTags) {
         name = nbtTags.getString(NBTConstants.NAME);
         NBTUtils.setUUIDIfPresent(nbtTags, NBTConstants.OWNER_UUID, uuid -> ownerUUID = uuid);
@@ -1,7 +1,9 @@
 package mekanism.common.lib.frequency;
 
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -30,6 +32,11 @@ public class FrequencyManager<FREQ extends Frequency> {
     private static final Set<FrequencyManager<?>> managers = new ObjectOpenHashSet<>();
 
     private final Map<Object, FREQ> frequencies = new LinkedHashMap<>();
+    /**
+     * Frequencies that have had a block activate them, and that need to be ticked. Frequencies without any active holders get parked by removing them from this set
+     * after they are next ticked.
+     */
+    private final Set<FREQ> activeFrequencies = new ReferenceLinkedOpenHashSet<>();
 
     /**
      * Note: This can and will be null on the client side
@@ -76,6 +83,7 @@ public class FrequencyManager<FREQ extends Frequency> {
     public static void reset() {
         for (FrequencyManager<?> manager : managers) {
             manager.frequencies.clear();
+            manager.activeFrequencies.clear();
             manager.dataHandler = null;
         }
         loaded = false;
@@ -86,6 +94,7 @@ public class FrequencyManager<FREQ extends Frequency> {
         if (freq != null && freq.ownerMatches(ownerUUID)) {
             freq.onRemove();
             frequencies.remove(key);
+            activeFrequencies.remove(freq);
             markDirty();
             return true;
         }
@@ -104,10 +113,15 @@ public class FrequencyManager<FREQ extends Frequency> {
             markDirty();
             return freq;
         });
-        if (storedFreq.update(tile)) {
+        activate(storedFreq, tile);
+        return storedFreq;
+    }
+
+    public void activate(FREQ freq, BlockEntity tile) {
+        if (freq.update(tile)) {
             markDirty();
         }
-        return storedFreq;
+        activeFrequencies.add(freq);
     }
 
     /**
@@ -161,8 +175,13 @@ public class FrequencyManager<FREQ extends Frequency> {
 
     private void tickSelf() {
         boolean dirty = false;
-        for (FREQ freq : getFrequencies()) {
+        for (Iterator<FREQ> iterator = activeFrequencies.iterator(); iterator.hasNext(); ) {
+            FREQ freq = iterator.next();
             dirty |= freq.tick();
+            if (!freq.hasActiveHolders()) {
+                //Note: We tick the frequency one last time before parking it so that it can finish handling the holders being removed
+                iterator.remove();
+            }
         }
         if (dirty) {
             markDirty();
@@ -203,12 +222,25 @@ public class FrequencyManager<FREQ extends Frequency> {
             }
             ListTag list = new ListTag();
             for (FREQ freq : getFrequencies()) {
-                CompoundTag compound = new CompoundTag();
-                freq.write(compound);
-                list.add(compound);
+                //Only frequencies that changed since the last save need to be written again
+                list.add(freq.getSaveData());
             }
             nbtTags.put(NBTConstants.FREQUENCY_LIST, list);
             return nbtTags;
         }
+
+        @Override
+        public boolean isDirty() {
+            if (super.isDirty()) {
+                return true;
+            }
+            //Parked frequencies aren't ticked, but can still be changed (for example from a GUI), so check if any frequencies have unsaved changes
+            for (FREQ freq : getFrequencies()) {
+                if (freq.dirty) {
+                    return true;
+                }
+            }
+            return false;
+        }
     }
 }
\ No newline at end of file
@@ -115,7 +115,7 @@ public class TileComponentFrequency implements ITileComponent {
             //If the frequency being set isn't the existing frequency, then deactivate the old one
             // and update the tile to be using the new one
             manager.deactivate(oldFrequency, tile);
-            freq.update(tile);
+            manager.activate(freq, tile);
             frequencyData.setFrequency(freq);
             setNeedsNotify(frequencyData);
         }
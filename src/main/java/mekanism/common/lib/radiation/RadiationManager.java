@@ -3,6 +3,9 @@ package mekanism.common.lib.radiation;
 import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.Table;
 import com.google.common.collect.Tables;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -11,7 +14,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Random;
 import java.util.UUID;
 import java.util.function.IntSupplier;
 import java.util.function.Predicate;
@@ -44,6 +46,7 @@ import mekanism.common.util.CapabilityUtils;
 import mekanism.common.util.EnumUtils;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
@@ -58,11 +61,13 @@ import net.minecraft.world.entity.EquipmentSlot;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.saveddata.SavedData;
 import net.minecraft.world.level.storage.DimensionDataStorage;
 import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.event.entity.living.LivingEvent.LivingTickEvent;
+import net.minecraftforge.event.level.ChunkEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.server.ServerLifecycleHooks;
 import org.jetbrains.annotations.NotNull;
@@ -100,15 +105,20 @@ public class RadiationManager implements IRadiationManager {
     public static final RadiationManager INSTANCE = new RadiationManager();
     private static final String DATA_HANDLER_NAME = "radiation_manager";
     private static final IntSupplier MAX_RANGE = () -> MekanismConfig.general.radiationChunkCheckRadius.get() * 16;
-    private static final Random RAND = new Random();
+    /**
+     * Number of ticks between each time radiation sources decay.
+     */
+    private static final int DECAY_INTERVAL = 20;
 
     public static final double BASELINE = 0.000_000_100; // 100 nSv/h
     public static final double MIN_MAGNITUDE = 0.000_010; // 10 uSv/h
 
     private boolean loaded;
+    private int ticksUntilDecay = DECAY_INTERVAL;
 
     private final Table<Chunk3D, Coord4D, RadiationSource> radiationTable = HashBasedTable.create();
     private final Table<Chunk3D, Coord4D, IRadiationSource> radiationView = Tables.unmodifiableTable(radiationTable);
+    private final RadiationSourceIndex sourceIndex = new RadiationSourceIndex();
     private final Map<ResourceLocation, List<Meltdown>> meltdowns = new Object2ObjectOpenHashMap<>();
 
     private final Map<UUID, PreviousRadiationData> playerEnvironmentalExposureMap = new Object2ObjectOpenHashMap<>();
@@ -175,25 +185,35 @@ public class RadiationManager implements IRadiationManager {
     public void removeRadiationSources(Chunk3D chunk) {
         Map<Coord4D, RadiationSource> chunkSources = radiationTable.row(chunk);
         if (!chunkSources.isEmpty()) {
+            chunkSources.values().forEach(sourceIndex::remove);
             chunkSources.clear();
             markDirty();
-            updateClientRadiationForAll(chunk.dimension);
+            updateClientRadiationNear(chunk.dimension, chunk.toLong());
         }
     }
 
     @Override
     public void removeRadiationSource(Coord4D coord) {
         Chunk3D chunk = new Chunk3D(coord);
-        if (radiationTable.contains(chunk, coord)) {
-            radiationTable.remove(chunk, coord);
+        RadiationSource source = radiationTable.remove(chunk, coord);
+        if (source != null) {
+            sourceIndex.remove(source);
             markDirty();
-            updateClientRadiationForAll(coord.dimension);
+            updateClientRadiationNear(coord.dimension, chunk.toLong());
         }
     }
 
     @Override
     public double getRadiationLevel(Coord4D coord) {
-        return getRadiationLevelAndMaxMagnitude(coord).level();
+        double level = BASELINE;
+        int maxRange = MAX_RANGE.getAsInt();
+        for (RadiationSource source : getNearbySources(coord)) {
+            // we only compute exposure when within the MAX_RANGE bounds
+            if (source.getPos().distanceTo(coord) <= maxRange) {
+                level += computeExposure(coord, source);
+            }
+        }
+        return level;
     }
 
     public LevelAndMaxMagnitude getRadiationLevelAndMaxMagnitude(Entity player) {
@@ -203,34 +223,45 @@ public class RadiationManager implements IRadiationManager {
     public LevelAndMaxMagnitude getRadiationLevelAndMaxMagnitude(Coord4D coord) {
         double level = BASELINE;
         double maxMagnitude = BASELINE;
-        for (Chunk3D chunk : new Chunk3D(coord).expand(MekanismConfig.general.radiationChunkCheckRadius.get())) {
-            for (Map.Entry<Coord4D, RadiationSource> entry : radiationTable.row(chunk).entrySet()) {
-                // we only compute exposure when within the MAX_RANGE bounds
-                if (entry.getKey().distanceTo(coord) <= MAX_RANGE.getAsInt()) {
-                    RadiationSource source = entry.getValue();
-                    level += computeExposure(coord, source);
-                    maxMagnitude = Math.max(maxMagnitude, source.getMagnitude());
-                }
+        int maxRange = MAX_RANGE.getAsInt();
+        for (RadiationSource source : getNearbySources(coord)) {
+            // we only compute exposure when within the MAX_RANGE bounds
+            if (source.getPos().distanceTo(coord) <= maxRange) {
+                level += computeExposure(coord, source);
+                maxMagnitude = Math.max(maxMagnitude, source.getMagnitude());
             }
         }
         return new LevelAndMaxMagnitude(level, maxMagnitude);
     }
 
+    private RadiationSource[] getNearbySources(Coord4D coord) {
+        return sourceIndex.getNearby(coord.dimension, SectionPos.blockToSectionCoord(coord.getX()), SectionPos.blockToSectionCoord(coord.getZ()), getChunkCheckRadius());
+    }
+
+    private static int getChunkCheckRadius() {
+        int chunkRadius = MekanismConfig.general.radiationChunkCheckRadius.get();
+        //Note: Chunk3D#expand treats a radius of one as only containing the center chunk, so we mirror that here
+        return chunkRadius == 1 ? 0 : chunkRadius;
+    }
+
     @Override
     public void radiate(Coord4D coord, double magnitude) {
         if (!isRadiationEnabled()) {
             return;
         }
-        Map<Coord4D, RadiationSource> radiationSourceMap = radiationTable.row(new Chunk3D(coord));
+        Chunk3D chunk = new Chunk3D(coord);
+        Map<Coord4D, RadiationSource> radiationSourceMap = radiationTable.row(chunk);
         RadiationSource src = radiationSourceMap.get(coord);
         if (src == null) {
-            radiationSourceMap.put(coord, new RadiationSource(coord, magnitude));
+            src = new RadiationSource(coord, magnitude);
+            radiationSourceMap.put(coord, src);
+            sourceIndex.add(src);
         } else {
             src.radiate(magnitude);
         }
         markDirty();
         //Update radiation levels immediately
-        updateClientRadiationForAll(coord.dimension);
+        updateClientRadiationNear(coord.dimension, chunk.toLong());
     }
 
     @Override
@@ -279,6 +310,7 @@ public class RadiationManager implements IRadiationManager {
     public void clearSources() {
         if (!radiationTable.isEmpty()) {
             radiationTable.clear();
+            sourceIndex.clear();
             markDirty();
             updateClientRadiationForAll(ConstantPredicates.alwaysTrue());
         }
@@ -300,8 +332,56 @@ public class RadiationManager implements IRadiationManager {
         return resistance;
     }
 
-    private void updateClientRadiationForAll(ResourceKey<Level> dimension) {
-        updateClientRadiationForAll(player -> player.getLevel().dimension() == dimension);
+    private void updateClientRadiationNear(ResourceKey<Level> dimension, long changedChunk) {
+        LongSet changedChunks = new LongOpenHashSet();
+        changedChunks.add(changedChunk);
+        updateClientRadiationNear(Map.of(dimension, changedChunks));
+    }
+
+    /**
+     * Updates the radiation levels of players that are close enough to one of the changed chunks to be affected by them, and of players that were previously exposed
+     * to radiation in case they moved away from the sources.
+     *
+     * @return The number of players whose radiation level was recalculated.
+     */
+    private int updateClientRadiationNear(Map<ResourceKey<Level>, LongSet> changedChunks) {
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        int recomputedPlayers = 0;
+        if (server != null) {
+            //Validate it is not null in case we somehow are being called from the client or at some other unexpected time
+            int chunkRadius = getChunkCheckRadius();
+            for (ServerPlayer player : server.getPlayerList().getPlayers()) {
+                LongSet dimensionChanges = changedChunks.get(player.getLevel().dimension());
+                PreviousRadiationData previousData = playerEnvironmentalExposureMap.get(player.getUUID());
+                if ((previousData != null && previousData.magnitude() > BASELINE) || (dimensionChanges != null && isNear(player, dimensionChanges, chunkRadius))) {
+                    updateClientRadiation(player);
+                    recomputedPlayers++;
+                }
+            }
+        }
+        return recomputedPlayers;
+    }
+
+    private static boolean isNear(ServerPlayer player, LongSet changedChunks, int chunkRadius) {
+        int chunkX = SectionPos.blockToSectionCoord(player.getBlockX());
+        int chunkZ = SectionPos.blockToSectionCoord(player.getBlockZ());
+        if (changedChunks.size() < (2 * chunkRadius + 1) * (2 * chunkRadius + 1)) {
+            for (LongIterator iterator = changedChunks.iterator(); iterator.hasNext(); ) {
+                long changed = iterator.nextLong();
+                if (Math.abs(ChunkPos.getX(changed) - chunkX) <= chunkRadius && Math.abs(ChunkPos.getZ(changed) - chunkZ) <= chunkRadius) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        for (int x = chunkX - chunkRadius; x <= chunkX + chunkRadius; x++) {
+            for (int z = chunkZ - chunkRadius; z <= chunkZ + chunkRadius; z++) {
+                if (changedChunks.contains(ChunkPos.asLong(x, z))) {
+                    return true;
+                }
+            }
+        }
+        return false;
     }
 
     private void updateClientRadiationForAll(Predicate<ServerPlayer> clearForPlayer) {
@@ -421,16 +501,33 @@ public class RadiationManager implements IRadiationManager {
         if (!isRadiationEnabled()) {
             return;
         }
-        // each tick, there's a 1/20 chance we'll decay radiation sources (averages to 1 decay operation per second)
-        if (RAND.nextInt(20) == 0) {
+        // decay radiation sources once per second, batching the chunks that changed per dimension
+        if (--ticksUntilDecay <= 0) {
+            ticksUntilDecay = DECAY_INTERVAL;
             Collection<RadiationSource> sources = radiationTable.values();
             if (!sources.isEmpty()) {
+                Map<ResourceKey<Level>, LongSet> changedChunks = new Object2ObjectOpenHashMap<>();
                 // remove if source gets too low
-                sources.removeIf(RadiationSource::decay);
+                sources.removeIf(source -> {
+                    Coord4D pos = source.getPos();
+                    changedChunks.computeIfAbsent(pos.dimension, dimension -> new LongOpenHashSet())
+                          .add(ChunkPos.asLong(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ())));
+                    if (source.decay()) {
+                        sourceIndex.remove(source);
+                        return true;
+                    }
+                    return false;
+                });
                 //Mark dirty regardless if we have any sources as magnitude changes or radiation sources change
                 markDirty();
-                //Update radiation levels for any players where it has changed
-                updateClientRadiationForAll(ConstantPredicates.alwaysTrue());
+                //Update radiation levels for any players that may be affected by the change
+                int recomputedPlayers = updateClientRadiationNear(changedChunks);
+                if (MekanismAPI.debug) {
+                    MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+                    Mekanism.logger.info("Decayed radiation in {} chunks, recalculated radiation for {} players and skipped recalculating it for {} players",
+                          changedChunks.values().stream().mapToInt(LongSet::size).sum(), recomputedPlayers,
+                          server == null ? 0 : server.getPlayerCount() - recomputedPlayers);
+                }
             }
         }
     }
@@ -457,6 +554,8 @@ public class RadiationManager implements IRadiationManager {
     public void reset() {
         //Clear the table directly instead of via the method, so it doesn't mark it as dirty
         radiationTable.clear();
+        sourceIndex.clear();
+        ticksUntilDecay = DECAY_INTERVAL;
         playerEnvironmentalExposureMap.clear();
         playerExposureMap.clear();
         meltdowns.clear();
@@ -481,6 +580,13 @@ public class RadiationManager implements IRadiationManager {
         }
     }
 
+    @SubscribeEvent
+    public void onChunkUnload(ChunkEvent.Unload event) {
+        if (event.getLevel() instanceof Level level && !level.isClientSide()) {
+            sourceIndex.onChunkUnload(level.dimension(), event.getChunk().getPos().toLong());
+        }
+    }
+
     public record LevelAndMaxMagnitude(double level, double maxMagnitude) {
     }
 
@@ -599,7 +705,11 @@ public class RadiationManager implements IRadiationManager {
             // don't sync the manager if radiation has been disabled
             if (MekanismAPI.getRadiationManager().isRadiationEnabled()) {
                 for (RadiationSource source : loadedSources) {
-                    manager.radiationTable.put(new Chunk3D(source.getPos()), source.getPos(), source);
+                    RadiationSource previous = manager.radiationTable.put(new Chunk3D(source.getPos()), source.getPos(), source);
+                    if (previous != null) {
+                        manager.sourceIndex.remove(previous);
+                    }
+                    manager.sourceIndex.add(source);
                 }
                 for (Map.Entry<ResourceLocation, List<Meltdown>> entry : savedMeltdowns.entrySet()) {
                     List<Meltdown> meltdowns = entry.getValue();
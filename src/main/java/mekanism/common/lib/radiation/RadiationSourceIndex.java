@@ -0,0 +1,116 @@
+package mekanism.common.lib.radiation;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceArrayList;
+import java.util.List;
+import java.util.Map;
+import mekanism.api.Coord4D;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+
+/**
+ * Spatial index of radiation sources by dimension and packed chunk position. For each chunk that gets queried, the sources in all chunks within the check radius are
+ * gathered into a single array, which is kept until a source is added to or removed from one of those chunks. As exposure depends on the exact position being checked,
+ * the cached field holds the sources rather than a summed value, but it means checking the radiation level is a single lookup and a loop over the relevant sources,
+ * without allocating anything or looking at chunks that contain no sources. The cached sources for a chunk are dropped when that chunk unloads, so that the cache only
+ * grows with the loaded area rather than everywhere that has ever been checked.
+ */
+class RadiationSourceIndex {
+
+    private static final RadiationSource[] EMPTY = new RadiationSource[0];
+
+    private final Map<ResourceKey<Level>, Long2ObjectMap<List<RadiationSource>>> sourcesByChunk = new Object2ObjectOpenHashMap<>();
+    private final Map<ResourceKey<Level>, Long2ObjectMap<RadiationSource[]>> nearbySources = new Object2ObjectOpenHashMap<>();
+    private int cachedRadius = -1;
+
+    void add(RadiationSource source) {
+        Coord4D pos = source.getPos();
+        int chunkX = SectionPos.blockToSectionCoord(pos.getX());
+        int chunkZ = SectionPos.blockToSectionCoord(pos.getZ());
+        sourcesByChunk.computeIfAbsent(pos.dimension, dimension -> new Long2ObjectOpenHashMap<>())
+              .computeIfAbsent(ChunkPos.asLong(chunkX, chunkZ), chunk -> new ReferenceArrayList<>())
+              .add(source);
+        invalidateAround(pos.dimension, chunkX, chunkZ);
+    }
+
+    void remove(RadiationSource source) {
+        Coord4D pos = source.getPos();
+        Long2ObjectMap<List<RadiationSource>> dimensionSources = sourcesByChunk.get(pos.dimension);
+        if (dimensionSources != null) {
+            int chunkX = SectionPos.blockToSectionCoord(pos.getX());
+            int chunkZ = SectionPos.blockToSectionCoord(pos.getZ());
+            long chunk = ChunkPos.asLong(chunkX, chunkZ);
+            List<RadiationSource> chunkSources = dimensionSources.get(chunk);
+            if (chunkSources != null && chunkSources.remove(source)) {
+                if (chunkSources.isEmpty()) {
+                    dimensionSources.remove(chunk);
+                }
+                invalidateAround(pos.dimension, chunkX, chunkZ);
+            }
+        }
+    }
+
+    void clear() {
+        sourcesByChunk.clear();
+        nearbySources.clear();
+    }
+
+    /**
+     * Gets all sources in the chunks within the given radius of the given chunk.
+     *
+     * @apiNote The returned array should not be modified.
+     */
+    RadiationSource[] getNearby(ResourceKey<Level> dimension, int chunkX, int chunkZ, int chunkRadius) {
+        if (chunkRadius != cachedRadius) {
+            //The radius changed, which means all the cached fields are for the wrong area
+            nearbySources.clear();
+            cachedRadius = chunkRadius;
+        }
+        Long2ObjectMap<List<RadiationSource>> dimensionSources = sourcesByChunk.get(dimension);
+        if (dimensionSources == null) {
+            return EMPTY;
+        }
+        Long2ObjectMap<RadiationSource[]> dimensionFields = nearbySources.computeIfAbsent(dimension, d -> new Long2ObjectOpenHashMap<>());
+        long chunk = ChunkPos.asLong(chunkX, chunkZ);
+        RadiationSource[] nearby = dimensionFields.get(chunk);
+        if (nearby == null) {
+            List<RadiationSource> gathered = new ReferenceArrayList<>();
+            for (int x = chunkX - chunkRadius; x <= chunkX + chunkRadius; x++) {
+                for (int z = chunkZ - chunkRadius; z <= chunkZ + chunkRadius; z++) {
+                    List<RadiationSource> chunkSources = dimensionSources.get(ChunkPos.asLong(x, z));
+                    if (chunkSources != null) {
+                        gathered.addAll(chunkSources);
+                    }
+                }
+            }
+            nearby = gathered.isEmpty() ? EMPTY : gathered.toArray(EMPTY);
+            dimensionFields.put(chunk, nearby);
+        }
+        return nearby;
+    }
+
+    /**
+     * Drops the cached nearby sources of a chunk that unloaded, as nothing should be checking the radiation level in it until it loads again.
+     */
+    void onChunkUnload(ResourceKey<Level> dimension, long chunk) {
+        Long2ObjectMap<RadiationSource[]> dimensionFields = nearbySources.get(dimension);
+        if (dimensionFields != null && dimensionFields.remove(chunk) != null && dimensionFields.isEmpty()) {
+            nearbySources.remove(dimension);
+        }
+    }
+
+    private void invalidateAround(ResourceKey<Level> dimension, int chunkX, int chunkZ) {
+        Long2ObjectMap<RadiationSource[]> dimensionFields = nearbySources.get(dimension);
+        if (dimensionFields != null && !dimensionFields.isEmpty()) {
+            for (int x = chunkX - cachedRadius; x <= chunkX + cachedRadius; x++) {
+                for (int z = chunkZ - cachedRadius; z <= chunkZ + cachedRadius; z++) {
+                    dimensionFields.remove(ChunkPos.asLong(x, z));
+                }
+            }
+        }
+    }
+}
@@ -26,6 +26,7 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
     private boolean forceScaleUpdate;
     private long lastSaveShareWriteTime;
     private long lastMarkDirtyTime;
+    private float preparedScale;
     public float currentScale;
 
     protected DynamicBufferedNetwork(UUID networkID) {
@@ -34,12 +35,17 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
 
     protected abstract float computeContentScale();
 
+    @Override
+    public void prepareUpdate() {
+        super.prepareUpdate();
+        preparedScale = computeContentScale();
+    }
+
     @Override
     public void onUpdate() {
         super.onUpdate();
-        float scale = computeContentScale();
-        if (scale != currentScale) {
-            currentScale = scale;
+        if (preparedScale != currentScale) {
+            currentScale = preparedScale;
             needsUpdate = true;
         }
     }
@@ -93,6 +99,19 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
         updateSaveShares(triggerTransmitter);
     }
 
+    @Override
+    protected void transmittersRemoved(List<TRANSMITTER> removed) {
+        super.transmittersRemoved(removed);
+        updateCapacity();
+        clampBuffer();
+        chunks.clear();
+        for (TRANSMITTER transmitter : transmitters) {
+            chunks.add(ChunkPos.asLong(transmitter.getTilePos()));
+        }
+        needsUpdate = true;
+        packetRange = null;
+    }
+
     @Override
     public void deregister() {
         super.deregister();
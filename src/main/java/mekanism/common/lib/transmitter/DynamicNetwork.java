@@ -6,7 +6,9 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import mekanism.api.MekanismAPI;
 import mekanism.api.text.IHasTextComponent;
+import mekanism.common.Mekanism;
 import mekanism.common.content.network.transmitter.Transmitter;
 import mekanism.common.lib.transmitter.acceptor.NetworkAcceptorCache;
 import mekanism.common.util.EnumUtils;
@@ -118,6 +120,82 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         deregister();
     }
 
+    /**
+     * Attempts to remove the invalid transmitters from this network without re-forming it, by only orphaning the transmitters that are no longer connected to the rest
+     * of the network.
+     *
+     * @param triggerTransmitter The invalid transmitter that caused this.
+     * @param searchLimit        The maximum number of transmitters to visit while determining if the network got split.
+     *
+     * @return {@code true} if the invalid transmitters were handled, {@code false} if the network needs to be fully invalidated instead.
+     */
+    public boolean removeInvalidIncrementally(@NotNull TRANSMITTER triggerTransmitter, int searchLimit) {
+        if (isRemote() || world == null || !transmittersToAdd.isEmpty()) {
+            return false;
+        } else if (!transmitters.contains(triggerTransmitter)) {
+            //Already removed when handling another transmitter that became invalid at the same time
+            return true;
+        }
+        List<TRANSMITTER> invalidTransmitters = new ArrayList<>();
+        for (TRANSMITTER transmitter : transmitters) {
+            if (!transmitter.isValid()) {
+                invalidTransmitters.add(transmitter);
+            }
+        }
+        if (invalidTransmitters.size() >= transmitters.size()) {
+            //Nothing will be left, just let it be fully invalidated
+            return false;
+        }
+        long start = System.nanoTime();
+        NetworkSplitFinder<NETWORK, TRANSMITTER> splitFinder = new NetworkSplitFinder<>(getNetwork(), world, searchLimit);
+        List<List<TRANSMITTER>> cutOff = splitFinder.findCutOff(invalidTransmitters);
+        if (cutOff == null) {
+            if (MekanismAPI.debug) {
+                Mekanism.logger.info("Exceeded search limit of {} transmitters checking for a split, fully re-forming network", searchLimit);
+            }
+            return false;
+        }
+        removeInvalid(triggerTransmitter);
+        for (TRANSMITTER transmitter : invalidTransmitters) {
+            acceptorCache.removeTransmitter(transmitter);
+            transmitter.setTransmitterNetwork(null, false);
+        }
+        int invalid = invalidTransmitters.size();
+        //Note: We reuse the list of invalid transmitters to also contain the transmitters that were split off
+        List<TRANSMITTER> removed = invalidTransmitters;
+        for (List<TRANSMITTER> component : cutOff) {
+            for (TRANSMITTER transmitter : component) {
+                transmitter.takeShare();
+                transmitter.setTransmitterNetwork(null);
+                removeSplitTransmitter(transmitter);
+                acceptorCache.removeTransmitter(transmitter);
+                TransmitterNetworkRegistry.registerOrphanTransmitter(transmitter);
+            }
+            removed.addAll(component);
+        }
+        transmittersRemoved(removed);
+        if (MekanismAPI.debug) {
+            Mekanism.logger.info("Removed {} invalid transmitters, split off {} transmitters in {} components. Visited {} transmitters in {} ms", invalid,
+                  removed.size() - invalid, cutOff.size(), splitFinder.getVisited(), (System.nanoTime() - start) / 1_000_000D);
+        }
+        return true;
+    }
+
+    /**
+     * Removes a transmitter that is no longer connected to the rest of this network.
+     */
+    protected void removeSplitTransmitter(TRANSMITTER transmitter) {
+        transmitters.remove(transmitter);
+    }
+
+    /**
+     * Called after transmitters have been removed from this network without the network being re-formed.
+     *
+     * @param removed The transmitters that were removed, both the invalid ones and the ones that got split off.
+     */
+    protected void transmittersRemoved(List<TRANSMITTER> removed) {
+    }
+
     protected void onLastTransmitterRemoved(@NotNull TRANSMITTER triggerTransmitter) {
     }
 
@@ -188,6 +266,25 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         return world;
     }
 
+    /**
+     * Called before {@link #onUpdate()} to compute any state that only depends on this network's own buffers.
+     *
+     * @apiNote Only called on the server. When parallel network ticking is enabled this may be called off the main thread, so implementations must not interact with
+     * acceptors, transmitters, or the world; anything that does must be done in {@link #onUpdate()} instead.
+     */
+    public void prepareUpdate() {
+    }
+
+    /**
+     * Called after {@link #prepareUpdate()} when parallel network ticking is enabled and no other network shares any acceptors with this network, to look up which
+     * acceptors can accept anything before {@link #onUpdate()} is called.
+     *
+     * @apiNote This is called off the main thread, so implementations may only simulate interacting with their acceptors. Anything that changes the acceptors, the
+     * transmitters, or the world must still be done in {@link #onUpdate()}.
+     */
+    public void prepareAcceptors() {
+    }
+
     /**
      * @apiNote Only called on the server
      */
@@ -213,6 +310,10 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         return transmitters.size();
     }
 
+    public Set<BlockPos> getAcceptorPositions() {
+        return acceptorCache.getAcceptorPositions();
+    }
+
     public boolean hasAcceptor(BlockPos acceptorPos) {
         return acceptorCache.hasAcceptor(acceptorPos);
     }
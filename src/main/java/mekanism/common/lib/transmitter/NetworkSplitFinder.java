@@ -0,0 +1,199 @@
+package mekanism.common.lib.transmitter;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import mekanism.common.content.network.transmitter.Transmitter;
+import mekanism.common.tile.transmitter.TileEntityTransmitter;
+import mekanism.common.util.EnumUtils;
+import mekanism.common.util.WorldUtils;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Finds which transmitters of a network got cut off from the rest of it after some of its transmitters were removed. A search is started from each valid neighbour of
+ * the removed transmitters, and the searches are stepped in lockstep. Searches that reach each other get merged (tracked via union-find), and a search that runs out of
+ * transmitters to visit has found a component that was cut off. Once only one search remains it is the component that stays in the network, so the amount of work done
+ * is proportional to the size of the smaller sides of the cut rather than to the size of the whole network.
+ */
+class NetworkSplitFinder<NETWORK extends DynamicNetwork<?, NETWORK, TRANSMITTER>, TRANSMITTER extends Transmitter<?, NETWORK, TRANSMITTER>> {
+
+    private static final int UNVISITED = -1;
+    private static final int NOT_MEMBER = -2;
+
+    private final Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
+    private final Long2IntMap owners = new Long2IntOpenHashMap();
+    private final List<Deque<TRANSMITTER>> frontiers = new ArrayList<>();
+    private final List<List<TRANSMITTER>> members = new ArrayList<>();
+    private final NETWORK network;
+    private final Level world;
+    private final int searchLimit;
+    private int[] parents;
+    private boolean[] active;
+    private int activeSearches;
+    private int visited;
+
+    NetworkSplitFinder(NETWORK network, Level world, int searchLimit) {
+        this.network = network;
+        this.world = world;
+        this.searchLimit = searchLimit;
+        owners.defaultReturnValue(UNVISITED);
+    }
+
+    /**
+     * @return The number of transmitters that were visited by the last call to {@link #findCutOff(Collection)}.
+     */
+    int getVisited() {
+        return visited;
+    }
+
+    /**
+     * @param removed The transmitters that were removed from the network.
+     *
+     * @return The components that are no longer connected to the remainder of the network, or {@code null} if the search limit was exceeded before it could be
+     * determined.
+     */
+    @Nullable
+    List<List<TRANSMITTER>> findCutOff(Collection<TRANSMITTER> removed) {
+        for (TRANSMITTER transmitter : removed) {
+            //Make sure we never walk back into any of the removed transmitters
+            owners.put(transmitter.getTilePos().asLong(), NOT_MEMBER);
+        }
+        for (TRANSMITTER transmitter : removed) {
+            BlockPos pos = transmitter.getTilePos();
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                BlockPos neighborPos = pos.relative(side);
+                long neighbor = neighborPos.asLong();
+                if (owners.get(neighbor) == UNVISITED) {
+                    TRANSMITTER seed = getNetworkTransmitter(neighborPos);
+                    if (seed == null) {
+                        owners.put(neighbor, NOT_MEMBER);
+                    } else {
+                        int index = frontiers.size();
+                        owners.put(neighbor, index);
+                        Deque<TRANSMITTER> frontier = new ArrayDeque<>();
+                        frontier.add(seed);
+                        frontiers.add(frontier);
+                        List<TRANSMITTER> component = new ArrayList<>();
+                        component.add(seed);
+                        members.add(component);
+                    }
+                }
+            }
+        }
+        int searches = frontiers.size();
+        List<List<TRANSMITTER>> cutOff = new ArrayList<>();
+        if (searches <= 1) {
+            //If there is at most one neighbour left, then the removal can't have split the network
+            return cutOff;
+        }
+        parents = new int[searches];
+        active = new boolean[searches];
+        for (int i = 0; i < searches; i++) {
+            parents[i] = i;
+            active[i] = true;
+        }
+        activeSearches = searches;
+        visited = searches;
+        while (activeSearches > 1) {
+            for (int i = 0; i < searches && activeSearches > 1; i++) {
+                if (parents[i] == i && active[i]) {
+                    TRANSMITTER next = frontiers.get(i).poll();
+                    if (next == null) {
+                        //This search has run out of transmitters to visit, so it has found a component that has been cut off
+                        active[i] = false;
+                        activeSearches--;
+                        cutOff.add(members.get(i));
+                    } else if (!expand(next, i)) {
+                        return null;
+                    }
+                }
+            }
+        }
+        return cutOff;
+    }
+
+    /**
+     * @return {@code false} if the search limit has been exceeded.
+     */
+    private boolean expand(TRANSMITTER transmitter, int search) {
+        BlockPos pos = transmitter.getTilePos();
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            if (Transmitter.connectionMapContainsSide(transmitter.currentTransmitterConnections, side)) {
+                BlockPos neighborPos = pos.relative(side);
+                long neighbor = neighborPos.asLong();
+                int owner = owners.get(neighbor);
+                if (owner == UNVISITED) {
+                    TRANSMITTER next = getNetworkTransmitter(neighborPos);
+                    if (next != null && Transmitter.connectionMapContainsSide(next.currentTransmitterConnections, side.getOpposite())) {
+                        //Note: We point the owner at the search rather than the root, as union-find will resolve it to the root when needed
+                        owners.put(neighbor, search);
+                        int root = find(search);
+                        frontiers.get(root).add(next);
+                        members.get(root).add(next);
+                        if (++visited > searchLimit) {
+                            return false;
+                        }
+                    } else if (next == null) {
+                        owners.put(neighbor, NOT_MEMBER);
+                    }
+                } else if (owner != NOT_MEMBER) {
+                    union(search, owner);
+                }
+            }
+        }
+        return true;
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private TRANSMITTER getNetworkTransmitter(BlockPos pos) {
+        TileEntityTransmitter tile = WorldUtils.getTileEntity(TileEntityTransmitter.class, world, chunkMap, pos);
+        if (tile != null) {
+            Transmitter<?, ?, ?> transmitter = tile.getTransmitter();
+            if (transmitter.isValid() && transmitter.getTransmitterNetwork() == network) {
+                return (TRANSMITTER) transmitter;
+            }
+        }
+        return null;
+    }
+
+    private int find(int index) {
+        while (parents[index] != index) {
+            //Path halving
+            parents[index] = parents[parents[index]];
+            index = parents[index];
+        }
+        return index;
+    }
+
+    private void union(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        //Note: A search that has finished can't be reached by another search as it would have visited the transmitter that is reaching it,
+        // but we validate they are both active just in case
+        if (rootA != rootB && active[rootA] && active[rootB]) {
+            //Merge the smaller search into the larger one
+            if (members.get(rootA).size() < members.get(rootB).size()) {
+                int temp = rootA;
+                rootA = rootB;
+                rootB = temp;
+            }
+            parents[rootB] = rootA;
+            frontiers.get(rootA).addAll(frontiers.get(rootB));
+            frontiers.get(rootB).clear();
+            members.get(rootA).addAll(members.get(rootB));
+            members.get(rootB).clear();
+            activeSearches--;
+        }
+    }
+}
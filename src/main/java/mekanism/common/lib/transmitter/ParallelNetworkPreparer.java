@@ -0,0 +1,181 @@
+package mekanism.common.lib.transmitter;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import mekanism.common.Mekanism;
+import mekanism.common.util.MekanismUtils;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.server.ServerLifecycleHooks;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Runs {@link DynamicNetwork#prepareUpdate()} for all networks using a shared {@link ForkJoinPool}. Networks are split into groups that do not share any acceptors, and
+ * each group is prepared sequentially by a single worker. Networks that don't share any acceptors with other networks also get to look up which of their acceptors
+ * can accept anything via {@link DynamicNetwork#prepareAcceptors()}, which is the bulk of the work a network does each tick. {@link DynamicNetwork#onUpdate()}, which is
+ * what actually inserts into the acceptors, is left to be called on the main thread in the same order as it is when not ticking in parallel so that the results are
+ * deterministic.
+ */
+class ParallelNetworkPreparer {
+
+    //Note: The structures used for grouping the networks are reused to avoid allocating new ones, and the groups are only recalculated when networks or their
+    // acceptors change, rather than every tick
+    private final List<DynamicNetwork<?, ?, ?>> indexed = new ArrayList<>();
+    private final Map<Level, Long2IntMap> acceptorOwners = new Object2ObjectOpenHashMap<>();
+    private final List<List<DynamicNetwork<?, ?, ?>>> groups = new ArrayList<>();
+    private List<List<DynamicNetwork<?, ?, ?>>> independentGroups = List.of();
+    @Nullable
+    private Collection<DynamicNetwork<?, ?, ?>> groupedNetworks;
+    private int[] parents = new int[0];
+    private int[] groupIndices = new int[0];
+    @Nullable
+    private ForkJoinPool pool;
+
+    /**
+     * Prepares the given networks in parallel.
+     *
+     * @return {@code false} if the networks could not be split into multiple independent groups, in which case nothing was prepared as there is nothing to gain from
+     * preparing them in parallel.
+     */
+    boolean prepare(Collection<DynamicNetwork<?, ?, ?>> networks) {
+        if (groupedNetworks != networks) {
+            independentGroups = groupIndependent(networks);
+            groupedNetworks = networks;
+        }
+        List<List<DynamicNetwork<?, ?, ?>>> groupsToPrepare = independentGroups;
+        if (groupsToPrepare.size() < 2) {
+            return false;
+        }
+        getPool().submit(() -> groupsToPrepare.parallelStream().forEach(ParallelNetworkPreparer::prepareGroup)).join();
+        if (MekanismUtils.shouldLogDebugMetrics(ServerLifecycleHooks.getCurrentServer())) {
+            Mekanism.logger.info("Prepared {} networks in {} independent groups", networks.size(), groupsToPrepare.size());
+        }
+        return true;
+    }
+
+    private static void prepareGroup(List<DynamicNetwork<?, ?, ?>> group) {
+        if (group.size() == 1) {
+            DynamicNetwork<?, ?, ?> network = group.get(0);
+            network.prepareUpdate();
+            network.prepareAcceptors();
+        } else {
+            //Networks that share acceptors don't prepare their acceptors, as the acceptors may change when an earlier network in the group inserts into them
+            for (DynamicNetwork<?, ?, ?> network : group) {
+                network.prepareUpdate();
+            }
+        }
+    }
+
+    /**
+     * Marks that the networks or their acceptors changed, so that the networks are grouped again the next time they are prepared.
+     */
+    void invalidateGroups() {
+        groupedNetworks = null;
+    }
+
+    private ForkJoinPool getPool() {
+        if (pool == null) {
+            pool = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1), p -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+                thread.setName("Mekanism Network Worker-" + thread.getPoolIndex());
+                return thread;
+            }, (thread, throwable) -> Mekanism.logger.error("Error preparing transmitter networks", throwable), false);
+        }
+        return pool;
+    }
+
+    void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+        acceptorOwners.clear();
+        groups.clear();
+        independentGroups = List.of();
+        groupedNetworks = null;
+    }
+
+    /**
+     * Splits the given networks into groups where no two groups have an acceptor in common.
+     *
+     * @apiNote The returned groups are reused by the next call, so they should not be held onto past when the groups get invalidated.
+     */
+    List<List<DynamicNetwork<?, ?, ?>>> groupIndependent(Collection<DynamicNetwork<?, ?, ?>> networks) {
+        indexed.clear();
+        indexed.addAll(networks);
+        int count = indexed.size();
+        if (parents.length < count) {
+            parents = new int[Math.max(count, 2 * parents.length)];
+            groupIndices = new int[parents.length];
+        }
+        for (Long2IntMap owners : acceptorOwners.values()) {
+            owners.clear();
+        }
+        for (int i = 0; i < count; i++) {
+            parents[i] = i;
+            DynamicNetwork<?, ?, ?> network = indexed.get(i);
+            Level world = network.getWorld();
+            if (world != null) {
+                Long2IntMap owners = acceptorOwners.computeIfAbsent(world, w -> {
+                    Long2IntMap map = new Long2IntOpenHashMap();
+                    map.defaultReturnValue(-1);
+                    return map;
+                });
+                for (BlockPos acceptorPos : network.getAcceptorPositions()) {
+                    int owner = owners.putIfAbsent(acceptorPos.asLong(), i);
+                    if (owner != -1) {
+                        union(parents, owner, i);
+                    }
+                }
+            }
+        }
+        //Stop keeping track of worlds that no longer have any networks with acceptors, so that we don't hold onto unloaded worlds
+        acceptorOwners.values().removeIf(Long2IntMap::isEmpty);
+        Arrays.fill(groupIndices, 0, count, -1);
+        int groupCount = 0;
+        for (int i = 0; i < count; i++) {
+            int root = find(parents, i);
+            int groupIndex = groupIndices[root];
+            if (groupIndex == -1) {
+                groupIndex = groupIndices[root] = groupCount++;
+                if (groupIndex == groups.size()) {
+                    groups.add(new ArrayList<>());
+                } else {
+                    groups.get(groupIndex).clear();
+                }
+            }
+            groups.get(groupIndex).add(indexed.get(i));
+        }
+        //Clear any groups we aren't using this time so that they don't keep references to old networks
+        for (int i = groupCount; i < groups.size(); i++) {
+            groups.get(i).clear();
+        }
+        indexed.clear();
+        return groups.subList(0, groupCount);
+    }
+
+    private static int find(int[] parents, int index) {
+        while (parents[index] != index) {
+            //Path halving
+            parents[index] = parents[parents[index]];
+            index = parents[index];
+        }
+        return index;
+    }
+
+    private static void union(int[] parents, int a, int b) {
+        int rootA = find(parents, a);
+        int rootB = find(parents, b);
+        if (rootA != rootB) {
+            parents[rootB] = rootA;
+        }
+    }
+}
@@ -1,31 +1,34 @@
 package mekanism.common.lib.transmitter;
 
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.Multimap;
+import it.unimi.dsi.fastutil.longs.Long2BooleanMap;
+import it.unimi.dsi.fastutil.longs.Long2BooleanOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2BooleanMap;
-import it.unimi.dsi.fastutil.objects.Object2BooleanOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import java.util.Collection;
 import java.util.Deque;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
-import mekanism.api.Chunk3D;
 import mekanism.api.Coord4D;
 import mekanism.api.MekanismAPI;
 import mekanism.common.Mekanism;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.transmitter.Transmitter;
+import mekanism.common.network.to_client.PacketTransporterUpdate;
 import mekanism.common.tile.transmitter.TileEntityTransmitter;
 import mekanism.common.util.EnumUtils;
+import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.level.ChunkMap;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraftforge.common.MinecraftForge;
@@ -33,19 +36,24 @@ import net.minecraftforge.event.TickEvent.Phase;
 import net.minecraftforge.event.TickEvent.ServerTickEvent;
 import net.minecraftforge.event.level.ChunkTicketLevelUpdatedEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.server.ServerLifecycleHooks;
 import org.jetbrains.annotations.Nullable;
 
 public class TransmitterNetworkRegistry {
 
     private static final TransmitterNetworkRegistry INSTANCE = new TransmitterNetworkRegistry();
     private static boolean loaderRegistered = false;
-    private final Multimap<Chunk3D, Transmitter<?, ?, ?>> transmitters = HashMultimap.create();
-    private Object2BooleanMap<Chunk3D> changedTicketChunks = new Object2BooleanOpenHashMap<>();
+    /**
+     * Transmitters that are in the world, per dimension and then per chunk (packed {@link ChunkPos} long).
+     */
+    private final Map<ResourceKey<Level>, Long2ObjectMap<Set<Transmitter<?, ?, ?>>>> transmitters = new Object2ObjectOpenHashMap<>();
+    private Map<ResourceKey<Level>, Long2BooleanMap> changedTicketChunks = new Object2ObjectOpenHashMap<>();
     private final Set<DynamicNetwork<?, ?, ?>> networks = new ObjectOpenHashSet<>();
     private final Map<UUID, DynamicNetwork<?, ?, ?>> clientNetworks = new Object2ObjectOpenHashMap<>();
     private Map<Coord4D, Transmitter<?, ?, ?>> newOrphanTransmitters = new Object2ObjectOpenHashMap<>();
     private Set<Transmitter<?, ?, ?>> invalidTransmitters = new ObjectOpenHashSet<>();
     private Set<DynamicNetwork<?, ?, ?>> networksToChange = new ObjectOpenHashSet<>();
+    private final ParallelNetworkPreparer parallelPreparer = new ParallelNetworkPreparer();
 
     public void addClientNetwork(UUID networkID, DynamicNetwork<?, ?, ?> network) {
         if (!clientNetworks.containsKey(networkID)) {
@@ -80,14 +88,27 @@ public class TransmitterNetworkRegistry {
         getInstance().newOrphanTransmitters.clear();
         getInstance().transmitters.clear();
         getInstance().changedTicketChunks.clear();
+        getInstance().parallelPreparer.shutdown();
     }
 
     public static void trackTransmitter(Transmitter<?, ?, ?> transmitter) {
-        getInstance().transmitters.put(transmitter.getTileChunk(), transmitter);
+        Coord4D coord = transmitter.getTileCoord();
+        getInstance().transmitters.computeIfAbsent(coord.dimension, dimension -> new Long2ObjectOpenHashMap<>())
+              .computeIfAbsent(ChunkPos.asLong(coord.getX() >> 4, coord.getZ() >> 4), chunk -> new ReferenceOpenHashSet<>())
+              .add(transmitter);
     }
 
     public static void untrackTransmitter(Transmitter<?, ?, ?> transmitter) {
-        getInstance().transmitters.remove(transmitter.getTileChunk(), transmitter);
+        Coord4D coord = transmitter.getTileCoord();
+        Long2ObjectMap<Set<Transmitter<?, ?, ?>>> dimensionTransmitters = getInstance().transmitters.get(coord.dimension);
+        if (dimensionTransmitters != null) {
+            long chunk = ChunkPos.asLong(coord.getX() >> 4, coord.getZ() >> 4);
+            Set<Transmitter<?, ?, ?>> chunkTransmitters = dimensionTransmitters.get(chunk);
+            if (chunkTransmitters != null && chunkTransmitters.remove(transmitter) && chunkTransmitters.isEmpty()) {
+                //Don't keep track of chunks that no longer have any transmitters in them
+                dimensionTransmitters.remove(chunk);
+            }
+        }
     }
 
     public static void invalidateTransmitter(Transmitter<?, ?, ?> transmitter) {
@@ -115,12 +136,23 @@ public class TransmitterNetworkRegistry {
         return INSTANCE;
     }
 
+    /**
+     * Marks that the acceptors of a network changed, so that networks get regrouped before they are next prepared in parallel.
+     */
+    public static void acceptorsChanged() {
+        getInstance().parallelPreparer.invalidateGroups();
+    }
+
     public void registerNetwork(DynamicNetwork<?, ?, ?> network) {
-        networks.add(network);
+        if (networks.add(network)) {
+            parallelPreparer.invalidateGroups();
+        }
     }
 
     public void removeNetwork(DynamicNetwork<?, ?, ?> network) {
-        networks.remove(network);
+        if (networks.remove(network)) {
+            parallelPreparer.invalidateGroups();
+        }
         networksToChange.remove(network);
     }
 
@@ -131,9 +163,32 @@ public class TransmitterNetworkRegistry {
             removeInvalidTransmitters();
             assignOrphans();
             commitChanges();
+            tickNetworks(networks, MekanismConfig.general.parallelNetworkTicking.get());
+            if (MekanismUtils.shouldLogDebugMetrics(ServerLifecycleHooks.getCurrentServer())) {
+                long transporterBytes = PacketTransporterUpdate.getAndResetBytesSent();
+                if (transporterBytes > 0) {
+                    Mekanism.logger.info("Sent {} bytes of transporter updates to players since the last report", transporterBytes);
+                }
+            }
+        }
+    }
+
+    /**
+     * Ticks the given networks, either serially or by preparing them in parallel.
+     *
+     * @apiNote Only package-private so that tests can tick specific networks without changing the config.
+     */
+    void tickNetworks(Collection<DynamicNetwork<?, ?, ?>> networks, boolean parallel) {
+        if (parallel && networks.size() > 1 && parallelPreparer.prepare(networks)) {
+            //The networks were all prepared up front, so commit them all on the main thread
             for (DynamicNetwork<?, ?, ?> net : networks) {
                 net.onUpdate();
             }
+        } else {
+            for (DynamicNetwork<?, ?, ?> net : networks) {
+                net.prepareUpdate();
+                net.onUpdate();
+            }
         }
     }
 
@@ -152,38 +207,53 @@ public class TransmitterNetworkRegistry {
             //Load type stayed the same, just exit
             return;
         }
-        Chunk3D chunk = new Chunk3D(event.getLevel().dimension(), event.getChunkPos());
-        if (transmitters.containsKey(chunk)) {
+        ResourceKey<Level> dimension = event.getLevel().dimension();
+        Long2ObjectMap<Set<Transmitter<?, ?, ?>>> dimensionTransmitters = transmitters.get(dimension);
+        long chunk = event.getChunkPos();
+        if (dimensionTransmitters != null && dimensionTransmitters.containsKey(chunk)) {
             //Only track it if we have any transmitters in that chunk
-            if (changedTicketChunks.getOrDefault(chunk, loaded) != loaded) {
+            Long2BooleanMap changedDimensionChunks = changedTicketChunks.computeIfAbsent(dimension, dim -> new Long2BooleanOpenHashMap());
+            if (changedDimensionChunks.containsKey(chunk) && changedDimensionChunks.get(chunk) != loaded) {
                 //If we are watching the chunk and the loaded state isn't what we already had it as,
                 // then remove it as it didn't actually change. In theory in all cases this is equivalent
                 // to just checking if changeTicketChunks contains chunk, but is slightly more accurate
                 // in case for some reason we get two load or unload notifications in a row
-                changedTicketChunks.removeBoolean(chunk);
+                changedDimensionChunks.remove(chunk);
             } else {
                 // Otherwise, make sure the map is aware of the change
-                changedTicketChunks.put(chunk, loaded);
+                changedDimensionChunks.put(chunk, loaded);
             }
         }
     }
 
     private void handleChangedChunks() {
         if (!changedTicketChunks.isEmpty()) {
-            Object2BooleanMap<Chunk3D> changed = changedTicketChunks;
-            changedTicketChunks = new Object2BooleanOpenHashMap<>();
-            if (MekanismAPI.debug) {
-                Mekanism.logger.info("Dealing with {} changed chunks", changed.size());
-            }
-            for (Object2BooleanMap.Entry<Chunk3D> entry : changed.object2BooleanEntrySet()) {
-                Chunk3D chunk = entry.getKey();
-                boolean loaded = entry.getBooleanValue();
-                Collection<Transmitter<?, ?, ?>> chunkTransmitters = transmitters.get(chunk);
-                for (Transmitter<?, ?, ?> transmitter : chunkTransmitters) {
-                    transmitter.getTransmitterTile().chunkAccessibilityChange(loaded);
+            Map<ResourceKey<Level>, Long2BooleanMap> changed = changedTicketChunks;
+            changedTicketChunks = new Object2ObjectOpenHashMap<>();
+            for (Map.Entry<ResourceKey<Level>, Long2BooleanMap> dimensionEntry : changed.entrySet()) {
+                Long2BooleanMap changedDimensionChunks = dimensionEntry.getValue();
+                if (changedDimensionChunks.isEmpty()) {
+                    continue;
                 }
                 if (MekanismAPI.debug) {
-                    Mekanism.logger.info("{} {} transmitters in chunk: {}, {}", loaded ? "Loaded" : "Unloaded", chunkTransmitters.size(), chunk.x, chunk.z);
+                    Mekanism.logger.info("Dealing with {} changed chunks in {}", changedDimensionChunks.size(), dimensionEntry.getKey().location());
+                }
+                Long2ObjectMap<Set<Transmitter<?, ?, ?>>> dimensionTransmitters = transmitters.get(dimensionEntry.getKey());
+                if (dimensionTransmitters == null) {
+                    continue;
+                }
+                for (Long2BooleanMap.Entry entry : changedDimensionChunks.long2BooleanEntrySet()) {
+                    Set<Transmitter<?, ?, ?>> chunkTransmitters = dimensionTransmitters.get(entry.getLongKey());
+                    if (chunkTransmitters != null) {
+                        boolean loaded = entry.getBooleanValue();
+                        for (Transmitter<?, ?, ?> transmitter : chunkTransmitters) {
+                            transmitter.getTransmitterTile().chunkAccessibilityChange(loaded);
+                        }
+                        if (MekanismAPI.debug) {
+                            Mekanism.logger.info("{} {} transmitters in chunk: {}, {}", loaded ? "Loaded" : "Unloaded", chunkTransmitters.size(),
+                                  ChunkPos.getX(entry.getLongKey()), ChunkPos.getZ(entry.getLongKey()));
+                        }
+                    }
                 }
             }
         }
@@ -210,7 +280,11 @@ public class TransmitterNetworkRegistry {
         if (!invalid.isOrphan() || !invalid.isValid()) {
             NETWORK n = invalid.getTransmitterNetwork();
             if (n != null) {
-                n.invalidate((TRANSMITTER) invalid);
+                int searchLimit = MekanismConfig.general.networkSplitSearchLimit.get();
+                //If the transmitter is no longer valid try to only re-form the part of the network that actually got cut off
+                if (invalid.isValid() || searchLimit == 0 || !n.removeInvalidIncrementally((TRANSMITTER) invalid, searchLimit)) {
+                    n.invalidate((TRANSMITTER) invalid);
+                }
                 if (!invalid.isValid()) {
                     //If the transmitter isn't valid, then we need to make sure we clear the network from it
                     // after invalidating the network, so that we can make sure that if this transmitter somehow
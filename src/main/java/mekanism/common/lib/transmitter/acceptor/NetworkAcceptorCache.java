@@ -9,6 +9,7 @@ import java.util.Map.Entry;
 import java.util.Set;
 import mekanism.common.content.network.transmitter.Transmitter;
 import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
+import mekanism.common.util.EnumUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraftforge.common.util.LazyOptional;
@@ -21,6 +22,7 @@ public class NetworkAcceptorCache<ACCEPTOR> {
     public void updateTransmitterOnSide(Transmitter<ACCEPTOR, ?, ?> transmitter, Direction side) {
         LazyOptional<ACCEPTOR> acceptor = transmitter.canConnectToAcceptor(side) ? transmitter.getAcceptor(side) : LazyOptional.empty();
         BlockPos acceptorPos = transmitter.getTilePos().relative(side);
+        TransmitterNetworkRegistry.acceptorsChanged();
         if (acceptor.isPresent()) {
             cachedAcceptors.computeIfAbsent(acceptorPos, pos -> new EnumMap<>(Direction.class)).put(side.getOpposite(), acceptor);
         } else if (cachedAcceptors.containsKey(acceptorPos)) {
@@ -35,6 +37,7 @@ public class NetworkAcceptorCache<ACCEPTOR> {
     }
 
     public void adoptAcceptors(NetworkAcceptorCache<ACCEPTOR> other) {
+        TransmitterNetworkRegistry.acceptorsChanged();
         for (Entry<BlockPos, Map<Direction, LazyOptional<ACCEPTOR>>> entry : other.cachedAcceptors.entrySet()) {
             BlockPos pos = entry.getKey();
             if (cachedAcceptors.containsKey(pos)) {
@@ -73,7 +76,27 @@ public class NetworkAcceptorCache<ACCEPTOR> {
         }
     }
 
+    /**
+     * Removes all acceptors that were cached for the given transmitter.
+     */
+    public void removeTransmitter(Transmitter<ACCEPTOR, ?, ?> transmitter) {
+        changedAcceptors.remove(transmitter);
+        TransmitterNetworkRegistry.acceptorsChanged();
+        BlockPos pos = transmitter.getTilePos();
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            BlockPos acceptorPos = pos.relative(side);
+            Map<Direction, LazyOptional<ACCEPTOR>> cached = cachedAcceptors.get(acceptorPos);
+            if (cached != null) {
+                cached.remove(side.getOpposite());
+                if (cached.isEmpty()) {
+                    cachedAcceptors.remove(acceptorPos);
+                }
+            }
+        }
+    }
+
     public void deregister() {
+        TransmitterNetworkRegistry.acceptorsChanged();
         cachedAcceptors.clear();
         changedAcceptors.clear();
     }
@@ -85,6 +108,10 @@ public class NetworkAcceptorCache<ACCEPTOR> {
         return cachedAcceptors.entrySet();
     }
 
+    public Set<BlockPos> getAcceptorPositions() {
+        return cachedAcceptors.keySet();
+    }
+
     /**
      * @apiNote Listeners should not be added to these LazyOptionals here as they may not correspond to an actual handler and may not get invalidated.
      */
@@ -11,6 +11,7 @@ import mekanism.common.network.to_client.PacketRadiationData;
 import mekanism.common.network.to_client.PacketResetPlayerClient;
 import mekanism.common.network.to_client.PacketSecurityUpdate;
 import mekanism.common.network.to_client.PacketTransmitterUpdate;
+import mekanism.common.network.to_client.PacketTransporterBatch;
 import mekanism.common.network.to_client.PacketTransporterUpdate;
 import mekanism.common.network.to_client.PacketUpdateTile;
 import mekanism.common.network.to_client.container.PacketUpdateContainer;
@@ -92,6 +93,7 @@ public class PacketHandler extends BasePacketHandler {
         registerServerToClient(PacketResetPlayerClient.class, PacketResetPlayerClient::decode);
         registerServerToClient(PacketSecurityUpdate.class, PacketSecurityUpdate::decode);
         registerServerToClient(PacketTransmitterUpdate.class, PacketTransmitterUpdate::decode);
+        registerServerToClient(PacketTransporterBatch.class, PacketTransporterBatch::decode);
         registerServerToClient(PacketTransporterUpdate.class, PacketTransporterUpdate::decode);
         registerServerToClient(PacketUpdateContainer.class, PacketUpdateContainer::decode);
         registerServerToClient(PacketUpdateTile.class, PacketUpdateTile::decode);
@@ -1,7 +1,9 @@
 package mekanism.common.network.to_client;
 
-import it.unimi.dsi.fastutil.objects.Object2LongMap;
-import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
 import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
 import mekanism.common.network.BasePacketHandler;
@@ -11,33 +13,44 @@ import net.minecraft.client.player.LocalPlayer;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraftforge.network.NetworkEvent;
 
-//TODO - 1.19: Split this packet as it is possible for it to technically become too large and cause a crash
-// Also ideally we only would sync the hashed item for types we haven't sent a given client yet so that then
-// we can also send a smaller packet to each client until they disconnect and then we clear what packets they know
+/**
+ * Syncs the contents of a QIO frequency to a player viewing it. Items are only sent in full the first time they are sent to a given viewer, and from then on they are
+ * referred to by an index that is only valid for that viewer until they close the viewer or the item is removed.
+ */
 public class PacketQIOItemViewerGuiSync implements IMekanismPacket {
 
     private final Type type;
-    private final Object2LongMap<UUIDAwareHashedItem> itemMap;
+    private final Int2ObjectMap<UUIDAwareHashedItem> definitions;
+    private final Int2LongMap counts;
     private final long countCapacity;
     private final int typeCapacity;
 
-    private PacketQIOItemViewerGuiSync(Type type, Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
+    private PacketQIOItemViewerGuiSync(Type type, Int2ObjectMap<UUIDAwareHashedItem> definitions, Int2LongMap counts, long countCapacity, int typeCapacity) {
         this.type = type;
-        this.itemMap = itemMap;
+        this.definitions = definitions;
+        this.counts = counts;
         this.countCapacity = countCapacity;
         this.typeCapacity = typeCapacity;
     }
 
-    public static PacketQIOItemViewerGuiSync batch(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
-        return new PacketQIOItemViewerGuiSync(Type.BATCH, itemMap, countCapacity, typeCapacity);
+    /**
+     * @param definitions Items that are being sent to the viewer for the first time, by the index they will be referred to by.
+     * @param counts      Counts of the items by their index, a count of zero means the item was removed.
+     */
+    public static PacketQIOItemViewerGuiSync batch(Int2ObjectMap<UUIDAwareHashedItem> definitions, Int2LongMap counts, long countCapacity, int typeCapacity) {
+        return new PacketQIOItemViewerGuiSync(Type.BATCH, definitions, counts, countCapacity, typeCapacity);
     }
 
-    public static PacketQIOItemViewerGuiSync update(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
-        return new PacketQIOItemViewerGuiSync(Type.UPDATE, itemMap, countCapacity, typeCapacity);
+    /**
+     * @param definitions Items that are being sent to the viewer for the first time, by the index they will be referred to by.
+     * @param counts      Counts of the items by their index, a count of zero means the item was removed.
+     */
+    public static PacketQIOItemViewerGuiSync update(Int2ObjectMap<UUIDAwareHashedItem> definitions, Int2LongMap counts, long countCapacity, int typeCapacity) {
+        return new PacketQIOItemViewerGuiSync(Type.UPDATE, definitions, counts, countCapacity, typeCapacity);
     }
 
     public static PacketQIOItemViewerGuiSync kill() {
-        return new PacketQIOItemViewerGuiSync(Type.UPDATE, null, 0, 0);
+        return new PacketQIOItemViewerGuiSync(Type.KILL, null, null, 0, 0);
     }
 
     @Override
@@ -45,8 +58,8 @@ public class PacketQIOItemViewerGuiSync implements IMekanismPacket {
         LocalPlayer player = Minecraft.getInstance().player;
         if (player != null && player.containerMenu instanceof QIOItemViewerContainer container) {
             switch (type) {
-                case BATCH -> container.handleBatchUpdate(itemMap, countCapacity, typeCapacity);
-                case UPDATE -> container.handleUpdate(itemMap, countCapacity, typeCapacity);
+                case BATCH -> container.handleBatchUpdate(definitions, counts, countCapacity, typeCapacity);
+                case UPDATE -> container.handleUpdate(definitions, counts, countCapacity, typeCapacity);
                 case KILL -> container.handleKill();
             }
         }
@@ -58,12 +71,17 @@ public class PacketQIOItemViewerGuiSync implements IMekanismPacket {
         if (type == Type.BATCH || type == Type.UPDATE) {
             buffer.writeVarLong(countCapacity);
             buffer.writeVarInt(typeCapacity);
-            BasePacketHandler.writeMap(buffer, itemMap, (key, value, buf) -> {
-                buf.writeItem(key.getInternalStack());
+            BasePacketHandler.writeMap(buffer, definitions, (index, item, buf) -> {
+                buf.writeVarInt(index);
+                buf.writeItem(item.getInternalStack());
                 //Shouldn't be null unless something failed, but if it does try to handle it relatively gracefully
-                BasePacketHandler.writeOptional(buf, key.getUUID(), FriendlyByteBuf::writeUUID);
-                buf.writeVarLong(value);
+                BasePacketHandler.writeOptional(buf, item.getUUID(), FriendlyByteBuf::writeUUID);
             });
+            buffer.writeVarInt(counts.size());
+            for (Int2LongMap.Entry entry : counts.int2LongEntrySet()) {
+                buffer.writeVarInt(entry.getIntKey());
+                buffer.writeVarLong(entry.getLongValue());
+            }
         }
     }
 
@@ -71,14 +89,24 @@ public class PacketQIOItemViewerGuiSync implements IMekanismPacket {
         Type type = buffer.readEnum(Type.class);
         long countCapacity = 0;
         int typeCapacity = 0;
-        Object2LongMap<UUIDAwareHashedItem> map = null;
+        Int2ObjectMap<UUIDAwareHashedItem> definitions = null;
+        Int2LongMap counts = null;
         if (type == Type.BATCH || type == Type.UPDATE) {
             countCapacity = buffer.readVarLong();
             typeCapacity = buffer.readVarInt();
-            map = BasePacketHandler.readMap(buffer, Object2LongOpenHashMap::new,
-                  buf -> new UUIDAwareHashedItem(buf.readItem(), BasePacketHandler.readOptional(buf, FriendlyByteBuf::readUUID)), FriendlyByteBuf::readVarLong);
+            int definitionCount = buffer.readVarInt();
+            definitions = new Int2ObjectOpenHashMap<>(definitionCount);
+            for (int i = 0; i < definitionCount; i++) {
+                int index = buffer.readVarInt();
+                definitions.put(index, new UUIDAwareHashedItem(buffer.readItem(), BasePacketHandler.readOptional(buffer, FriendlyByteBuf::readUUID)));
+            }
+            int countsSize = buffer.readVarInt();
+            counts = new Int2LongOpenHashMap(countsSize);
+            for (int i = 0; i < countsSize; i++) {
+                counts.put(buffer.readVarInt(), buffer.readVarLong());
+            }
         }
-        return new PacketQIOItemViewerGuiSync(type, map, countCapacity, typeCapacity);
+        return new PacketQIOItemViewerGuiSync(type, definitions, counts, countCapacity, typeCapacity);
     }
 
     public enum Type {
@@ -0,0 +1,185 @@
+package mekanism.common.network.to_client;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import mekanism.common.content.network.transmitter.DiversionTransporter;
+import mekanism.common.content.network.transmitter.DiversionTransporter.DiversionControl;
+import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
+import mekanism.common.content.transporter.TransporterStack;
+import mekanism.common.lib.inventory.HashedItem;
+import mekanism.common.network.IMekanismPacket;
+import mekanism.common.tile.transmitter.TileEntityLogisticalTransporterBase;
+import mekanism.common.util.EnumUtils;
+import mekanism.common.util.WorldUtils;
+import net.minecraft.client.Minecraft;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.network.NetworkEvent;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Batched equivalent of {@link PacketTransporterUpdate} that contains all the changes of multiple transporters in a single tick. Each item type is only written once per
+ * packet, and positions and stack ids are written as deltas from the previous ones.
+ */
+public class PacketTransporterBatch implements IMekanismPacket {
+
+    private final List<TransporterChanges> changes;
+
+    public PacketTransporterBatch(List<TransporterChanges> changes) {
+        this.changes = changes;
+    }
+
+    @Override
+    public void handle(NetworkEvent.Context context) {
+        for (TransporterChanges transporterChanges : changes) {
+            TileEntityLogisticalTransporterBase tile = WorldUtils.getTileEntity(TileEntityLogisticalTransporterBase.class, Minecraft.getInstance().level,
+                  transporterChanges.pos);
+            if (tile != null) {
+                LogisticalTransporterBase transporter = tile.getTransmitter();
+                for (int i = 0, size = transporterChanges.updateIds.size(); i < size; i++) {
+                    transporter.addStack(transporterChanges.updateIds.getInt(i), transporterChanges.updates.get(i));
+                }
+                for (int i = 0, size = transporterChanges.deletes.size(); i < size; i++) {
+                    transporter.deleteStack(transporterChanges.deletes.getInt(i));
+                }
+                if (transporterChanges.modes != null && transporter instanceof DiversionTransporter diversionTransporter) {
+                    //Copy the values of modes, without replacing the actual array
+                    System.arraycopy(transporterChanges.modes, 0, diversionTransporter.modes, 0, transporterChanges.modes.length);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void encode(FriendlyByteBuf buffer) {
+        //Index all the item types first so that they only have to be written once
+        Object2IntMap<HashedItem> itemIndices = new Object2IntOpenHashMap<>();
+        List<ItemStack> itemTypes = new ArrayList<>();
+        for (TransporterChanges transporterChanges : changes) {
+            for (TransporterStack stack : transporterChanges.updates) {
+                HashedItem type = HashedItem.raw(stack.itemStack);
+                if (!itemIndices.containsKey(type)) {
+                    itemIndices.put(type, itemTypes.size());
+                    itemTypes.add(stack.itemStack);
+                }
+            }
+        }
+        buffer.writeCollection(itemTypes, FriendlyByteBuf::writeItem);
+        buffer.writeVarInt(changes.size());
+        BlockPos lastPos = BlockPos.ZERO;
+        for (TransporterChanges transporterChanges : changes) {
+            BlockPos pos = transporterChanges.pos;
+            writeSignedVarInt(buffer, pos.getX() - lastPos.getX());
+            writeSignedVarInt(buffer, pos.getY() - lastPos.getY());
+            writeSignedVarInt(buffer, pos.getZ() - lastPos.getZ());
+            lastPos = pos;
+            buffer.writeVarInt(transporterChanges.updates.size());
+            int lastId = 0;
+            for (int i = 0, size = transporterChanges.updates.size(); i < size; i++) {
+                int id = transporterChanges.updateIds.getInt(i);
+                writeSignedVarInt(buffer, id - lastId);
+                lastId = id;
+                TransporterStack stack = transporterChanges.updates.get(i);
+                stack.writeCompact(pos, buffer, itemIndices.getInt(HashedItem.raw(stack.itemStack)));
+            }
+            buffer.writeVarInt(transporterChanges.deletes.size());
+            lastId = 0;
+            for (int i = 0, size = transporterChanges.deletes.size(); i < size; i++) {
+                int id = transporterChanges.deletes.getInt(i);
+                writeSignedVarInt(buffer, id - lastId);
+                lastId = id;
+            }
+            buffer.writeBoolean(transporterChanges.modes != null);
+            if (transporterChanges.modes != null) {
+                for (DiversionControl mode : transporterChanges.modes) {
+                    buffer.writeEnum(mode);
+                }
+            }
+        }
+    }
+
+    public static PacketTransporterBatch decode(FriendlyByteBuf buffer) {
+        List<ItemStack> itemTypes = buffer.readList(FriendlyByteBuf::readItem);
+        int count = buffer.readVarInt();
+        List<TransporterChanges> changes = new ArrayList<>(count);
+        BlockPos lastPos = BlockPos.ZERO;
+        for (int i = 0; i < count; i++) {
+            BlockPos pos = lastPos.offset(readSignedVarInt(buffer), readSignedVarInt(buffer), readSignedVarInt(buffer));
+            lastPos = pos;
+            TransporterChanges transporterChanges = new TransporterChanges(pos);
+            int updates = buffer.readVarInt();
+            int lastId = 0;
+            for (int j = 0; j < updates; j++) {
+                lastId += readSignedVarInt(buffer);
+                transporterChanges.updateIds.add(lastId);
+                transporterChanges.updates.add(TransporterStack.readCompact(pos, buffer, itemTypes));
+            }
+            int deletes = buffer.readVarInt();
+            lastId = 0;
+            for (int j = 0; j < deletes; j++) {
+                lastId += readSignedVarInt(buffer);
+                transporterChanges.deletes.add(lastId);
+            }
+            if (buffer.readBoolean()) {
+                transporterChanges.modes = new DiversionControl[EnumUtils.DIRECTIONS.length];
+                for (int j = 0; j < transporterChanges.modes.length; j++) {
+                    transporterChanges.modes[j] = buffer.readEnum(DiversionControl.class);
+                }
+            }
+            changes.add(transporterChanges);
+        }
+        return new PacketTransporterBatch(changes);
+    }
+
+    private static void writeSignedVarInt(FriendlyByteBuf buffer, int value) {
+        //Zigzag encode the value so that small negative deltas are also small
+        buffer.writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    private static int readSignedVarInt(FriendlyByteBuf buffer) {
+        int value = buffer.readVarInt();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Changes to the stacks of a single transporter.
+     */
+    public static class TransporterChanges {
+
+        private final BlockPos pos;
+        private final IntList updateIds = new IntArrayList();
+        private final List<TransporterStack> updates = new ArrayList<>();
+        private final IntList deletes = new IntArrayList();
+        @Nullable
+        private DiversionControl[] modes;
+
+        public TransporterChanges(BlockPos pos) {
+            this.pos = pos;
+        }
+
+        public BlockPos getPos() {
+            return pos;
+        }
+
+        /**
+         * @param stack Copy of the stack created by {@link TransporterStack#createClientCopy(LogisticalTransporterBase)}.
+         */
+        public void addUpdate(int stackId, TransporterStack stack) {
+            updateIds.add(stackId);
+            updates.add(stack);
+        }
+
+        public void addDelete(int stackId) {
+            deletes.add(stackId);
+        }
+
+        public void setModes(DiversionControl[] modes) {
+            this.modes = modes.clone();
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package mekanism.common.network.to_client;
 
+import io.netty.buffer.Unpooled;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
+import mekanism.api.MekanismAPI;
 import mekanism.common.content.network.transmitter.DiversionTransporter;
 import mekanism.common.content.network.transmitter.DiversionTransporter.DiversionControl;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
@@ -20,6 +22,36 @@ import net.minecraftforge.network.NetworkEvent;
 
 public class PacketTransporterUpdate implements IMekanismPacket {
 
+    private static long bytesSent;
+
+    /**
+     * Adds the encoded size of a transporter update packet to the number of bytes sent, once for each player it is sent to. This is tracked where the packets are sent
+     * rather than when they are encoded, so that both batched and unbatched updates are counted per receiving player regardless of how often the packet gets encoded.
+     *
+     * @param packet  Transporter update packet, either a {@link PacketTransporterUpdate} or a {@link PacketTransporterBatch}.
+     * @param players Number of players the packet is being sent to.
+     */
+    public static void trackSent(IMekanismPacket packet, int players) {
+        if (MekanismAPI.debug && players > 0) {
+            FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+            try {
+                packet.encode(buffer);
+                bytesSent += (long) buffer.writerIndex() * players;
+            } finally {
+                buffer.release();
+            }
+        }
+    }
+
+    /**
+     * @return The number of bytes of transporter updates that have been sent to players since this was last called.
+     */
+    public static long getAndResetBytesSent() {
+        long bytes = bytesSent;
+        bytesSent = 0;
+        return bytes;
+    }
+
     //Generic
     private final boolean isDiversion;
     private final boolean isSync;
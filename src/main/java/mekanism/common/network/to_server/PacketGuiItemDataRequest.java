@@ -2,21 +2,35 @@ package mekanism.common.network.to_server;
 
 import mekanism.common.content.qio.QIOFrequency;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
+import mekanism.common.inventory.container.QIOItemViewerContainer.ListSortType;
+import mekanism.common.inventory.container.QIOItemViewerContainer.SortDirection;
 import mekanism.common.network.IMekanismPacket;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.Mth;
 import net.minecraftforge.network.NetworkEvent;
 
 public class PacketGuiItemDataRequest implements IMekanismPacket {
 
     private final Type type;
+    private final ListSortType sortType;
+    private final SortDirection sortDirection;
+    private final int visibleSlots;
 
-    private PacketGuiItemDataRequest(Type type) {
+    private PacketGuiItemDataRequest(Type type, ListSortType sortType, SortDirection sortDirection, int visibleSlots) {
         this.type = type;
+        this.sortType = sortType;
+        this.sortDirection = sortDirection;
+        this.visibleSlots = visibleSlots;
     }
 
-    public static PacketGuiItemDataRequest qioItemViewer() {
-        return new PacketGuiItemDataRequest(Type.QIO_ITEM_VIEWER);
+    /**
+     * Requests the items of the QIO frequency, or if they were already requested updates the order the items should be sent in.
+     *
+     * @param visibleSlots Number of slots the player can see without scrolling.
+     */
+    public static PacketGuiItemDataRequest qioItemViewer(ListSortType sortType, SortDirection sortDirection, int visibleSlots) {
+        return new PacketGuiItemDataRequest(Type.QIO_ITEM_VIEWER, sortType, sortDirection, visibleSlots);
     }
 
     @Override
@@ -27,7 +41,9 @@ public class PacketGuiItemDataRequest implements IMekanismPacket {
                 if (player.containerMenu instanceof QIOItemViewerContainer container) {
                     QIOFrequency freq = container.getFrequency();
                     if (!player.level.isClientSide() && freq != null) {
-                        freq.openItemViewer(player);
+                        //Clamp the number of slots in case something is wrong with the packet that got sent
+                        int maxSlots = QIOItemViewerContainer.SLOTS_X_MAX * QIOItemViewerContainer.SLOTS_Y_MAX;
+                        freq.openItemViewer(player, sortType, sortDirection, Mth.clamp(visibleSlots, 0, maxSlots));
                     }
                 }
             }
@@ -37,10 +53,13 @@ public class PacketGuiItemDataRequest implements IMekanismPacket {
     @Override
     public void encode(FriendlyByteBuf buffer) {
         buffer.writeEnum(type);
+        buffer.writeEnum(sortType);
+        buffer.writeEnum(sortDirection);
+        buffer.writeVarInt(visibleSlots);
     }
 
     public static PacketGuiItemDataRequest decode(FriendlyByteBuf buffer) {
-        return new PacketGuiItemDataRequest(buffer.readEnum(Type.class));
+        return new PacketGuiItemDataRequest(buffer.readEnum(Type.class), buffer.readEnum(ListSortType.class), buffer.readEnum(SortDirection.class), buffer.readVarInt());
     }
 
     private enum Type {
@@ -82,6 +82,18 @@ public interface IRecipeLookupHandler<RECIPE extends MekanismRecipe> extends ICo
     default void clearRecipeErrors(int cacheIndex) {
     }
 
+    /**
+     * Checks if the cached recipe at a given index is allowed to stop being processed after it was unable to perform any operations, until something wakes it back up.
+     * This should only be allowed if everything that can unblock the recipe also causes a wake up, for example by changing the contents of the handler.
+     *
+     * @param cacheIndex The "recipe index" for which cache to interact with.
+     *
+     * @return {@code true} if the cached recipe may sleep while it is blocked.
+     */
+    default boolean canRecipeSleep(int cacheIndex) {
+        return false;
+    }
+
     /**
      * Helper class that specifies the input cache's type for the recipe type. The reason it isn't defined in the main {@link IRecipeLookupHandler} is it isn't needed and
      * would just make the class definitions a lot messier with very long generics that can be folded away into the helper interfaces we use anyway ofr actual lookup
@@ -25,5 +25,6 @@ public class FactoryRecipeCacheLookupMonitor<RECIPE extends MekanismRecipe> exte
         //Note: While this is probably not strictly needed we clear our cache of knowing we have no recipe
         // so that we can properly re-enter the lookup cycle if needed
         hasNoRecipe = false;
+        wakeUp();
     }
 }
\ No newline at end of file
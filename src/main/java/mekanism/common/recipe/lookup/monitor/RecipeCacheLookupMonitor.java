@@ -18,6 +18,11 @@ public class RecipeCacheLookupMonitor<RECIPE extends MekanismRecipe> implements
     protected final int cacheIndex;
     protected CachedRecipe<RECIPE> cachedRecipe;
     protected boolean hasNoRecipe;
+    /**
+     * Set when the cached recipe was unable to perform any operations and the handler allows it to sleep, so that it doesn't get processed again until something
+     * changes that may allow it to run.
+     */
+    private boolean sleeping;
 
     public RecipeCacheLookupMonitor(IRecipeLookupHandler<RECIPE> handler) {
         this(handler, 0);
@@ -41,24 +46,46 @@ public class RecipeCacheLookupMonitor<RECIPE extends MekanismRecipe> implements
     public void onChange() {
         //Mark that we may have a recipe again
         hasNoRecipe = false;
+        wakeUp();
+    }
+
+    /**
+     * Marks that the cached recipe should be processed again, for example because the contents or the configuration of the handler changed.
+     */
+    public void wakeUp() {
+        sleeping = false;
+    }
+
+    public boolean isSleeping() {
+        return sleeping;
     }
 
     /**
      * Helper that wraps {@link #updateAndProcess()} inside of a brief check to calculate how much energy actually got used.
      */
     public FloatingLong updateAndProcess(IEnergyContainer energyContainer) {
-        //Copy this so that if it changes we still have the original amount. Don't bother making it a constant though as this way
-        // we can then use minusEqual instead of subtract to remove an extra copy call
-        FloatingLong prev = energyContainer.getEnergy().copy();
-        if (updateAndProcess()) {
+        //Keep track of the raw values so that if the stored energy changes we still have the original amount, without having to copy it
+        // every tick even when we don't end up processing anything
+        FloatingLong stored = energyContainer.getEnergy();
+        long prevValue = stored.getValue();
+        short prevDecimal = stored.getDecimal();
+        if (updateAndProcess() && cachedRecipe.getLastOperations() > 0) {
             //Update amount of energy that actually got used, as if we are "near" full we may not have performed our max number of operations
-            return prev.minusEqual(energyContainer.getEnergy());
+            return FloatingLong.create(prevValue, prevDecimal).minusEqual(energyContainer.getEnergy());
         }
-        //If we don't have a cached recipe so didn't process anything at all just return zero
+        //If we don't have a cached recipe or didn't perform any operations, no energy was used, so just return zero
         return FloatingLong.ZERO;
     }
 
     public boolean updateAndProcess() {
+        if (sleeping) {
+            if (!CommonWorldTickHandler.flushTagAndRecipeCaches) {
+                //Nothing changed since we were last unable to process, so there is no reason to check again
+                return false;
+            }
+            //Recipes changed, so we need to look up the recipe again
+            sleeping = false;
+        }
         CachedRecipe<RECIPE> oldCache = cachedRecipe;
         cachedRecipe = getUpdatedCache(cacheIndex);
         if (cachedRecipe != oldCache) {
@@ -66,6 +93,7 @@ public class RecipeCacheLookupMonitor<RECIPE extends MekanismRecipe> implements
         }
         if (cachedRecipe != null) {
             cachedRecipe.process();
+            sleeping = cachedRecipe.getLastOperations() <= 0 && handler.canRecipeSleep(cacheIndex);
             return true;
         }
         return false;
@@ -0,0 +1,46 @@
+package mekanism.common.recipe.lookup.monitor;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.Map;
+import mekanism.api.MekanismAPI;
+import mekanism.common.Mekanism;
+import mekanism.common.util.MekanismUtils;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+
+/**
+ * Counts how many recipe machines in each dimension were sleeping and how many were active during a tick, and periodically logs the counts in debug mode.
+ */
+public class RecipeSleepMetrics {
+
+    private RecipeSleepMetrics() {
+    }
+
+    /**
+     * Counts for the tick in progress, stored as sleeping then active.
+     */
+    private static final Map<ResourceKey<Level>, int[]> currentCounts = new Object2ObjectOpenHashMap<>();
+
+    public static void track(ResourceKey<Level> dimension, boolean sleeping) {
+        //Note: The counts are only used for debug logging, so don't bother keeping track of them when not in debug mode
+        if (MekanismAPI.debug) {
+            currentCounts.computeIfAbsent(dimension, d -> new int[2])[sleeping ? 0 : 1]++;
+        }
+    }
+
+    /**
+     * Called at the end of each level's tick to finalize the counts for that dimension.
+     */
+    public static void tickEnd(ServerLevel level) {
+        ResourceKey<Level> dimension = level.dimension();
+        int[] counts = currentCounts.remove(dimension);
+        if (counts != null && MekanismUtils.shouldLogDebugMetrics(level)) {
+            Mekanism.logger.info("{} recipe machines are sleeping and {} are active in {}", counts[0], counts[1], dimension.location());
+        }
+    }
+
+    public static void reset() {
+        currentCounts.clear();
+    }
+}
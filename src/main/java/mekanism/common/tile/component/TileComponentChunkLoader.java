@@ -13,6 +13,7 @@ import mekanism.api.NBTConstants;
 import mekanism.api.Upgrade;
 import mekanism.common.Mekanism;
 import mekanism.common.config.MekanismConfig;
+import mekanism.common.lib.chunkloading.ChunkTicketRegistry;
 import mekanism.common.lib.chunkloading.IChunkLoader;
 import mekanism.common.tile.base.TileEntityMekanism;
 import net.minecraft.core.BlockPos;
@@ -63,7 +64,7 @@ public class TileComponentChunkLoader<T extends TileEntityMekanism & IChunkLoade
         LOGGER.debug("Attempting to remove {} chunk tickets. Pos: {} World: {}", tickets, pos, world.dimension().location());
         if (tickets > 0) {
             for (long chunkPos : chunkSet) {
-                ForgeChunkManager.forceChunk(world, Mekanism.MODID, pos, (int) chunkPos, (int) (chunkPos >> 32), false, forceTicks);
+                ChunkTicketRegistry.forceChunk(world, pos, chunkPos, false, forceTicks);
             }
             chunkSet.clear();
             markDirty();
@@ -80,8 +81,9 @@ public class TileComponentChunkLoader<T extends TileEntityMekanism & IChunkLoade
         LOGGER.debug("Attempting to add {} chunk tickets. Pos: {} World: {}", tickets, prevPos, world.dimension().location());
         if (tickets > 0) {
             for (ChunkPos chunkPos : chunks) {
-                ForgeChunkManager.forceChunk(world, Mekanism.MODID, prevPos, chunkPos.x, chunkPos.z, true, forceTicks);
-                chunkSet.add(chunkPos.toLong());
+                long chunk = chunkPos.toLong();
+                ChunkTicketRegistry.forceChunk(world, prevPos, chunk, true, forceTicks);
+                chunkSet.add(chunk);
             }
             markDirty();
         }
@@ -143,7 +145,7 @@ public class TileComponentChunkLoader<T extends TileEntityMekanism & IChunkLoade
                             if (!chunks.contains(chunkPos)) {
                                 //If the chunk is no longer in our chunks we want loaded
                                 // then we need to unforce the chunk and remove it
-                                ForgeChunkManager.forceChunk(world, Mekanism.MODID, pos, (int) chunkPos, (int) (chunkPos >> 32), false, forceTicks);
+                                ChunkTicketRegistry.forceChunk(world, pos, chunkPos, false, forceTicks);
                                 chunkIt.remove();
                                 removed++;
                             }
@@ -153,7 +155,7 @@ public class TileComponentChunkLoader<T extends TileEntityMekanism & IChunkLoade
                             if (chunkSet.add(chunkPos)) {
                                 //If we didn't already have it in our chunk set and added actually added it as it is new
                                 // then we also need to force the chunk
-                                ForgeChunkManager.forceChunk(world, Mekanism.MODID, pos, (int) chunkPos, (int) (chunkPos >> 32), true, forceTicks);
+                                ChunkTicketRegistry.forceChunk(world, pos, chunkPos, true, forceTicks);
                                 added++;
                             }
                         }
@@ -238,9 +240,11 @@ public class TileComponentChunkLoader<T extends TileEntityMekanism & IChunkLoade
         @Override
         public void validateTickets(@NotNull ServerLevel world, @NotNull TicketHelper ticketHelper) {
             ResourceLocation worldName = world.dimension().location();
-            LOGGER.debug("Validating tickets for: {}. Blocks: {}, Entities: {}", worldName, ticketHelper.getBlockTickets().size(),
-                  ticketHelper.getEntityTickets().size());
-            for (Map.Entry<BlockPos, Pair<LongSet, LongSet>> entry : ticketHelper.getBlockTickets().entrySet()) {
+            Map<BlockPos, Pair<LongSet, LongSet>> blockTickets = ticketHelper.getBlockTickets();
+            LOGGER.debug("Validating tickets for: {}. Blocks: {}, Entities: {}", worldName, blockTickets.size(), ticketHelper.getEntityTickets().size());
+            long start = System.nanoTime();
+            int ticketCount = 0;
+            for (Map.Entry<BlockPos, Pair<LongSet, LongSet>> entry : blockTickets.entrySet()) {
                 //Only bother looking at non ticking chunks as we don't register any "fully" ticking chunks
                 BlockPos pos = entry.getKey();
                 LongSet forcedChunks = entry.getValue().getFirst();
@@ -249,6 +253,11 @@ public class TileComponentChunkLoader<T extends TileEntityMekanism & IChunkLoade
                       entry.getValue().getSecond().size());
                 validateTickets(world, worldName, pos, ticketHelper, forcedChunks, false);
                 validateTickets(world, worldName, pos, ticketHelper, tickingForcedChunks, true);
+                ticketCount += forcedChunks.size() + tickingForcedChunks.size();
+            }
+            if (!blockTickets.isEmpty()) {
+                LOGGER.debug("Validated {} chunk tickets for {} chunk loaders in {} in {} ms", ticketCount, blockTickets.size(), worldName,
+                      (System.nanoTime() - start) / 1_000_000);
             }
         }
 
@@ -307,6 +316,10 @@ public class TileComponentChunkLoader<T extends TileEntityMekanism & IChunkLoade
                                     added++;
                                 }
                             }
+                            //Let the registry know about the tickets the chunk loader now has so that it can batch any later changes to them
+                            for (long chunkPos : chunkLoader.chunkSet) {
+                                ChunkTicketRegistry.trackForced(world, pos, chunkPos, chunkLoader.forceTicks);
+                            }
                             //Mark the chunk loader as being initialized
                             chunkLoader.hasRegistered = true;
                             chunkLoader.prevWorld = world;
@@ -1,12 +1,14 @@
 package mekanism.common.tile.component;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.EnumSet;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.function.IntSupplier;
 import java.util.function.LongSupplier;
 import java.util.function.Predicate;
@@ -44,8 +46,10 @@ import mekanism.common.util.InventoryUtils;
 import mekanism.common.util.NBTUtils;
 import mekanism.common.util.TransporterUtils;
 import mekanism.common.util.WorldUtils;
+import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -66,6 +70,22 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
     private boolean strictInput;
     private EnumColor outputColor;
     private int tickDelay = 0;
+    /**
+     * Outputs for each transmission type and the sides they eject to. These only depend on the side configuration and the direction the tile is facing, so they are
+     * lazily calculated and cleared when either of those changes.
+     */
+    private final Map<TransmissionType, List<EjectOutput>> cachedOutputs = new EnumMap<>(TransmissionType.class);
+    @Nullable
+    private Direction cachedFacing;
+    /**
+     * Tiles adjacent to the ejecting tile, indexed by direction. Sides are cleared when a neighbor changes or the cached tile gets removed.
+     */
+    private final BlockEntity[] adjacentTiles = new BlockEntity[EnumUtils.DIRECTIONS.length];
+    /**
+     * Bitmask of the sides that are known to not have any tile.
+     */
+    private int emptySides;
+    private final Function<Direction, BlockEntity> adjacentTileLookup = this::getAdjacentTile;
 
     public TileComponentEjector(TileEntityMekanism tile) {
         this(tile, MekanismConfig.general.chemicalAutoEjectRate);
@@ -96,6 +116,7 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
             ConfigInfo info = config.getConfig(type);
             if (info != null) {
                 configInfo.put(type, info);
+                config.addConfigChangeListener(type, side -> cachedOutputs.remove(type));
             }
         }
         return this;
@@ -116,6 +137,12 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
     }
 
     public void tickServer() {
+        Direction facing = tile.getDirection();
+        if (facing != cachedFacing) {
+            //The sides the outputs eject to are relative to the direction we are facing
+            cachedOutputs.clear();
+            cachedFacing = facing;
+        }
         for (Map.Entry<TransmissionType, ConfigInfo> entry : configInfo.entrySet()) {
             TransmissionType type = entry.getKey();
             ConfigInfo info = entry.getValue();
@@ -137,89 +164,135 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
      * @apiNote Ensure that it can eject before calling this method.
      */
     private void eject(TransmissionType type, ConfigInfo info) {
-        //Used to keep track of tanks to what sides they output to
-        Map<Object, Set<Direction>> outputData = null;
-        for (DataType dataType : info.getSupportedDataTypes()) {
-            if (dataType.canOutput()) {
-                ISlotInfo slotInfo = info.getSlotInfo(dataType);
-                if (slotInfo != null) {
-                    Set<Direction> outputSides = info.getSidesForData(dataType);
-                    if (!outputSides.isEmpty()) {
-                        if (outputData == null) {
-                            //Lazy init outputData
-                            outputData = new HashMap<>();
-                        }
-                        if (type.isChemical() && slotInfo instanceof ChemicalSlotInfo<?, ?, ?> chemicalSlotInfo) {
-                            for (IChemicalTank<?, ?> tank : chemicalSlotInfo.getTanks()) {
-                                if (!tank.isEmpty() && (canTankEject == null || canTankEject.test(tank))) {
-                                    outputData.computeIfAbsent(tank, t -> EnumSet.noneOf(Direction.class)).addAll(outputSides);
-                                }
-                            }
-                        } else if (type == TransmissionType.FLUID && slotInfo instanceof FluidSlotInfo fluidSlotInfo) {
-                            for (IExtendedFluidTank tank : fluidSlotInfo.getTanks()) {
-                                if (!tank.isEmpty()) {
-                                    outputData.computeIfAbsent(tank, t -> EnumSet.noneOf(Direction.class)).addAll(outputSides);
-                                }
+        for (EjectOutput output : getOutputs(type, info)) {
+            if (output.container() instanceof IChemicalTank<?, ?> tank) {
+                if (!tank.isEmpty() && (canTankEject == null || canTankEject.test(tank))) {
+                    ChemicalUtil.emit(output.sides(), tank, adjacentTileLookup, chemicalEjectRate.getAsLong());
+                }
+            } else if (output.container() instanceof IExtendedFluidTank tank) {
+                if (!tank.isEmpty()) {
+                    FluidUtils.emit(output.sides(), tank, adjacentTileLookup, fluidEjectRate.getAsInt());
+                }
+            } else if (output.container() instanceof IEnergyContainer container) {
+                if (!container.isEmpty()) {
+                    CableUtils.emit(output.sides(), container, adjacentTileLookup, energyEjectRate == null ? container.getMaxEnergy() : energyEjectRate.get());
+                }
+            }
+        }
+    }
+
+    private List<EjectOutput> getOutputs(TransmissionType type, ConfigInfo info) {
+        List<EjectOutput> outputs = cachedOutputs.get(type);
+        if (outputs == null) {
+            //Used to keep track of containers to what sides they output to
+            Map<Object, Set<Direction>> outputData = new LinkedHashMap<>();
+            for (DataType dataType : info.getSupportedDataTypes()) {
+                if (dataType.canOutput()) {
+                    ISlotInfo slotInfo = info.getSlotInfo(dataType);
+                    if (slotInfo != null) {
+                        Set<Direction> outputSides = info.getSidesForData(dataType);
+                        if (!outputSides.isEmpty()) {
+                            List<?> containers = List.of();
+                            if (type == TransmissionType.ITEM && slotInfo instanceof InventorySlotInfo) {
+                                //Items are ejected per slot info rather than per slot
+                                containers = List.of(slotInfo);
+                            } else if (type.isChemical() && slotInfo instanceof ChemicalSlotInfo<?, ?, ?> chemicalSlotInfo) {
+                                containers = chemicalSlotInfo.getTanks();
+                            } else if (type == TransmissionType.FLUID && slotInfo instanceof FluidSlotInfo fluidSlotInfo) {
+                                containers = fluidSlotInfo.getTanks();
+                            } else if (type == TransmissionType.ENERGY && slotInfo instanceof EnergySlotInfo energySlotInfo) {
+                                containers = energySlotInfo.getContainers();
                             }
-                        } else if (type == TransmissionType.ENERGY && slotInfo instanceof EnergySlotInfo energySlotInfo) {
-                            for (IEnergyContainer container : energySlotInfo.getContainers()) {
-                                if (!container.isEmpty()) {
-                                    outputData.computeIfAbsent(container, t -> EnumSet.noneOf(Direction.class)).addAll(outputSides);
-                                }
+                            for (Object container : containers) {
+                                outputData.computeIfAbsent(container, t -> EnumSet.noneOf(Direction.class)).addAll(outputSides);
                             }
                         }
                     }
                 }
             }
-        }
-        if (outputData != null && !outputData.isEmpty()) {
+            outputs = new ArrayList<>(outputData.size());
             for (Map.Entry<Object, Set<Direction>> entry : outputData.entrySet()) {
-                if (type.isChemical()) {
-                    ChemicalUtil.emit(entry.getValue(), (IChemicalTank<?, ?>) entry.getKey(), tile, chemicalEjectRate.getAsLong());
-                } else if (type == TransmissionType.FLUID) {
-                    FluidUtils.emit(entry.getValue(), (IExtendedFluidTank) entry.getKey(), tile, fluidEjectRate.getAsInt());
-                } else if (type == TransmissionType.ENERGY) {
-                    IEnergyContainer container = (IEnergyContainer) entry.getKey();
-                    CableUtils.emit(entry.getValue(), container, tile, energyEjectRate == null ? container.getMaxEnergy() : energyEjectRate.get());
-                }
+                outputs.add(new EjectOutput(entry.getKey(), entry.getValue()));
             }
+            cachedOutputs.put(type, outputs);
         }
+        return outputs;
+    }
+
+    /**
+     * Gets the tile adjacent to the ejecting tile on the given side, looking it up only if it isn't cached.
+     */
+    @Nullable
+    private BlockEntity getAdjacentTile(Direction side) {
+        int index = side.ordinal();
+        BlockEntity adjacent = adjacentTiles[index];
+        if (adjacent != null) {
+            if (!adjacent.isRemoved()) {
+                return adjacent;
+            }
+            adjacentTiles[index] = null;
+        } else if ((emptySides & (1 << index)) != 0) {
+            return null;
+        }
+        Level level = tile.getLevel();
+        BlockPos pos = tile.getBlockPos().relative(side);
+        //Only cache the result if the position is loaded, so that we look it up again once it does get loaded
+        if (WorldUtils.isBlockLoaded(level, pos)) {
+            adjacent = level.getBlockEntity(pos);
+            if (adjacent == null) {
+                emptySides |= 1 << index;
+            } else {
+                adjacentTiles[index] = adjacent;
+            }
+        }
+        return adjacent;
+    }
+
+    /**
+     * Called when a block next to the ejecting tile changes, so that the cached tile on that side can be looked up again.
+     */
+    public void onNeighborChange(BlockPos neighborPos) {
+        Direction side = WorldUtils.sideDifference(neighborPos, tile.getBlockPos());
+        if (side != null) {
+            int index = side.ordinal();
+            adjacentTiles[index] = null;
+            emptySides &= ~(1 << index);
+        }
+    }
+
+    @Override
+    public void invalidate() {
+        Arrays.fill(adjacentTiles, null);
+        emptySides = 0;
     }
 
     /**
      * @apiNote Ensure that it can eject before calling this method.
      */
     private void outputItems(ConfigInfo info) {
-        for (DataType dataType : info.getSupportedDataTypes()) {
-            if (!dataType.canOutput()) {
-                continue;
-            }
-            ISlotInfo slotInfo = info.getSlotInfo(dataType);
-            if (slotInfo instanceof InventorySlotInfo inventorySlotInfo) {
-                //Validate the slot info is of the correct type
-                Set<Direction> outputs = info.getSidesForData(dataType);
-                if (!outputs.isEmpty()) {
-                    EjectTransitRequest ejectMap = InventoryUtils.getEjectItemMap(new EjectTransitRequest(tile, outputs.iterator().next()), inventorySlotInfo.getSlots());
-                    if (!ejectMap.isEmpty()) {
-                        for (Direction side : outputs) {
-                            BlockEntity target = WorldUtils.getTileEntity(tile.getLevel(), tile.getBlockPos().relative(side));
-                            if (target != null) {
-                                //Update the side so that if/when the response uses it, it makes sure it is grabbing from the correct side
-                                ejectMap.side = side;
-                                //If the spot is not loaded just skip trying to eject to it
-                                TransitResponse response;
-                                if (target instanceof TileEntityLogisticalTransporterBase transporter) {
-                                    response = transporter.getTransmitter().insert(tile, ejectMap, outputColor, true, 0);
-                                } else {
-                                    response = ejectMap.addToInventory(target, side, 0, false);
-                                }
-                                if (!response.isEmpty()) {
-                                    // use the items returned by the TransitResponse; will be visible next loop
-                                    response.useAll();
-                                    if (ejectMap.isEmpty()) {
-                                        //If we are out of items to eject, break
-                                        break;
-                                    }
+        for (EjectOutput output : getOutputs(TransmissionType.ITEM, info)) {
+            if (output.container() instanceof InventorySlotInfo inventorySlotInfo) {
+                Set<Direction> outputs = output.sides();
+                EjectTransitRequest ejectMap = InventoryUtils.getEjectItemMap(new EjectTransitRequest(tile, outputs.iterator().next()), inventorySlotInfo.getSlots());
+                if (!ejectMap.isEmpty()) {
+                    for (Direction side : outputs) {
+                        BlockEntity target = getAdjacentTile(side);
+                        if (target != null) {
+                            //Update the side so that if/when the response uses it, it makes sure it is grabbing from the correct side
+                            ejectMap.side = side;
+                            //If the spot is not loaded just skip trying to eject to it
+                            TransitResponse response;
+                            if (target instanceof TileEntityLogisticalTransporterBase transporter) {
+                                response = transporter.getTransmitter().insert(tile, ejectMap, outputColor, true, 0);
+                            } else {
+                                response = ejectMap.addToInventory(target, side, 0, false);
+                            }
+                            if (!response.isEmpty()) {
+                                // use the items returned by the TransitResponse; will be visible next loop
+                                response.useAll();
+                                if (ejectMap.isEmpty()) {
+                                    //If we are out of items to eject, break
+                                    break;
                                 }
                             }
                         }
@@ -392,6 +465,9 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
     }
     //End computer related methods
 
+    private record EjectOutput(Object container, Set<Direction> sides) {
+    }
+
     private static class EjectTransitRequest extends TileTransitRequest {
 
         public Direction side;
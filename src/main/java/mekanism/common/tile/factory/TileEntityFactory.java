@@ -14,6 +14,7 @@ import java.util.function.BooleanSupplier;
 import java.util.function.IntSupplier;
 import mekanism.api.Action;
 import mekanism.api.IContentsListener;
+import mekanism.api.MekanismAPI;
 import mekanism.api.NBTConstants;
 import mekanism.api.RelativeSide;
 import mekanism.api.Upgrade;
@@ -46,6 +47,7 @@ import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.lib.transmitter.TransmissionType;
 import mekanism.common.recipe.lookup.IRecipeLookupHandler;
 import mekanism.common.recipe.lookup.monitor.FactoryRecipeCacheLookupMonitor;
+import mekanism.common.recipe.lookup.monitor.RecipeSleepMetrics;
 import mekanism.common.registries.MekanismTileEntityTypes;
 import mekanism.common.tier.FactoryTier;
 import mekanism.common.tile.component.ITileComponent;
@@ -68,6 +70,7 @@ import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.IntArrayTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.network.chat.Component;
+import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
@@ -258,6 +261,41 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
         setActive(isActive);
         //If none of the recipes are actively processing don't bother with any subtraction
         lastUsage = isActive ? prev.minusEqual(energyContainer.getEnergy()) : FloatingLong.ZERO;
+        if (MekanismAPI.debug) {
+            RecipeSleepMetrics.track(level.dimension(), Arrays.stream(recipeCacheLookupMonitors).allMatch(FactoryRecipeCacheLookupMonitor::isSleeping));
+        }
+    }
+
+    @Override
+    protected void setChanged(boolean updateComparator) {
+        super.setChanged(updateComparator);
+        //Contents, upgrades, and configuration changes all mark the tile as changed, any of which may allow a blocked recipe to run again
+        for (FactoryRecipeCacheLookupMonitor<RECIPE> cacheLookupMonitor : recipeCacheLookupMonitors) {
+            cacheLookupMonitor.wakeUp();
+        }
+    }
+
+    @Override
+    public void onPowerChange() {
+        super.onPowerChange();
+        for (FactoryRecipeCacheLookupMonitor<RECIPE> cacheLookupMonitor : recipeCacheLookupMonitors) {
+            cacheLookupMonitor.wakeUp();
+        }
+    }
+
+    @Override
+    public void open(Player player) {
+        super.open(player);
+        //Wake up so that the errors get rechecked while the player is viewing them
+        for (FactoryRecipeCacheLookupMonitor<RECIPE> cacheLookupMonitor : recipeCacheLookupMonitors) {
+            cacheLookupMonitor.wakeUp();
+        }
+    }
+
+    @Override
+    public boolean canRecipeSleep(int cacheIndex) {
+        //Don't sleep while players are viewing the factory so that the displayed errors stay up to date
+        return playersUsing.isEmpty();
     }
 
     /**
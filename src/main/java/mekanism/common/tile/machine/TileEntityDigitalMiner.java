@@ -679,7 +679,6 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
 
     public void stop() {
         if (searcher.state == State.SEARCHING) {
-            searcher.interrupt();
             reset();
         } else if (searcher.state == State.FINISHED) {
             running = false;
@@ -691,7 +690,8 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
     }
 
     public void reset() {
-        //TODO: Should the old searcher thread be terminated somehow?
+        //Stop any search that is still running, as we don't care about its results anymore
+        searcher.cancel();
         searcher = new ThreadMinerSearch(this);
         running = false;
         cachedToMine = 0;
@@ -1044,7 +1044,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
 
     @ComputerMethod
     public int getToMine() {
-        return !isRemote() && searcher.state == State.SEARCHING ? searcher.found : cachedToMine;
+        return !isRemote() && searcher.state == State.SEARCHING ? searcher.getFound() : cachedToMine;
     }
 
     @ComputerMethod
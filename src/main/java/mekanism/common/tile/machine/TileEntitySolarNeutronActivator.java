@@ -170,6 +170,12 @@ public class TileEntitySolarNeutronActivator extends TileEntityRecipeMachine<Gas
         return WorldUtils.canSeeSun(level, worldPosition.above());
     }
 
+    @Override
+    public boolean canRecipeSleep(int cacheIndex) {
+        //The production rate depends on the weather and time of day, which don't mark the tile as changed
+        return false;
+    }
+
     private boolean canFunction() {
         // Sort out if the solar neutron activator can see the sun; we no longer check if it's raining here,
         // since under the new rules, we can still function when it's raining, albeit at a significant penalty.
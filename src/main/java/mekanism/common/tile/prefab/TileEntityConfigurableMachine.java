@@ -10,6 +10,7 @@ import mekanism.common.tile.interfaces.ISideConfiguration;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
 
 public abstract class TileEntityConfigurableMachine extends TileEntityMekanism implements ISideConfiguration {
@@ -47,6 +48,14 @@ public abstract class TileEntityConfigurableMachine extends TileEntityMekanism i
         getEjector().read(data);
     }
 
+    @Override
+    public void onNeighborChange(Block block, BlockPos neighborPos) {
+        super.onNeighborChange(block, neighborPos);
+        if (!isRemote() && ejectorComponent != null) {
+            ejectorComponent.onNeighborChange(neighborPos);
+        }
+    }
+
     @Override
     protected void onUpdateServer() {
         super.onUpdateServer();
@@ -6,6 +6,7 @@ import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.BooleanSupplier;
 import mekanism.api.IContentsListener;
+import mekanism.api.MekanismAPI;
 import mekanism.api.chemical.gas.Gas;
 import mekanism.api.chemical.gas.GasStack;
 import mekanism.api.chemical.gas.IGasTank;
@@ -30,8 +31,10 @@ import mekanism.common.capabilities.holder.slot.IInventorySlotHolder;
 import mekanism.common.inventory.container.MekanismContainer;
 import mekanism.common.recipe.lookup.IRecipeLookupHandler;
 import mekanism.common.recipe.lookup.monitor.RecipeCacheLookupMonitor;
+import mekanism.common.recipe.lookup.monitor.RecipeSleepMetrics;
 import mekanism.common.tile.base.TileEntityMekanism;
 import net.minecraft.core.BlockPos;
+import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.block.state.BlockState;
 import org.jetbrains.annotations.Nullable;
 
@@ -83,6 +86,40 @@ public abstract class TileEntityRecipeMachine<RECIPE extends MekanismRecipe> ext
         return recipeCacheLookupMonitor;
     }
 
+    @Override
+    protected void onUpdateServer() {
+        super.onUpdateServer();
+        if (MekanismAPI.debug) {
+            RecipeSleepMetrics.track(level.dimension(), recipeCacheLookupMonitor.isSleeping());
+        }
+    }
+
+    @Override
+    protected void setChanged(boolean updateComparator) {
+        super.setChanged(updateComparator);
+        //Contents, upgrades, and configuration changes all mark the tile as changed, any of which may allow a blocked recipe to run again
+        recipeCacheLookupMonitor.wakeUp();
+    }
+
+    @Override
+    public void onPowerChange() {
+        super.onPowerChange();
+        recipeCacheLookupMonitor.wakeUp();
+    }
+
+    @Override
+    public void open(Player player) {
+        super.open(player);
+        //Wake up so that the errors get rechecked while the player is viewing them
+        recipeCacheLookupMonitor.wakeUp();
+    }
+
+    @Override
+    public boolean canRecipeSleep(int cacheIndex) {
+        //Don't sleep while players are viewing the machine so that the displayed errors stay up to date
+        return playersUsing.isEmpty();
+    }
+
     @Override
     public void addContainerTrackers(MekanismContainer container) {
         super.addContainerTrackers(container);
@@ -11,14 +11,18 @@ import mekanism.common.Mekanism;
 import mekanism.common.capabilities.holder.slot.IInventorySlotHolder;
 import mekanism.common.capabilities.holder.slot.InventorySlotHelper;
 import mekanism.common.content.qio.IQIODriveHolder;
+import mekanism.common.content.qio.IQIODriveItem;
 import mekanism.common.content.qio.QIODriveData;
 import mekanism.common.content.qio.QIOFrequency;
 import mekanism.common.integration.computer.ComputerException;
 import mekanism.common.integration.computer.annotation.ComputerMethod;
 import mekanism.common.inventory.slot.QIODriveSlot;
 import mekanism.common.registries.MekanismBlocks;
+import mekanism.common.util.ItemDataUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.state.BlockState;
@@ -91,6 +95,38 @@ public class TileEntityQIODriveArray extends TileEntityQIOComponent implements I
         driveStatus[slot] = status.status();
     }
 
+    /**
+     * Copies the contents of any drives in a dropped drive array from the {@link mekanism.common.content.qio.QIODriveStorage} onto the drives, as the storage of the
+     * drives gets freed when the drive array they were copied from is removed.
+     */
+    public static void copyDroppedDrives(ItemStack drop) {
+        ListTag items = ItemDataUtils.getList(drop, NBTConstants.ITEMS);
+        boolean changed = false;
+        for (int i = 0; i < items.size(); i++) {
+            CompoundTag slotTag = items.getCompound(i);
+            if (slotTag.contains(NBTConstants.ITEM, Tag.TAG_COMPOUND)) {
+                ItemStack stack = ItemStack.of(slotTag.getCompound(NBTConstants.ITEM));
+                if (stack.getItem() instanceof IQIODriveItem driveItem && driveItem.copyFromStorage(stack) != null) {
+                    slotTag.put(NBTConstants.ITEM, stack.serializeNBT());
+                    changed = true;
+                }
+            }
+        }
+        if (changed) {
+            ItemDataUtils.setListOrRemove(drop, NBTConstants.ITEMS, items);
+        }
+    }
+
+    @Override
+    public void blockRemoved() {
+        super.blockRemoved();
+        //Move the contents of the drives back onto the stacks and free their storage. If the drops were already calculated before the block got removed, such as
+        // when it is blown up, the drives in the drops already had their contents copied over by copyDroppedDrives
+        for (IInventorySlot driveSlot : driveSlots) {
+            ((QIODriveSlot) driveSlot).onHolderRemoved();
+        }
+    }
+
     @Override
     public void saveAdditional(@NotNull CompoundTag nbtTags) {
         QIOFrequency freq = getQIOFrequency();
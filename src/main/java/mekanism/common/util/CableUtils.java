@@ -2,6 +2,7 @@ package mekanism.common.util;
 
 import java.util.EnumSet;
 import java.util.Set;
+import java.util.function.Function;
 import mekanism.api.Action;
 import mekanism.api.AutomationType;
 import mekanism.api.energy.IEnergyContainer;
@@ -25,8 +26,13 @@ public final class CableUtils {
     }
 
     public static void emit(Set<Direction> outputSides, IEnergyContainer energyContainer, BlockEntity from, FloatingLong maxOutput) {
+        emit(outputSides, energyContainer, EmitUtils.adjacentTiles(from), maxOutput);
+    }
+
+    public static void emit(Set<Direction> outputSides, IEnergyContainer energyContainer, Function<Direction, BlockEntity> adjacentTiles, FloatingLong maxOutput) {
         if (!energyContainer.isEmpty() && !maxOutput.isZero()) {
-            energyContainer.extract(emit(outputSides, energyContainer.extract(maxOutput, Action.SIMULATE, AutomationType.INTERNAL), from), Action.EXECUTE, AutomationType.INTERNAL);
+            energyContainer.extract(emit(outputSides, energyContainer.extract(maxOutput, Action.SIMULATE, AutomationType.INTERNAL), adjacentTiles), Action.EXECUTE,
+                  AutomationType.INTERNAL);
         }
     }
 
@@ -40,11 +46,24 @@ public final class CableUtils {
      * @return the amount of energy emitted
      */
     public static FloatingLong emit(Set<Direction> sides, FloatingLong energyToSend, BlockEntity from) {
+        return emit(sides, energyToSend, EmitUtils.adjacentTiles(from));
+    }
+
+    /**
+     * Emits energy by splitting the received stack among the tiles on the sides given.
+     *
+     * @param sides         - the list of sides to output from
+     * @param energyToSend  - the energy to output
+     * @param adjacentTiles - function to get the tile on each side
+     *
+     * @return the amount of energy emitted
+     */
+    public static FloatingLong emit(Set<Direction> sides, FloatingLong energyToSend, Function<Direction, BlockEntity> adjacentTiles) {
         if (energyToSend.isZero() || sides.isEmpty()) {
             return FloatingLong.ZERO;
         }
         EnergyAcceptorTarget target = new EnergyAcceptorTarget(6);
-        EmitUtils.forEachSide(from.getLevel(), from.getBlockPos(), sides, (acceptor, side) -> {
+        EmitUtils.forEachSide(adjacentTiles, sides, (acceptor, side) -> {
             //Insert to access side and collect the cap if it is present
             EnergyCompatUtils.getLazyStrictEnergyHandler(acceptor, side.getOpposite()).ifPresent(target::addHandler);
         });
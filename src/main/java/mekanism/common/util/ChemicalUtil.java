@@ -5,6 +5,7 @@ import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import mekanism.api.Action;
 import mekanism.api.AutomationType;
@@ -291,8 +292,12 @@ public class ChemicalUtil {
     }
 
     public static void emit(Set<Direction> outputSides, IChemicalTank<?, ?> tank, BlockEntity from, long maxOutput) {
+        emit(outputSides, tank, EmitUtils.adjacentTiles(from), maxOutput);
+    }
+
+    public static void emit(Set<Direction> outputSides, IChemicalTank<?, ?> tank, Function<Direction, BlockEntity> adjacentTiles, long maxOutput) {
         if (!tank.isEmpty() && maxOutput > 0) {
-            tank.extract(emit(outputSides, tank.extract(maxOutput, Action.SIMULATE, AutomationType.INTERNAL), from), Action.EXECUTE, AutomationType.INTERNAL);
+            tank.extract(emit(outputSides, tank.extract(maxOutput, Action.SIMULATE, AutomationType.INTERNAL), adjacentTiles), Action.EXECUTE, AutomationType.INTERNAL);
         }
     }
 
@@ -306,12 +311,26 @@ public class ChemicalUtil {
      * @return the amount of chemical emitted
      */
     public static <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>> long emit(Set<Direction> sides, @NotNull STACK stack, BlockEntity from) {
+        return emit(sides, stack, EmitUtils.adjacentTiles(from));
+    }
+
+    /**
+     * Emits chemical by splitting the received stack among the tiles on the sides given.
+     *
+     * @param sides         - the list of sides to output from
+     * @param stack         - the stack to output
+     * @param adjacentTiles - function to get the tile on each side
+     *
+     * @return the amount of chemical emitted
+     */
+    public static <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>> long emit(Set<Direction> sides, @NotNull STACK stack,
+          Function<Direction, BlockEntity> adjacentTiles) {
         if (stack.isEmpty() || sides.isEmpty()) {
             return 0;
         }
         Capability<IChemicalHandler<CHEMICAL, STACK>> capability = getCapabilityForChemical(stack);
         ChemicalHandlerTarget<CHEMICAL, STACK, IChemicalHandler<CHEMICAL, STACK>> target = new ChemicalHandlerTarget<>(stack, 6);
-        EmitUtils.forEachSide(from.getLevel(), from.getBlockPos(), sides, (acceptor, side) -> {
+        EmitUtils.forEachSide(adjacentTiles, sides, (acceptor, side) -> {
             //Insert to access side and collect the cap if it is present, and we can insert the type of the stack into it
             CapabilityUtils.getCapability(acceptor, capability, side.getOpposite()).ifPresent(handler -> {
                 if (canInsert(handler, stack)) {
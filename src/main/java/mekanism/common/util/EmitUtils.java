@@ -1,6 +1,7 @@
 package mekanism.common.util;
 
 import java.util.function.BiConsumer;
+import java.util.function.Function;
 import mekanism.api.math.FloatingLong;
 import mekanism.common.lib.distribution.FloatingLongSplitInfo;
 import mekanism.common.lib.distribution.IntegerSplitInfo;
@@ -110,4 +111,30 @@ public class EmitUtils {
             }
         }
     }
+
+    /**
+     * Simple helper to loop over each side of the block and complete an action for each tile found, looking up the tiles with the given function so that callers can
+     * provide cached adjacent tiles.
+     *
+     * @param adjacentTiles - function to get the tile on a given side, or null if there is none
+     * @param sides         - sides to search
+     * @param action        - action to complete
+     */
+    public static void forEachSide(Function<Direction, BlockEntity> adjacentTiles, Iterable<Direction> sides, BiConsumer<BlockEntity, Direction> action) {
+        for (Direction side : sides) {
+            BlockEntity tile = adjacentTiles.apply(side);
+            if (tile != null) {
+                action.accept(tile, side);
+            }
+        }
+    }
+
+    /**
+     * @return A function that looks up the loaded tiles adjacent to the given tile.
+     */
+    public static Function<Direction, BlockEntity> adjacentTiles(BlockEntity from) {
+        Level world = from.getLevel();
+        BlockPos center = from.getBlockPos();
+        return side -> WorldUtils.getTileEntity(world, center.relative(side));
+    }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import java.util.EnumSet;
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.Set;
+import java.util.function.Function;
 import mekanism.api.Action;
 import mekanism.api.AutomationType;
 import mekanism.api.NBTConstants;
@@ -77,8 +78,12 @@ public final class FluidUtils {
     }
 
     public static void emit(Set<Direction> outputSides, IExtendedFluidTank tank, BlockEntity from, int maxOutput) {
+        emit(outputSides, tank, EmitUtils.adjacentTiles(from), maxOutput);
+    }
+
+    public static void emit(Set<Direction> outputSides, IExtendedFluidTank tank, Function<Direction, BlockEntity> adjacentTiles, int maxOutput) {
         if (!tank.isEmpty() && maxOutput > 0) {
-            tank.extract(emit(outputSides, tank.extract(maxOutput, Action.SIMULATE, AutomationType.INTERNAL), from), Action.EXECUTE, AutomationType.INTERNAL);
+            tank.extract(emit(outputSides, tank.extract(maxOutput, Action.SIMULATE, AutomationType.INTERNAL), adjacentTiles), Action.EXECUTE, AutomationType.INTERNAL);
         }
     }
 
@@ -92,12 +97,25 @@ public final class FluidUtils {
      * @return the amount of fluid emitted
      */
     public static int emit(Set<Direction> sides, @NotNull FluidStack stack, BlockEntity from) {
+        return emit(sides, stack, EmitUtils.adjacentTiles(from));
+    }
+
+    /**
+     * Emits fluid by splitting the received stack among the tiles on the sides given.
+     *
+     * @param sides         - the list of sides to output from
+     * @param stack         - the stack to output
+     * @param adjacentTiles - function to get the tile on each side
+     *
+     * @return the amount of fluid emitted
+     */
+    public static int emit(Set<Direction> sides, @NotNull FluidStack stack, Function<Direction, BlockEntity> adjacentTiles) {
         if (stack.isEmpty() || sides.isEmpty()) {
             return 0;
         }
         FluidStack toSend = stack.copy();
         FluidHandlerTarget target = new FluidHandlerTarget(stack, 6);
-        EmitUtils.forEachSide(from.getLevel(), from.getBlockPos(), sides, (acceptor, side) -> {
+        EmitUtils.forEachSide(adjacentTiles, sides, (acceptor, side) -> {
             //Insert to access side and collect the cap if it is present, and we can insert the type of the stack into it
             CapabilityUtils.getCapability(acceptor, ForgeCapabilities.FLUID_HANDLER, side.getOpposite()).ifPresent(handler -> {
                 if (canFill(handler, toSend)) {
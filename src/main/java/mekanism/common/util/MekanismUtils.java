@@ -18,6 +18,7 @@ import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import mekanism.api.Action;
 import mekanism.api.AutomationType;
+import mekanism.api.MekanismAPI;
 import mekanism.api.NBTConstants;
 import mekanism.api.Upgrade;
 import mekanism.api.chemical.IChemicalTank;
@@ -59,6 +60,7 @@ import net.minecraft.nbt.Tag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.protocol.game.ClientboundUpdateMobEffectPacket;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.stats.Stats;
@@ -113,8 +115,23 @@ public final class MekanismUtils {
 
     public static final float ONE_OVER_ROOT_TWO = (float) (1 / Math.sqrt(2));
 
+    private static final int DEBUG_METRICS_FREQUENCY = 20 * 60;//Every minute
     private static final List<UUID> warnedFails = new ArrayList<>();
 
+    /**
+     * @return {@code true} if debug mode is enabled and periodic metrics about the given level should be logged this tick.
+     */
+    public static boolean shouldLogDebugMetrics(Level level) {
+        return MekanismAPI.debug && level.getGameTime() % DEBUG_METRICS_FREQUENCY == 0;
+    }
+
+    /**
+     * @return {@code true} if debug mode is enabled and periodic metrics that aren't tied to a specific level should be logged this tick.
+     */
+    public static boolean shouldLogDebugMetrics(MinecraftServer server) {
+        return MekanismAPI.debug && server.getTickCount() % DEBUG_METRICS_FREQUENCY == 0;
+    }
+
     //TODO: Evaluate adding an extra optional param to shrink and grow stack that allows for logging if it is mismatched. Defaults to false
     // Deciding on how to implement it into the API will need more thought as we want to keep overriding implementations as simple as
     // possible, and also ideally would use our normal logger instead of the API logger
@@ -145,4 +145,69 @@ class FloatingLongPropertyTest implements WithQuickTheories {
               longs().all()
         ).check((a, b) -> a.subtract(b).equals(subtractViaBigDecimal(a, FloatingLong.create(b))));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Test accumulator addition matches FloatingLong")
+    void testAccumulatorAddition() {
+        floatingLongPairTheory().check((a, b) -> new FloatingLongAccumulator(a).plusEqual(b).valueEquals(a.add(b)));
+    }
+
+    @Test
+    @DisplayName("Test accumulator subtraction matches FloatingLong")
+    void testAccumulatorSubtraction() {
+        floatingLongPairTheory().check((a, b) -> new FloatingLongAccumulator(a).minusEqual(b).valueEquals(a.subtract(b)));
+    }
+
+    @Test
+    @DisplayName("Test accumulator multiplication matches FloatingLong")
+    void testAccumulatorMultiplication() {
+        floatingLongPairTheory().check((a, b) -> new FloatingLongAccumulator(a).timesEqual(b).valueEquals(a.multiply(b)));
+    }
+
+    @Test
+    @DisplayName("Test accumulator division matches FloatingLong")
+    void testAccumulatorDivision() {
+        floatingLongPairTheory().check((a, b) -> b.isZero() || new FloatingLongAccumulator(a).divideEquals(b).valueEquals(a.divide(b)));
+    }
+
+    @Test
+    @DisplayName("Test accumulator operations with longs match FloatingLong")
+    void testAccumulatorLongOperations() {
+        qt().forAll(
+              allFloatingLongs(),
+              longs().all()
+        ).check((a, b) -> new FloatingLongAccumulator(a).plusEqual(b).valueEquals(a.add(b)) &&
+                          new FloatingLongAccumulator(a).minusEqual(b).valueEquals(a.subtract(b)) &&
+                          new FloatingLongAccumulator(a).timesEqual(b).valueEquals(a.multiply(b)) &&
+                          (b == 0 || new FloatingLongAccumulator(a).divideEquals(b).valueEquals(a.divide(b))));
+    }
+
+    @Test
+    @DisplayName("Test fused accumulator operations match chained FloatingLong operations")
+    void testAccumulatorFusedOperations() {
+        qt().forAll(
+              allFloatingLongs(),
+              allFloatingLongs(),
+              allFloatingLongs(),
+              longs().all()
+        ).check((a, b, c, d) -> {
+            FloatingLongAccumulator accumulator = new FloatingLongAccumulator(a).addProduct(b, c);
+            FloatingLong expected = a.add(b.multiply(c));
+            if (!accumulator.valueEquals(expected)) {
+                return false;
+            }
+            accumulator.subtractProduct(c, b);
+            expected = expected.subtract(c.multiply(b));
+            if (!accumulator.valueEquals(expected)) {
+                return false;
+            }
+            accumulator.addProduct(a, d);
+            expected = expected.add(a.multiply(d));
+            if (d != 0) {
+                accumulator.addQuotient(b, d);
+                expected = expected.add(b.divide(d));
+            }
+            return accumulator.valueEquals(expected) && accumulator.toFloatingLong().equals(expected);
+        });
+    }
+}
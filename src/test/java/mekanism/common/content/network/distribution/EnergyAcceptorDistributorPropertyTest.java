@@ -0,0 +1,122 @@
+package mekanism.common.content.network.distribution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import mekanism.api.Action;
+import mekanism.api.energy.IStrictEnergyHandler;
+import mekanism.api.math.FloatingLong;
+import mekanism.common.util.EmitUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.quicktheories.QuickTheory;
+import org.quicktheories.WithQuickTheories;
+import org.quicktheories.core.Gen;
+import org.quicktheories.impl.Constraint;
+
+@DisplayName("Property based testing that EnergyAcceptorDistributor splits the same way as EmitUtils")
+class EnergyAcceptorDistributorPropertyTest implements WithQuickTheories {
+
+    /**
+     * Generator for floating longs that are small enough that a network could reasonably end up splitting them.
+     */
+    private Gen<FloatingLong> floatingLongs(long maxValue) {
+        Constraint valueConstraint = Constraint.between(0, maxValue).withShrinkPoint(0);
+        Constraint decimalConstraint = Constraint.between(0, 9_999).withShrinkPoint(0);
+        return prng -> FloatingLong.createConst(prng.next(valueConstraint), (short) prng.next(decimalConstraint));
+    }
+
+    @Override
+    public QuickTheory qt() {
+        //Force our example count to be higher than the default by 10x
+        return WithQuickTheories.super.qt().withExamples(10_000);
+    }
+
+    /**
+     * Creates a random set of acceptors using the given seed. Some acceptors are added more than once to mimic a multiblock that is connected on multiple sides.
+     */
+    private static List<TestEnergyHandler> createAcceptors(long seed, long maxCapacity) {
+        Random random = new Random(seed);
+        int count = random.nextInt(64);
+        List<TestEnergyHandler> acceptors = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (!acceptors.isEmpty() && random.nextInt(8) == 0) {
+                acceptors.add(acceptors.get(random.nextInt(acceptors.size())));
+            } else {
+                FloatingLong capacity;
+                int type = random.nextInt(4);
+                if (type == 0) {
+                    capacity = FloatingLong.ZERO;
+                } else if (type == 1) {
+                    capacity = FloatingLong.MAX_VALUE;
+                } else {
+                    capacity = FloatingLong.createConst((random.nextLong() >>> 1) % maxCapacity, (short) random.nextInt(10_000));
+                }
+                acceptors.add(new TestEnergyHandler(capacity, random.nextBoolean()));
+            }
+        }
+        return acceptors;
+    }
+
+    /**
+     * Creates a copy of the given acceptors that maintains which entries are the same handler.
+     */
+    private static List<TestEnergyHandler> copyAcceptors(List<TestEnergyHandler> acceptors) {
+        List<TestEnergyHandler> copies = new ArrayList<>(acceptors.size());
+        for (int i = 0; i < acceptors.size(); i++) {
+            TestEnergyHandler acceptor = acceptors.get(i);
+            int firstIndex = acceptors.indexOf(acceptor);
+            copies.add(firstIndex < i ? copies.get(firstIndex) : acceptor.copy());
+        }
+        return copies;
+    }
+
+    private static FloatingLong sendViaTarget(List<? extends IStrictEnergyHandler> acceptors, FloatingLong toSend) {
+        EnergyAcceptorTarget target = new EnergyAcceptorTarget(acceptors.size());
+        for (IStrictEnergyHandler acceptor : acceptors) {
+            if (acceptor.insertEnergy(toSend, Action.SIMULATE).smallerThan(toSend)) {
+                target.addHandler(acceptor);
+            }
+        }
+        return EmitUtils.sendToAcceptors(target, toSend.copy());
+    }
+
+    private static FloatingLong sendViaDistributor(EnergyAcceptorDistributor distributor, List<? extends IStrictEnergyHandler> acceptors, FloatingLong toSend) {
+        distributor.prepare(toSend);
+        for (IStrictEnergyHandler acceptor : acceptors) {
+            if (acceptor.insertEnergy(toSend, Action.SIMULATE).smallerThan(toSend)) {
+                distributor.addHandler(acceptor);
+            }
+        }
+        return distributor.distribute();
+    }
+
+    private boolean splitsMatch(EnergyAcceptorDistributor distributor, long seed, long maxCapacity, FloatingLong toSend) {
+        List<TestEnergyHandler> expectedAcceptors = createAcceptors(seed, maxCapacity);
+        List<TestEnergyHandler> actualAcceptors = copyAcceptors(expectedAcceptors);
+        if (!sendViaTarget(expectedAcceptors, toSend).equals(sendViaDistributor(distributor, actualAcceptors, toSend))) {
+            return false;
+        }
+        for (int i = 0; i < expectedAcceptors.size(); i++) {
+            if (!expectedAcceptors.get(i).getStored().equals(actualAcceptors.get(i).getStored())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Test
+    @DisplayName("Test distribution matches for small capacities")
+    void testSmallCapacities() {
+        //Reuse the same distributor to ensure no state leaks between distributions
+        EnergyAcceptorDistributor distributor = new EnergyAcceptorDistributor();
+        qt().forAll(longs().all(), floatingLongs(100_000)).check((seed, toSend) -> splitsMatch(distributor, seed, 1_000, toSend));
+    }
+
+    @Test
+    @DisplayName("Test distribution matches for large capacities")
+    void testLargeCapacities() {
+        EnergyAcceptorDistributor distributor = new EnergyAcceptorDistributor();
+        qt().forAll(longs().all(), floatingLongs(Long.MAX_VALUE)).check((seed, toSend) -> splitsMatch(distributor, seed, Long.MAX_VALUE, toSend));
+    }
+}
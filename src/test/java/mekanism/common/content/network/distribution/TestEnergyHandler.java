@@ -0,0 +1,78 @@
+package mekanism.common.content.network.distribution;
+
+import mekanism.api.Action;
+import mekanism.api.energy.IStrictEnergyHandler;
+import mekanism.api.math.FloatingLong;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Simple single container energy handler that can be configured to only accept part of what it is offered.
+ */
+public class TestEnergyHandler implements IStrictEnergyHandler {
+
+    private final FloatingLong capacity;
+    private final boolean partial;
+    private FloatingLong stored = FloatingLong.ZERO;
+
+    public TestEnergyHandler(FloatingLong capacity, boolean partial) {
+        this.capacity = capacity;
+        this.partial = partial;
+    }
+
+    public TestEnergyHandler copy() {
+        return new TestEnergyHandler(capacity, partial);
+    }
+
+    public FloatingLong getStored() {
+        return stored;
+    }
+
+    @Override
+    public int getEnergyContainerCount() {
+        return 1;
+    }
+
+    @NotNull
+    @Override
+    public FloatingLong getEnergy(int container) {
+        return stored;
+    }
+
+    @Override
+    public void setEnergy(int container, @NotNull FloatingLong energy) {
+        stored = energy.copy();
+    }
+
+    @NotNull
+    @Override
+    public FloatingLong getMaxEnergy(int container) {
+        return capacity;
+    }
+
+    @NotNull
+    @Override
+    public FloatingLong getNeededEnergy(int container) {
+        return capacity.subtract(stored);
+    }
+
+    @NotNull
+    @Override
+    public FloatingLong insertEnergy(int container, @NotNull FloatingLong amount, @NotNull Action action) {
+        FloatingLong offered = partial ? amount.divide(2) : amount;
+        FloatingLong toAccept = offered.min(getNeededEnergy(container));
+        if (action.execute()) {
+            stored = stored.add(toAccept);
+        }
+        return amount.subtract(toAccept);
+    }
+
+    @NotNull
+    @Override
+    public FloatingLong extractEnergy(int container, @NotNull FloatingLong amount, @NotNull Action action) {
+        FloatingLong toExtract = amount.min(stored);
+        if (action.execute()) {
+            stored = stored.subtract(toExtract);
+        }
+        return toExtract;
+    }
+}
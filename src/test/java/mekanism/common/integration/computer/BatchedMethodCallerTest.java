@@ -0,0 +1,134 @@
+package mekanism.common.integration.computer;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import mekanism.common.integration.computer.BatchedMethodCaller.BatchedCall;
+import mekanism.common.integration.computer.BoundComputerMethod.ThreadAwareMethodHandle;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test Batched Method Caller")
+class BatchedMethodCallerTest {
+
+    private static final NoArguments NO_ARGUMENTS = new NoArguments();
+
+    private final Map<String, BoundComputerMethod> boundMethods = new HashMap<>();
+    private final Map<String, Object> values = new HashMap<>();
+    private long gameTime;
+    private BatchedMethodCaller caller;
+
+    @BeforeEach
+    void setup() throws ReflectiveOperationException {
+        MethodHandle getter = MethodHandles.lookup().findVirtual(Map.class, "get", MethodType.methodType(Object.class, Object.class))
+              .bindTo(values);
+        for (String name : List.of("getEnergy", "getTemperature", "getName")) {
+            bind(name, MethodHandles.insertArguments(getter, 0, name));
+        }
+        bind("reset", MethodHandles.empty(MethodType.methodType(void.class)));
+        bind("resetBoxed", MethodHandles.empty(MethodType.methodType(Void.class)));
+        values.put("getEnergy", 100);
+        values.put("getTemperature", 300.0);
+        values.put("getName", "Energy Cube");
+        caller = new BatchedMethodCaller(boundMethods, () -> gameTime);
+    }
+
+    private void bind(String name, MethodHandle methodHandle) {
+        List<ThreadAwareMethodHandle> implementations = new ArrayList<>();
+        implementations.add(new ThreadAwareMethodHandle(methodHandle, List.of(), false));
+        boundMethods.put(name, new BoundComputerMethod(name, implementations));
+    }
+
+    private Map<String, Object> run(BatchedCall call, boolean updateSnapshot) throws ComputerException {
+        return caller.run(NO_ARGUMENTS, call, updateSnapshot, result -> result);
+    }
+
+    @Test
+    @DisplayName("Test duplicate method names are only called once")
+    void testDuplicateNames() throws ComputerException {
+        BatchedCall call = caller.prepare(NO_ARGUMENTS, List.of("getEnergy", "getName", "getEnergy"));
+        Assertions.assertEquals(List.of("getEnergy", "getName"), call.names());
+        Assertions.assertEquals(Map.of("getEnergy", 100, "getName", "Energy Cube"), run(call, false));
+    }
+
+    @Test
+    @DisplayName("Test unknown methods are rejected")
+    void testUnknownMethod() {
+        ComputerException exception = Assertions.assertThrows(ComputerException.class, () -> caller.prepare(NO_ARGUMENTS, List.of("getEnergy", "getPower")));
+        Assertions.assertEquals("Unknown method getPower.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Test methods that don't return a value are rejected")
+    void testVoidMethod() {
+        Assertions.assertThrows(ComputerException.class, () -> caller.prepare(NO_ARGUMENTS, List.of("reset")));
+        Assertions.assertThrows(ComputerException.class, () -> caller.prepare(NO_ARGUMENTS, List.of("resetBoxed")));
+    }
+
+    @Test
+    @DisplayName("Test the snapshot is missed when it doesn't contain all the values")
+    void testSnapshotMissingValue() throws ComputerException {
+        BatchedCall call = caller.prepare(NO_ARGUMENTS, List.of("getEnergy", "getName"));
+        values.remove("getName");
+        //Methods that return null are left out of the results, so they also aren't in the snapshot
+        Assertions.assertEquals(Map.of("getEnergy", 100), run(call, true));
+        Assertions.assertNull(caller.getSnapshot(call));
+        Assertions.assertEquals(Map.of("getEnergy", 100), caller.getSnapshot(caller.prepare(NO_ARGUMENTS, List.of("getEnergy"))));
+    }
+
+    @Test
+    @DisplayName("Test snapshots from the same tick are merged and snapshots from previous ticks are ignored")
+    void testSnapshotMerge() throws ComputerException {
+        BatchedCall energy = caller.prepare(NO_ARGUMENTS, List.of("getEnergy"));
+        BatchedCall temperature = caller.prepare(NO_ARGUMENTS, List.of("getTemperature"));
+        BatchedCall both = caller.prepare(NO_ARGUMENTS, List.of("getEnergy", "getTemperature"));
+        run(energy, true);
+        run(temperature, true);
+        //Change the values so that we can tell they are read from the snapshot
+        values.put("getEnergy", 200);
+        values.put("getTemperature", 400.0);
+        Assertions.assertEquals(Map.of("getEnergy", 100, "getTemperature", 300.0), caller.getSnapshot(both));
+        gameTime++;
+        Assertions.assertNull(caller.getSnapshot(energy));
+        //Values from the previous tick should not be merged into the new snapshot
+        run(temperature, true);
+        Assertions.assertNull(caller.getSnapshot(both));
+        Assertions.assertEquals(Map.of("getTemperature", 400.0), caller.getSnapshot(temperature));
+    }
+
+    private static class NoArguments extends ComputerArgumentHandler<ComputerException, Object> {
+
+        @Override
+        public int getCount() {
+            return 0;
+        }
+
+        @Override
+        public ComputerException error(String messageFormat, Object... args) {
+            return new ComputerException(formatError(messageFormat, args));
+        }
+
+        @Nullable
+        @Override
+        public Object getArgument(int index) {
+            return null;
+        }
+
+        @Override
+        public Object noResult() {
+            return null;
+        }
+
+        @Override
+        public Object wrapResult(Object result) {
+            return result;
+        }
+    }
+}